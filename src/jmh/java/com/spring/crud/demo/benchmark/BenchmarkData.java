@@ -0,0 +1,72 @@
+package com.spring.crud.demo.benchmark;
+
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.model.SuperHero;
+import com.spring.crud.demo.model.emp.Address;
+import com.spring.crud.demo.model.emp.Employee;
+import com.spring.crud.demo.model.emp.PhoneNumber;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entity fixtures shared by the benchmarks, shaped like the records in the test resources.
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    public static Student student(int id) {
+        Student student = new Student(id, "Rahul" + id, "Ghadage", LocalDate.of(2000, 1, 1).plusDays(id % 365), 950f);
+        student.setId(id);
+        return student;
+    }
+
+    public static SuperHero superHero(int id) {
+        SuperHero superHero = new SuperHero("Peter Parker", "Spider Man" + id, "Photographer", 28, false);
+        superHero.setId(id);
+        return superHero;
+    }
+
+    /**
+     * Builds an employee with {@code children} phone numbers and {@code children} hobbies.
+     */
+    public static Employee employee(int id, int children) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setFirstName("Rahul" + id);
+        employee.setLastName("Ghadage");
+        employee.setAge(28);
+        employee.setNoOfChildrens(0);
+        employee.setSpouse(true);
+        employee.setDateOfJoining(LocalDateTime.of(2000, 1, 1, 1, 1, 1).plusMinutes(id));
+
+        Address address = new Address();
+        address.setId(id);
+        address.setStreetAddress("RS road");
+        address.setCity("Pune");
+        address.setState("Maharashtra");
+        address.setCountry("India");
+        address.setPostalCode("411018");
+        address.setEmployee(employee);
+        employee.setAddress(address);
+
+        List<String> hobbies = new ArrayList<>(children);
+        List<PhoneNumber> phoneNumbers = new ArrayList<>(children);
+        for (int i = 0; i < children; i++) {
+            hobbies.add("Hobby" + i);
+            PhoneNumber phoneNumber = new PhoneNumber();
+            phoneNumber.setId(id * 100 + i);
+            phoneNumber.setType(i % 2 == 0 ? "Mobile" : "Home");
+            phoneNumber.setNumber(String.valueOf(1234567890L + i));
+            phoneNumber.setEmployee(employee);
+            phoneNumbers.add(phoneNumber);
+        }
+        employee.setHobbies(hobbies);
+        employee.setPhoneNumbers(phoneNumbers);
+        return employee;
+    }
+}
@@ -0,0 +1,123 @@
+package com.spring.crud.demo.benchmark;
+
+import com.spring.crud.demo.SpringBootH2CRUDApplication;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.model.emp.Employee;
+import com.spring.crud.demo.service.EmployeeService;
+import com.spring.crud.demo.service.StudentService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts {@code rows} students or employees (each with an address and one phone number) through
+ * {@code insertBulkRecords} against the in-memory H2 database. The {@code rows} secondary result is the insert
+ * rate in entities per second; tables are truncated after every invocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+
+    public enum Entity {
+        STUDENT, EMPLOYEE
+    }
+
+    @Param({"STUDENT", "EMPLOYEE"})
+    public Entity entity;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private EmployeeService employeeService;
+    private JdbcTemplate jdbcTemplate;
+    private List<Student> students;
+    private List<Employee> employees;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Rows {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        SpringApplication application = new SpringApplication(SpringBootH2CRUDApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--spring.datasource.url=jdbc:h2:mem:bulk-insert-benchmark",
+                "--spring.jpa.show-sql=false", "--mapper.metrics.enabled=false");
+        studentService = context.getBean(StudentService.class);
+        employeeService = context.getBean(EmployeeService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void createEntities() {
+        if (entity == Entity.STUDENT) {
+            students = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                Student student = BenchmarkData.student(i);
+                student.setId(null);
+                students.add(student);
+            }
+        } else {
+            employees = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                Employee employee = BenchmarkData.employee(i, 1);
+                employee.setId(null);
+                employee.getAddress().setId(null);
+                employee.getPhoneNumbers().forEach(phoneNumber -> phoneNumber.setId(null));
+                employees.add(employee);
+            }
+        }
+    }
+
+    @Benchmark
+    public int insertBulkRecords(Rows counter) {
+        int inserted = entity == Entity.STUDENT
+                ? studentService.insertBulkRecords(students)
+                : employeeService.insertBulkRecords(employees);
+        counter.rows += inserted;
+        return inserted;
+    }
+
+    @TearDown(Level.Invocation)
+    public void truncateTables() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        for (String table : List.of("STUDENT", "PHONE_NUMBER", "ADDRESS", "HOBBIES", "EMPLOYEE")) {
+            jdbcTemplate.execute("TRUNCATE TABLE " + table);
+        }
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        students = null;
+        employees = null;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+}
@@ -0,0 +1,70 @@
+package com.spring.crud.demo.benchmark;
+
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.mapper.BaseMapper;
+import com.spring.crud.demo.model.emp.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeMapperBenchmark {
+
+    @Param({"DOZER", "DOZER_SHARDED", "GENERATED"})
+    public MapperEngine engine;
+
+    /**
+     * Number of phone numbers and of hobbies on the mapped employee.
+     */
+    @Param({"0", "1", "16"})
+    public int children;
+
+    private BaseMapper<Employee, EmployeeDTO> employeeMapper;
+    private Employee employee;
+    private EmployeeDTO employeeDTO;
+
+    @Setup
+    public void setUp() {
+        employeeMapper = engine.employeeMapper();
+        employee = BenchmarkData.employee(1, children);
+        employeeDTO = employeeMapper.convertFromEntityToDto(employee);
+    }
+
+    @Benchmark
+    public EmployeeDTO convertFromEntityToDto() {
+        return employeeMapper.convertFromEntityToDto(employee);
+    }
+
+    @Benchmark
+    public Employee convertFromDtoToEntity() {
+        return employeeMapper.convertFromDtoToEntity(employeeDTO);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public EmployeeDTO convertFromEntityToDtoConcurrent() {
+        return employeeMapper.convertFromEntityToDto(employee);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Employee convertFromDtoToEntityConcurrent() {
+        return employeeMapper.convertFromDtoToEntity(employeeDTO);
+    }
+}
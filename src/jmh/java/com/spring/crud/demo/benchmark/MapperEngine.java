@@ -0,0 +1,81 @@
+package com.spring.crud.demo.benchmark;
+
+import com.spring.crud.demo.dto.StudentDTO;
+import com.spring.crud.demo.dto.SuperHeroDTO;
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.mapper.BaseMapper;
+import com.spring.crud.demo.mapper.EmployeeMapper;
+import com.spring.crud.demo.mapper.ShardedDozerMapper;
+import com.spring.crud.demo.mapper.StudentMapper;
+import com.spring.crud.demo.mapper.SuperHeroMapper;
+import com.spring.crud.demo.mapper.generated.EmployeeDTOGeneratedMapper;
+import com.spring.crud.demo.mapper.generated.StudentDTOGeneratedMapper;
+import com.spring.crud.demo.mapper.generated.SuperHeroDTOGeneratedMapper;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.model.SuperHero;
+import com.spring.crud.demo.model.emp.Employee;
+
+/**
+ * Mapper implementations a benchmark can be parameterised with, built without a Spring context.
+ */
+public enum MapperEngine {
+
+    DOZER {
+        @Override
+        public BaseMapper<Student, StudentDTO> studentMapper() {
+            return new StudentMapper(ShardedDozerMapper.preInitialized());
+        }
+
+        @Override
+        public BaseMapper<SuperHero, SuperHeroDTO> superHeroMapper() {
+            return new SuperHeroMapper(ShardedDozerMapper.preInitialized());
+        }
+
+        @Override
+        public BaseMapper<Employee, EmployeeDTO> employeeMapper() {
+            return new EmployeeMapper(ShardedDozerMapper.preInitialized());
+        }
+    },
+
+    DOZER_SHARDED {
+        @Override
+        public BaseMapper<Student, StudentDTO> studentMapper() {
+            return new StudentMapper(new ShardedDozerMapper(SHARDS));
+        }
+
+        @Override
+        public BaseMapper<SuperHero, SuperHeroDTO> superHeroMapper() {
+            return new SuperHeroMapper(new ShardedDozerMapper(SHARDS));
+        }
+
+        @Override
+        public BaseMapper<Employee, EmployeeDTO> employeeMapper() {
+            return new EmployeeMapper(new ShardedDozerMapper(SHARDS));
+        }
+    },
+
+    GENERATED {
+        @Override
+        public BaseMapper<Student, StudentDTO> studentMapper() {
+            return new StudentDTOGeneratedMapper();
+        }
+
+        @Override
+        public BaseMapper<SuperHero, SuperHeroDTO> superHeroMapper() {
+            return new SuperHeroDTOGeneratedMapper();
+        }
+
+        @Override
+        public BaseMapper<Employee, EmployeeDTO> employeeMapper() {
+            return new EmployeeDTOGeneratedMapper();
+        }
+    };
+
+    private static final int SHARDS = Runtime.getRuntime().availableProcessors();
+
+    public abstract BaseMapper<Student, StudentDTO> studentMapper();
+
+    public abstract BaseMapper<SuperHero, SuperHeroDTO> superHeroMapper();
+
+    public abstract BaseMapper<Employee, EmployeeDTO> employeeMapper();
+}
@@ -0,0 +1,98 @@
+package com.spring.crud.demo.benchmark;
+
+import com.spring.crud.demo.dto.StudentDTO;
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.mapper.BaseMapper;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.model.emp.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Maps a fixed number of records split evenly over {@code threads} workers, so the reported throughput shows how
+ * each engine scales from one thread up to the core count and beyond.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperScalingBenchmark {
+
+    private static final int OPERATIONS = 8192;
+
+    @Param({"DOZER", "DOZER_SHARDED", "GENERATED"})
+    public MapperEngine engine;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    private ExecutorService executor;
+    private BaseMapper<Student, StudentDTO> studentMapper;
+    private BaseMapper<Employee, EmployeeDTO> employeeMapper;
+    private Student student;
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(threads);
+        studentMapper = engine.studentMapper();
+        employeeMapper = engine.employeeMapper();
+        student = BenchmarkData.student(1);
+        employee = BenchmarkData.employee(1, 1);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void studentEntityToDto(Blackhole blackhole) throws Exception {
+        runSplit(i -> blackhole.consume(studentMapper.convertFromEntityToDto(student)));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void employeeEntityToDto(Blackhole blackhole) throws Exception {
+        runSplit(i -> blackhole.consume(employeeMapper.convertFromEntityToDto(employee)));
+    }
+
+    private void runSplit(IntConsumer operation) throws Exception {
+        int perThread = OPERATIONS / threads;
+        List<Future<?>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    operation.accept(i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
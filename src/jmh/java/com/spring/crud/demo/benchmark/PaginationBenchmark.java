@@ -0,0 +1,96 @@
+package com.spring.crud.demo.benchmark;
+
+import com.spring.crud.demo.SpringBootH2CRUDApplication;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.service.StudentService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads one page of {@code limit} students at row {@code depth} of a 1M row table, once with {@code OFFSET} and
+ * once as a keyset page through {@code getRecordsPage}. The offset page slows down with depth, the keyset page
+ * should not.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PaginationBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    public enum Strategy {
+        OFFSET, KEYSET
+    }
+
+    @Param({"OFFSET", "KEYSET"})
+    public Strategy strategy;
+
+    @Param({"0", "10000", "500000", "990000"})
+    public int depth;
+
+    @Param({"100"})
+    public int limit;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private EntityManager entityManager;
+    private Integer after;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        SpringApplication application = new SpringApplication(SpringBootH2CRUDApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--spring.datasource.url=jdbc:h2:mem:pagination-benchmark",
+                "--spring.jpa.show-sql=false", "--mapper.metrics.enabled=false");
+        studentService = context.getBean(StudentService.class);
+        entityManager = context.getBean(EntityManager.class);
+        List<Student> students = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Student student = BenchmarkData.student(i);
+            student.setId(null);
+            students.add(student);
+        }
+        studentService.insertBulkRecords(students);
+        after = depth == 0 ? null : context.getBean(JdbcTemplate.class)
+                .queryForObject("SELECT ID FROM STUDENT ORDER BY ID OFFSET ? ROWS FETCH NEXT 1 ROWS ONLY", Integer.class, depth - 1);
+    }
+
+    @Benchmark
+    public List<Student> readPage() {
+        if (strategy == Strategy.KEYSET) {
+            return studentService.getRecordsPage(after, limit);
+        }
+        return entityManager.createQuery("select s from Student s order by s.id", Student.class)
+                .setFirstResult(depth)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+}
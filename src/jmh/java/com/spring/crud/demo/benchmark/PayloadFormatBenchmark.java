@@ -0,0 +1,116 @@
+package com.spring.crud.demo.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.jakson.TemporalCodecModule;
+import com.spring.crud.demo.model.emp.Employee;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes the {@code /employees} list payload as JSON, Smile and CBOR with mappers configured like the
+ * HTTP message converters. The {@code payloadBytes} secondary result is the encoded size of one list.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadFormatBenchmark {
+
+    public enum Format {
+        JSON {
+            @Override
+            ObjectMapper objectMapper() {
+                return new ObjectMapper().registerModule(new TemporalCodecModule());
+            }
+        },
+        SMILE {
+            @Override
+            ObjectMapper objectMapper() {
+                return SmileMapper.builder().addModule(new TemporalCodecModule()).build();
+            }
+        },
+        CBOR {
+            @Override
+            ObjectMapper objectMapper() {
+                return CBORMapper.builder().addModule(new TemporalCodecModule()).build();
+            }
+        };
+
+        abstract ObjectMapper objectMapper();
+    }
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    public Format format;
+
+    @Param({"100"})
+    public int size;
+
+    /**
+     * Number of phone numbers and of hobbies on each employee.
+     */
+    @Param({"4"})
+    public int children;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<EmployeeDTO> employees;
+    private byte[] payload;
+
+    /**
+     * Reports the size of the last encoded payload; the counter is set rather than accumulated.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class PayloadSize {
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = format.objectMapper();
+        JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, EmployeeDTO.class);
+        writer = objectMapper.writerFor(listType);
+        reader = objectMapper.readerFor(listType);
+        List<Employee> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(BenchmarkData.employee(i, children));
+        }
+        employees = MapperEngine.GENERATED.employeeMapper().convertFromEntitiesToDtos(entities);
+        payload = writer.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize payloadSize) throws IOException {
+        byte[] bytes = writer.writeValueAsBytes(employees);
+        payloadSize.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> decode() throws IOException {
+        return reader.readValue(payload);
+    }
+}
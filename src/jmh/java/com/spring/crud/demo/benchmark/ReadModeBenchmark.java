@@ -0,0 +1,94 @@
+package com.spring.crud.demo.benchmark;
+
+import com.spring.crud.demo.SpringBootH2CRUDApplication;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.repository.StudentRepository;
+import com.spring.crud.demo.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lists all {@code rows} students as entities, the way the keyset pages and {@code getAllRecords} read them:
+ * <ul>
+ *     <li>{@code MANAGED}: in a read-write transaction, with a snapshot per entity and a dirty check at commit</li>
+ *     <li>{@code READ_ONLY}: through {@code getAllRecords} in a read-only transaction, entities are still managed but
+ *     have no snapshot and nothing is flushed</li>
+ *     <li>{@code STATELESS}: through {@code getAllRecords} with {@code read.stateless.enabled}, no persistence context</li>
+ * </ul>
+ * Run with {@code -prof gc} for the bytes allocated per list; the time per list is the CPU spent on it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ReadModeBenchmark {
+
+    public enum ReadMode {
+        MANAGED, READ_ONLY, STATELESS
+    }
+
+    @Param({"MANAGED", "READ_ONLY", "STATELESS"})
+    public ReadMode mode;
+
+    @Param({"100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private StudentRepository studentRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        SpringApplication application = new SpringApplication(SpringBootH2CRUDApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--spring.datasource.url=jdbc:h2:mem:read-mode-benchmark",
+                "--spring.jpa.show-sql=false", "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--mapper.metrics.enabled=false", "--read.stateless.enabled=" + (mode == ReadMode.STATELESS));
+        studentService = context.getBean(StudentService.class);
+        studentRepository = context.getBean(StudentRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        List<Student> students = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Student student = BenchmarkData.student(i);
+            student.setId(null);
+            students.add(student);
+        }
+        studentService.insertBulkRecords(students);
+    }
+
+    @Benchmark
+    public List<Student> listAll() {
+        if (mode == ReadMode.MANAGED) {
+            return transactionTemplate.execute(status -> studentRepository.findAll());
+        }
+        return studentService.getAllRecords();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+}
@@ -0,0 +1,116 @@
+package com.spring.crud.demo.benchmark;
+
+import com.spring.crud.demo.SpringBootH2CRUDApplication;
+import com.spring.crud.demo.dto.StudentDTO;
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.mapper.BaseMapper;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.model.emp.Employee;
+import com.spring.crud.demo.service.EmployeeService;
+import com.spring.crud.demo.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads all {@code rows} students or employees (each with an address and two phone numbers) as DTOs, either by
+ * loading managed entities and mapping them with the configured mapper, as the controllers used to, or through the
+ * column projections of {@code getAllDtos}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ReadPathBenchmark {
+
+    public enum Entity {
+        STUDENT, EMPLOYEE
+    }
+
+    public enum Path {
+        ENTITY_AND_MAPPER, PROJECTION
+    }
+
+    @Param({"STUDENT", "EMPLOYEE"})
+    public Entity entity;
+
+    @Param({"ENTITY_AND_MAPPER", "PROJECTION"})
+    public Path path;
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private EmployeeService employeeService;
+    private BaseMapper<Student, StudentDTO> studentMapper;
+    private BaseMapper<Employee, EmployeeDTO> employeeMapper;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void startContext() {
+        SpringApplication application = new SpringApplication(SpringBootH2CRUDApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--spring.datasource.url=jdbc:h2:mem:read-path-benchmark",
+                "--spring.jpa.show-sql=false", "--mapper.metrics.enabled=false");
+        studentService = context.getBean(StudentService.class);
+        employeeService = context.getBean(EmployeeService.class);
+        studentMapper = context.getBean("studentMapper", BaseMapper.class);
+        employeeMapper = context.getBean("employeeMapper", BaseMapper.class);
+        if (entity == Entity.STUDENT) {
+            List<Student> students = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                Student student = BenchmarkData.student(i);
+                student.setId(null);
+                students.add(student);
+            }
+            studentService.insertBulkRecords(students);
+        } else {
+            List<Employee> employees = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                Employee employee = BenchmarkData.employee(i, 2);
+                employee.setId(null);
+                employee.getAddress().setId(null);
+                employee.getPhoneNumbers().forEach(phoneNumber -> phoneNumber.setId(null));
+                employees.add(employee);
+            }
+            employeeService.insertBulkRecords(employees);
+        }
+    }
+
+    @Benchmark
+    public List<?> readAll() {
+        if (entity == Entity.STUDENT) {
+            return path == Path.PROJECTION
+                    ? studentService.getAllDtos()
+                    : studentMapper.convertFromEntitiesToDtos(studentService.getAllRecords());
+        }
+        return path == Path.PROJECTION
+                ? employeeService.getAllDtos()
+                : employeeMapper.convertFromEntitiesToDtos(employeeService.getAllRecords());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+}
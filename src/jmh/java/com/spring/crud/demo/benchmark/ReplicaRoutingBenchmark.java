@@ -0,0 +1,128 @@
+package com.spring.crud.demo.benchmark;
+
+import com.spring.crud.demo.SpringBootH2CRUDApplication;
+import com.spring.crud.demo.config.ReplicaRoutingDataSource;
+import com.spring.crud.demo.exception.ConflictException;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads students by id on 16 threads while every {@code writeEvery}-th operation reads one and updates it at the
+ * version it read, against a primary pool of 4 connections alone or together with {@code replicas} replica pools of
+ * the same size. The replica pools are opened on the primary's in-memory URL, which makes them replicas without lag;
+ * the result shows how much of the pool wait moves off the primary, and how the sticky window after each write pulls
+ * that thread's reads back onto it. Every benchmark thread is a client of its own, as a request thread is once
+ * {@code ReplicaStickyFilter} binds it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class ReplicaRoutingBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:replica-routing-benchmark";
+
+    @Param({"0", "2"})
+    public int replicas;
+
+    @Param({"0ms", "50ms"})
+    public String stickyWindow;
+
+    @Param({"50"})
+    public int writeEvery;
+
+    @Param({"10000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private int[] ids;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        List<String> args = new ArrayList<>(List.of("--spring.datasource.url=" + URL, "--spring.datasource.dbcp2.max-total=4",
+                "--spring.jpa.show-sql=false", "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--mapper.metrics.enabled=false", "--datasource.replica.sticky-window=" + stickyWindow));
+        if (replicas > 0) {
+            args.add("--datasource.replica.urls=" + String.join(",", Collections.nCopies(replicas, URL)));
+        }
+        SpringApplication application = new SpringApplication(SpringBootH2CRUDApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(args.toArray(String[]::new));
+        studentService = context.getBean(StudentService.class);
+        List<Student> students = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Student student = BenchmarkData.student(i);
+            student.setId(null);
+            students.add(student);
+        }
+        studentService.insertBulkRecords(students);
+        ids = students.stream().mapToInt(Student::getId).toArray();
+    }
+
+    @Benchmark
+    public Object readMostly(Client client) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int id = ids[random.nextInt(ids.length)];
+        if (random.nextInt(writeEvery) == 0) {
+            float marks = random.nextFloat() * 1000;
+            Integer version = studentService.getRecordsById(id).orElseThrow().getVersion();
+            try {
+                return studentService.updateRecord(id, id, version, student -> student.setMarks(marks));
+            } catch (ConflictException | OptimisticLockingFailureException e) {
+                // another thread updated the same student between the read and the write
+                return e;
+            }
+        }
+        return studentService.getDtoById(id);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        private ReplicaRoutingDataSource.Client client;
+
+        @Setup(Level.Trial)
+        public void bind() {
+            client = ReplicaRoutingDataSource.bind(0L, primaryUntil -> {
+            });
+        }
+
+        @TearDown(Level.Trial)
+        public void unbind() {
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.spring.crud.demo.benchmark;
+
+import com.spring.crud.demo.SpringBootH2CRUDApplication;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.repository.StudentRepository;
+import com.spring.crud.demo.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs each {@link StudentRepository} finder for a different key on every call against a 1M row table, with the
+ * STUDENT indexes in place and with them dropped. Every student has its own roll number and names, and marks
+ * cycle through 0 to 999, so a marks range of {@code >= 999} matches 1000 rows. Keys are six digit numbers, so the
+ * first name prefix matches a single student.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StudentFinderBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final List<String> INDEXES = List.of("UX_STUDENT_ROLL_NO", "IX_STUDENT_FIRST_NAME",
+            "IX_STUDENT_FIRST_NAME_NORMALIZED", "IX_STUDENT_LAST_NAME_NORMALIZED", "IX_STUDENT_MARKS");
+
+    public enum Finder {
+        ROLL_NO, FIRST_NAME, FIRST_NAME_IGNORE_CASE, LAST_NAME_IGNORE_CASE, FIRST_NAME_PREFIX, MARKS_RANGE
+    }
+
+    @Param({"ROLL_NO", "FIRST_NAME", "FIRST_NAME_IGNORE_CASE", "LAST_NAME_IGNORE_CASE", "FIRST_NAME_PREFIX", "MARKS_RANGE"})
+    public Finder finder;
+
+    @Param({"true", "false"})
+    public boolean indexed;
+
+    private ConfigurableApplicationContext context;
+    private StudentRepository studentRepository;
+    private int key;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        SpringApplication application = new SpringApplication(SpringBootH2CRUDApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--spring.datasource.url=jdbc:h2:mem:finder-benchmark",
+                "--spring.jpa.show-sql=false", "--mapper.metrics.enabled=false");
+        studentRepository = context.getBean(StudentRepository.class);
+        List<Student> students = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Student student = BenchmarkData.student(i);
+            student.setId(null);
+            student.setLastName("Ghadage" + i);
+            student.setMarks((float) (i % 1000));
+            students.add(student);
+        }
+        context.getBean(StudentService.class).insertBulkRecords(students);
+        if (!indexed) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            INDEXES.forEach(index -> jdbcTemplate.execute("DROP INDEX IF EXISTS " + index));
+        }
+    }
+
+    @Benchmark
+    public Object find() {
+        key = ROWS / 10 + (key + 7919) % (ROWS - ROWS / 10);
+        return switch (finder) {
+            case ROLL_NO -> studentRepository.findByRollNo(key);
+            case FIRST_NAME -> studentRepository.findByFirstName("Rahul" + key);
+            case FIRST_NAME_IGNORE_CASE -> studentRepository.findByFirstNameIgnoreCase("RAHUL" + key);
+            case LAST_NAME_IGNORE_CASE -> studentRepository.findByLastNameIgnoreCase("ghadage" + key);
+            case FIRST_NAME_PREFIX -> studentRepository.findByFirstNameLike("Rahul" + key + "%");
+            case MARKS_RANGE -> studentRepository.findByMarksGreaterThanEqual(999f);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+}
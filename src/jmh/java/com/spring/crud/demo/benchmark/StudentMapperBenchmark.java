@@ -0,0 +1,64 @@
+package com.spring.crud.demo.benchmark;
+
+import com.spring.crud.demo.dto.StudentDTO;
+import com.spring.crud.demo.mapper.BaseMapper;
+import com.spring.crud.demo.model.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentMapperBenchmark {
+
+    @Param({"DOZER", "DOZER_SHARDED", "GENERATED"})
+    public MapperEngine engine;
+
+    private BaseMapper<Student, StudentDTO> studentMapper;
+    private Student student;
+    private StudentDTO studentDTO;
+
+    @Setup
+    public void setUp() {
+        studentMapper = engine.studentMapper();
+        student = BenchmarkData.student(1);
+        studentDTO = studentMapper.convertFromEntityToDto(student);
+    }
+
+    @Benchmark
+    public StudentDTO convertFromEntityToDto() {
+        return studentMapper.convertFromEntityToDto(student);
+    }
+
+    @Benchmark
+    public Student convertFromDtoToEntity() {
+        return studentMapper.convertFromDtoToEntity(studentDTO);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public StudentDTO convertFromEntityToDtoConcurrent() {
+        return studentMapper.convertFromEntityToDto(student);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Student convertFromDtoToEntityConcurrent() {
+        return studentMapper.convertFromDtoToEntity(studentDTO);
+    }
+}
@@ -0,0 +1,64 @@
+package com.spring.crud.demo.benchmark;
+
+import com.spring.crud.demo.dto.SuperHeroDTO;
+import com.spring.crud.demo.mapper.BaseMapper;
+import com.spring.crud.demo.model.SuperHero;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SuperHeroMapperBenchmark {
+
+    @Param({"DOZER", "DOZER_SHARDED", "GENERATED"})
+    public MapperEngine engine;
+
+    private BaseMapper<SuperHero, SuperHeroDTO> superHeroMapper;
+    private SuperHero superHero;
+    private SuperHeroDTO superHeroDTO;
+
+    @Setup
+    public void setUp() {
+        superHeroMapper = engine.superHeroMapper();
+        superHero = BenchmarkData.superHero(1);
+        superHeroDTO = superHeroMapper.convertFromEntityToDto(superHero);
+    }
+
+    @Benchmark
+    public SuperHeroDTO convertFromEntityToDto() {
+        return superHeroMapper.convertFromEntityToDto(superHero);
+    }
+
+    @Benchmark
+    public SuperHero convertFromDtoToEntity() {
+        return superHeroMapper.convertFromDtoToEntity(superHeroDTO);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public SuperHeroDTO convertFromEntityToDtoConcurrent() {
+        return superHeroMapper.convertFromEntityToDto(superHero);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public SuperHero convertFromDtoToEntityConcurrent() {
+        return superHeroMapper.convertFromDtoToEntity(superHeroDTO);
+    }
+}
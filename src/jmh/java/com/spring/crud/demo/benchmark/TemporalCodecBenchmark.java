@@ -0,0 +1,121 @@
+package com.spring.crud.demo.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.spring.crud.demo.jakson.TemporalCodecModule;
+import com.spring.crud.demo.utils.Constant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes and deserializes a JSON array of {@code Constant.DATE_TIME_FORMAT} values with the streaming codecs
+ * of {@link TemporalCodecModule} and with the previous tree-reading, formatter-per-value codecs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemporalCodecBenchmark {
+
+    public enum Codec {
+        LEGACY, STREAMING
+    }
+
+    @Param({"LEGACY", "STREAMING"})
+    public Codec codec;
+
+    @Param({"100"})
+    public int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<LocalDateTime> values;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        SimpleModule module = codec == Codec.STREAMING ? new TemporalCodecModule() : new SimpleModule()
+                .addSerializer(LocalDateTime.class, new LegacySerializer())
+                .addDeserializer(LocalDateTime.class, new LegacyDeserializer());
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(module);
+        JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, LocalDateTime.class);
+        writer = objectMapper.writerFor(listType);
+        reader = objectMapper.readerFor(listType);
+        values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(LocalDateTime.of(2000, 1, 1, 0, 0).plusMinutes(i * 7919L));
+        }
+        json = writer.writeValueAsBytes(values);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(values);
+    }
+
+    @Benchmark
+    public List<LocalDateTime> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    /**
+     * The serializer as it was before the streaming codecs.
+     */
+    static class LegacySerializer extends StdSerializer<LocalDateTime> {
+
+        LegacySerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeString(value.format(DateTimeFormatter.ofPattern(Constant.DATE_TIME_FORMAT)));
+        }
+    }
+
+    /**
+     * The deserializer as it was before the streaming codecs.
+     */
+    static class LegacyDeserializer extends StdDeserializer<LocalDateTime> {
+
+        LegacyDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            ObjectCodec oc = parser.getCodec();
+            TextNode node = oc.readTree(parser);
+            return LocalDateTime.parse(node.textValue(), DateTimeFormatter.ofPattern(Constant.DATE_TIME_FORMAT));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.spring.crud.demo.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.model.emp.Employee;
+import com.spring.crud.demo.xml.DtoXmlCodec;
+import com.spring.crud.demo.xml.EmployeeDTOXmlCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes an {@code EmployeeDTO} list as XML with the StAX codecs behind
+ * {@code StaxXmlHttpMessageConverter} and with Jackson's {@link XmlMapper}, the data-binding XML path Spring MVC
+ * uses when jackson-dataformat-xml is on the classpath.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XmlPayloadBenchmark {
+
+    public enum Codec {
+        JACKSON_XML, STAX
+    }
+
+    @Param({"JACKSON_XML", "STAX"})
+    public Codec codec;
+
+    @Param({"100"})
+    public int size;
+
+    /**
+     * Number of phone numbers and of hobbies on each employee.
+     */
+    @Param({"4"})
+    public int children;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private EmployeeDTOXmlCodec xmlCodec;
+    private List<EmployeeDTO> employees;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException, XMLStreamException {
+        XmlMapper xmlMapper = new XmlMapper();
+        JavaType listType = xmlMapper.getTypeFactory().constructCollectionType(List.class, EmployeeDTO.class);
+        writer = xmlMapper.writerFor(listType);
+        reader = xmlMapper.readerFor(listType);
+        xmlCodec = new EmployeeDTOXmlCodec();
+        List<Employee> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(BenchmarkData.employee(i, children));
+        }
+        employees = MapperEngine.GENERATED.employeeMapper().convertFromEntitiesToDtos(entities);
+        payload = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException, XMLStreamException {
+        if (codec == Codec.JACKSON_XML) {
+            return writer.writeValueAsBytes(employees);
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        XMLStreamWriter streamWriter = DtoXmlCodec.createWriter(outputStream);
+        streamWriter.writeStartDocument("UTF-8", "1.0");
+        xmlCodec.writeList(streamWriter, employees);
+        streamWriter.writeEndDocument();
+        streamWriter.close();
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> decode() throws IOException, XMLStreamException {
+        if (codec == Codec.JACKSON_XML) {
+            return reader.readValue(payload);
+        }
+        XMLStreamReader streamReader = DtoXmlCodec.createReader(new ByteArrayInputStream(payload));
+        List<EmployeeDTO> decoded = xmlCodec.readList(streamReader);
+        streamReader.close();
+        return decoded;
+    }
+}
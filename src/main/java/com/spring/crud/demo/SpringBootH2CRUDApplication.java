@@ -1,9 +1,12 @@
 package com.spring.crud.demo;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.crud.demo.jakson.TemporalCodecModule;
+import com.spring.crud.demo.mapper.ShardedDozerMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.dozer.DozerBeanMapper;
+import org.dozer.Mapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
@@ -20,13 +23,14 @@ public class SpringBootH2CRUDApplication {
 	}
 
 	@Bean
-	public DozerBeanMapper getDozerBeanMapper() {
-		return new DozerBeanMapper();
+	public Mapper getDozerBeanMapper(@Value("${mapper.dozer.shards:0}") int shards) {
+		int shardCount = shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+		return shardCount == 1 ? ShardedDozerMapper.preInitialized() : new ShardedDozerMapper(shardCount);
 	}
 
 	@Bean
 	public ObjectMapper getObjectMapper() {
-		return new ObjectMapper();
+		return new ObjectMapper().registerModule(new TemporalCodecModule());
 	}
 
 	/*
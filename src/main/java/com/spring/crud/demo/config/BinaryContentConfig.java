@@ -0,0 +1,29 @@
+package com.spring.crud.demo.config;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.spring.crud.demo.jakson.TemporalCodecModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Smile and CBOR message converters for the {@code application/x-jackson-smile} and {@code application/cbor}
+ * representations of the DTOs. Both mappers carry the same {@link TemporalCodecModule} as the JSON
+ * {@code ObjectMapper}, and the beans take the place of the converters Spring MVC would otherwise register with
+ * default mappers.
+ */
+@Configuration(value = "binaryContentConfig")
+public class BinaryContentConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(SmileMapper.builder().addModule(new TemporalCodecModule()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(CBORMapper.builder().addModule(new TemporalCodecModule()).build());
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletResponse;
 
+import com.spring.crud.demo.utils.Constant;
 import org.springframework.stereotype.Component;
 
 @Component(value = "corsFilter")
@@ -28,7 +29,7 @@ public class CORSFilter implements Filter {
         response.setHeader("Access-Control-Allow-Methods", "POST, GET, PUT, OPTIONS, DELETE, PATCH");
         response.setHeader("Access-Control-Max-Age", "3600");
         response.setHeader("Access-Control-Allow-Headers", "Origin, Content-Type, Accept");
-        response.setHeader("Access-Control-Expose-Headers", "Location");
+        response.setHeader("Access-Control-Expose-Headers", "Location, " + Constant.NEXT_CURSOR_HEADER);
         filterChain.doFilter(servletRequest, servletResponse);
     }
 }
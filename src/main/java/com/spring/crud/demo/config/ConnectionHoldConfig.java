@@ -0,0 +1,35 @@
+package com.spring.crud.demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the {@code dataSource} bean, the one JPA borrows from with or without replica routing, in a
+ * {@link ConnectionHoldDataSource} and publishes the per-request hold time through {@link ConnectionHoldFilter}.
+ */
+@Configuration(value = "connectionHoldConfig")
+@ConditionalOnWebApplication
+@ConditionalOnProperty(name = "request.connection-hold.enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionHoldConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionHoldDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return "dataSource".equals(beanName) && bean instanceof DataSource dataSource ? new ConnectionHoldDataSource(dataSource) : bean;
+            }
+        };
+    }
+
+    @Bean
+    public ConnectionHoldFilter connectionHoldFilter(MeterRegistry meterRegistry) {
+        return new ConnectionHoldFilter(meterRegistry);
+    }
+}
@@ -0,0 +1,102 @@
+package com.spring.crud.demo.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adds up how long the connections borrowed by a thread stay open, from {@code getConnection} to {@code close}, while
+ * that thread is {@link #track() tracked}. Connections borrowed by untracked threads are handed out unwrapped.
+ */
+public class ConnectionHoldDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<Hold> CURRENT = new ThreadLocal<>();
+
+    public ConnectionHoldDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * Starts tracking the current thread until the returned hold is closed.
+     */
+    public static Hold track() {
+        return resume(new Hold());
+    }
+
+    /**
+     * Tracks the current thread against a hold started on another thread, so that work handed off by a request adds
+     * to the same totals, until the hold is closed on this thread.
+     */
+    public static Hold resume(Hold hold) {
+        CURRENT.set(hold);
+        return hold;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(super.getConnection(username, password));
+    }
+
+    private static Connection timed(Connection connection) {
+        Hold hold = CURRENT.get();
+        if (hold == null) {
+            return connection;
+        }
+        long borrowed = System.nanoTime();
+        boolean[] closed = new boolean[1];
+        return (Connection) Proxy.newProxyInstance(ConnectionHoldDataSource.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> {
+                        if ("close".equals(method.getName()) && !closed[0]) {
+                            closed[0] = true;
+                            hold.add(System.nanoTime() - borrowed);
+                        }
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+
+    public static final class Hold implements AutoCloseable {
+
+        // a resumed hold is added to from the container and the async task threads at the same time
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder connections = new LongAdder();
+
+        private Hold() {
+        }
+
+        private void add(long heldNanos) {
+            nanos.add(heldNanos);
+            connections.increment();
+        }
+
+        public long getNanos() {
+            return nanos.sum();
+        }
+
+        public int getConnections() {
+            return connections.intValue();
+        }
+
+        @Override
+        public void close() {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.spring.crud.demo.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each request kept JDBC connections borrowed on its thread, tagged by method and URI pattern, next
+ * to the number of connections it borrowed. Compared with {@code http.server.requests} it shows how much of a request
+ * runs, mapping and serialization included, without holding a pooled connection.
+ * <p>
+ * A request that goes async, such as the {@code /stream} endpoints writing a {@code StreamingResponseBody}, carries
+ * its hold onto the MVC task thread and is recorded once, when it is dispatched back to the container.
+ */
+public class ConnectionHoldFilter extends OncePerRequestFilter {
+
+    static final String HOLD_TIMER = "request.connection.hold";
+    static final String CONNECTION_SUMMARY = "request.connection.count";
+    private static final String HOLD_ATTRIBUTE = ConnectionHoldFilter.class.getName() + ".HOLD";
+
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionHoldFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ConnectionHoldDataSource.Hold started = (ConnectionHoldDataSource.Hold) request.getAttribute(HOLD_ATTRIBUTE);
+        try (ConnectionHoldDataSource.Hold hold = started == null ? ConnectionHoldDataSource.track() : ConnectionHoldDataSource.resume(started)) {
+            if (started == null) {
+                request.setAttribute(HOLD_ATTRIBUTE, hold);
+                WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(HOLD_ATTRIBUTE, new HoldPropagation(hold));
+            }
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                if (!isAsyncStarted(request)) {
+                    record(request, hold);
+                }
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, ConnectionHoldDataSource.Hold hold) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        Timer.builder(HOLD_TIMER)
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(hold.getNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(CONNECTION_SUMMARY)
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(hold.getConnections());
+    }
+
+    private record HoldPropagation(ConnectionHoldDataSource.Hold hold) implements CallableProcessingInterceptor {
+
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            ConnectionHoldDataSource.resume(hold);
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            hold.close();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.spring.crud.demo.config;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured pool with a {@link ReplicaRoutingDataSource} once {@code datasource.replica.urls} is
+ * set. The primary keeps the {@code spring.datasource.*} settings, every replica gets its own pool with the same
+ * driver, credentials and {@code spring.datasource.dbcp2.*} settings. In a web application each client's sticky
+ * window is carried by {@link ReplicaStickyFilter}.
+ */
+@Configuration(value = "replicaRoutingConfig")
+@ConditionalOnProperty(name = "datasource.replica.urls")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.dbcp2")
+    public BasicDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(BasicDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(BasicDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             Environment environment,
+                                                             @Value("${datasource.replica.urls}") String[] replicaUrls,
+                                                             @Value("${datasource.replica.sticky-window:500ms}") Duration stickyWindow) {
+        List<BasicDataSource> replicas = new ArrayList<>(replicaUrls.length);
+        for (String replicaUrl : replicaUrls) {
+            BasicDataSource replica = DataSourceBuilder.create(properties.getClassLoader())
+                    .type(BasicDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrl.trim())
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            Binder.get(environment).bind("spring.datasource.dbcp2", Bindable.ofInstance(replica));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, stickyWindow);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication
+    public ReplicaStickyFilter replicaStickyFilter(@Value("${datasource.replica.sticky-window:500ms}") Duration stickyWindow) {
+        return new ReplicaStickyFilter(stickyWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
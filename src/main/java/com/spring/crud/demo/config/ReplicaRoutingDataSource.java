@@ -0,0 +1,150 @@
+package com.spring.crud.demo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+/**
+ * Sends the connections of read-only transactions round-robin to the replica pools and everything else to the
+ * primary. For {@code stickyWindow} after a read-write transaction of a client commits, that client's read-only
+ * transactions stay on the primary as well, so it does not read back what it just wrote from a replica that has not
+ * caught up yet. Other clients keep reading from the replicas.
+ * <p>
+ * The client is the {@link Client} {@link #bind(long, LongConsumer) bound} to the current thread, per request by
+ * {@link ReplicaStickyFilter}; work on a thread without one has no window. The lookup happens when the connection is
+ * fetched, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}; the transaction manager opens the
+ * connection before the read-only flag of the transaction is published.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+    private static final ThreadLocal<Client> CURRENT = new ThreadLocal<>();
+
+    private final List<DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final long stickyWindowMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas, Duration stickyWindow) {
+        if (stickyWindow.isNegative()) {
+            throw new IllegalArgumentException("Replica sticky window must not be negative");
+        }
+        this.replicas = List.copyOf(replicas);
+        this.stickyWindowMillis = stickyWindow.toMillis();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        String[] keys = new String[this.replicas.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "replica-" + (i + 1);
+            targets.put(keys[i], this.replicas.get(i));
+        }
+        this.replicaKeys = List.of(keys);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Binds the current thread to a client whose reads stay on the primary until {@code primaryUntil}, in epoch
+     * milliseconds, until the returned client is closed. {@code onWrite} receives the new deadline whenever a write
+     * of the client commits, so it can be handed back to the client.
+     */
+    public static Client bind(long primaryUntil, LongConsumer onWrite) {
+        return resume(new Client(primaryUntil, onWrite));
+    }
+
+    /**
+     * Binds the current thread to a client bound on another thread, until the client is closed on this thread.
+     */
+    public static Client resume(Client client) {
+        CURRENT.set(client);
+        return client;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            stickToPrimaryAfterWrite();
+            return PRIMARY;
+        }
+        Client client = CURRENT.get();
+        if (replicaKeys.isEmpty() || client != null && System.currentTimeMillis() < client.primaryUntil) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    /**
+     * Connections outside a transaction may write as well. Inside one the window starts at the commit, a long
+     * running write would otherwise have used it up before its rows became visible.
+     */
+    private void stickToPrimaryAfterWrite() {
+        Client client = CURRENT.get();
+        if (client == null || stickyWindowMillis == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    client.extend(stickyWindowMillis);
+                }
+            });
+        } else {
+            client.extend(stickyWindowMillis);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica pool", e);
+                }
+            }
+        }
+    }
+
+    public static final class Client implements AutoCloseable {
+
+        private final LongConsumer onWrite;
+        private volatile long primaryUntil;
+
+        private Client(long primaryUntil, LongConsumer onWrite) {
+            this.primaryUntil = primaryUntil;
+            this.onWrite = onWrite;
+        }
+
+        public long getPrimaryUntil() {
+            return primaryUntil;
+        }
+
+        private synchronized void extend(long windowMillis) {
+            long deadline = System.currentTimeMillis() + windowMillis;
+            if (deadline > primaryUntil) {
+                primaryUntil = deadline;
+                onWrite.accept(deadline);
+            }
+        }
+
+        @Override
+        public void close() {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.spring.crud.demo.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Gives every HTTP client its own read-your-writes window in {@link ReplicaRoutingDataSource}. The end of the window,
+ * in epoch milliseconds, travels in the {@value #COOKIE} cookie: a committed write sets it, and the client's later
+ * requests read from the primary until it has passed, whichever instance serves them. Clients that never wrote, or
+ * wrote longer ago than the sticky window, read from the replicas.
+ */
+public class ReplicaStickyFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "primary-until";
+    private static final String CLIENT_ATTRIBUTE = ReplicaStickyFilter.class.getName() + ".CLIENT";
+
+    private final int cookieMaxAge;
+
+    public ReplicaStickyFilter(Duration stickyWindow) {
+        this.cookieMaxAge = (int) Math.max(1, stickyWindow.plusMillis(999).toSeconds());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try (ReplicaRoutingDataSource.Client client = ReplicaRoutingDataSource.bind(primaryUntil(request), deadline -> response.addCookie(cookie(deadline)))) {
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(CLIENT_ATTRIBUTE, new ClientPropagation(client));
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException e) {
+                        return 0L;
+                    }
+                }
+            }
+        }
+        return 0L;
+    }
+
+    private Cookie cookie(long primaryUntil) {
+        Cookie cookie = new Cookie(COOKIE, Long.toString(primaryUntil));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge(cookieMaxAge);
+        return cookie;
+    }
+
+    private record ClientPropagation(ReplicaRoutingDataSource.Client client) implements CallableProcessingInterceptor {
+
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            ReplicaRoutingDataSource.resume(client);
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.spring.crud.demo.config;
+
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.model.SuperHero;
+import com.spring.crud.demo.model.emp.Address;
+import com.spring.crud.demo.model.emp.Employee;
+import com.spring.crud.demo.search.TrigramIndex;
+import com.spring.crud.demo.service.EmployeeService;
+import com.spring.crud.demo.service.StudentService;
+import com.spring.crud.demo.service.SuperHeroService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Trigram indexes over the string fields searched by example, loaded from the database once the application is
+ * ready and then maintained by {@link com.spring.crud.demo.search.SearchIndexListener}. Searches scan until an index
+ * is loaded, and for good when {@code search.trigram.enabled} is off because other processes write the database.
+ */
+@Slf4j
+@Configuration(value = "searchIndexConfig")
+public class SearchIndexConfig {
+
+    @Value("${search.trigram.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.trigram.max-candidates:1000}")
+    private int maxCandidates;
+
+    @Bean
+    public TrigramIndex<Student> studentSearchIndex() {
+        Map<String, Function<Student, String>> fields = new LinkedHashMap<>();
+        fields.put("firstName", Student::getFirstName);
+        fields.put("lastName", Student::getLastName);
+        return new TrigramIndex<>(Student.class, Student::getId, fields, maxCandidates);
+    }
+
+    @Bean
+    public TrigramIndex<SuperHero> superHeroSearchIndex() {
+        Map<String, Function<SuperHero, String>> fields = new LinkedHashMap<>();
+        fields.put("name", SuperHero::getName);
+        fields.put("superName", SuperHero::getSuperName);
+        fields.put("profession", SuperHero::getProfession);
+        return new TrigramIndex<>(SuperHero.class, SuperHero::getId, fields, maxCandidates);
+    }
+
+    @Bean
+    public TrigramIndex<Employee> employeeSearchIndex() {
+        Map<String, Function<Employee, String>> fields = new LinkedHashMap<>();
+        fields.put("firstName", Employee::getFirstName);
+        fields.put("lastName", Employee::getLastName);
+        fields.put("address.streetAddress", address(Address::getStreetAddress));
+        fields.put("address.city", address(Address::getCity));
+        fields.put("address.state", address(Address::getState));
+        fields.put("address.country", address(Address::getCountry));
+        fields.put("address.postalCode", address(Address::getPostalCode));
+        return new TrigramIndex<>(Employee.class, Employee::getId, fields, maxCandidates);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> searchIndexLoader(StudentService studentService,
+                                                                        SuperHeroService superHeroService,
+                                                                        EmployeeService employeeService) {
+        return event -> {
+            if (!enabled) {
+                log.info("Search indexes are disabled, searches by example scan their tables");
+                return;
+            }
+            studentService.streamAllRecords(studentSearchIndex()::put);
+            studentSearchIndex().markLoaded();
+            superHeroService.streamAllRecords(superHeroSearchIndex()::put);
+            superHeroSearchIndex().markLoaded();
+            employeeService.streamAllRecords(employeeSearchIndex()::put);
+            employeeSearchIndex().markLoaded();
+            log.info("Loaded search indexes with {} students, {} super heroes and {} employees",
+                    studentSearchIndex().size(), superHeroSearchIndex().size(), employeeSearchIndex().size());
+        };
+    }
+
+    private static Function<Employee, String> address(Function<Address, String> field) {
+        return employee -> employee.getAddress() == null ? null : field.apply(employee.getAddress());
+    }
+}
@@ -0,0 +1,31 @@
+package com.spring.crud.demo.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+
+/**
+ * Publishes the hit, miss, put and eviction counts of every Hibernate second-level cache region as
+ * {@code cache.*} metrics tagged with the region name. Nothing is bound when the second-level cache is disabled.
+ */
+@Configuration(value = "secondLevelCacheConfig")
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            if (entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory() instanceof JCacheRegionFactory regionFactory) {
+                CacheManager cacheManager = regionFactory.getCacheManager();
+                for (String region : cacheManager.getCacheNames()) {
+                    JCacheMetrics.monitor(registry, cacheManager.getCache(region), "cache.type", "hibernate");
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.spring.crud.demo.config;
+
+import com.spring.crud.demo.xml.EmployeeDTOXmlCodec;
+import com.spring.crud.demo.xml.StaxXmlHttpMessageConverter;
+import com.spring.crud.demo.xml.StudentDTOXmlCodec;
+import com.spring.crud.demo.xml.SuperHeroDTOXmlCodec;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(value = "xmlContentConfig")
+public class XmlContentConfig {
+
+    @Bean
+    public StaxXmlHttpMessageConverter staxXmlHttpMessageConverter() {
+        return new StaxXmlHttpMessageConverter(new StudentDTOXmlCodec(), new SuperHeroDTOXmlCodec(), new EmployeeDTOXmlCodec());
+    }
+}
@@ -1,32 +1,53 @@
 package com.spring.crud.demo.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.spring.crud.demo.dto.BulkChunkDTO;
 import com.spring.crud.demo.dto.ResponseDTO;
+import com.spring.crud.demo.utils.Constant;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 public interface BaseController<T> {
 
-    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    // a cursor without a limit matches neither list mapping and is answered 400 rather than with the full list
+    @GetMapping(params = "!after", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE, Constant.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
     ResponseEntity<List<T>> getAllRecords();
 
-    @GetMapping(path = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @GetMapping(params = "limit", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE, Constant.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    ResponseEntity<List<T>> getRecordsPage(@RequestParam(name = "after", required = false) Integer after, @RequestParam(name = "limit") int limit);
+
+    @GetMapping(path = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamAllRecords();
+
+    @GetMapping(path = "/stream", produces = MediaType.APPLICATION_XML_VALUE)
+    ResponseEntity<StreamingResponseBody> streamAllRecordsAsXml();
+
+    @GetMapping(path = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE, Constant.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
     ResponseEntity<T> getRecordsById(@PathVariable("id") Integer id);
 
-    @PostMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @PostMapping(value = "/search", params = "!after", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE, Constant.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
     ResponseEntity<List<T>> getAllRecordsByExample(@RequestBody T allRequestParams) throws JsonProcessingException;
 
-    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @PostMapping(value = "/search", params = "limit", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE, Constant.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    ResponseEntity<List<T>> getRecordsPageByExample(@RequestParam(name = "after", required = false) Integer after, @RequestParam(name = "limit") int limit, @RequestBody T allRequestParams);
+
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE, Constant.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE, Constant.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
     ResponseEntity<T> insertRecord(@Valid @RequestBody T dto);
 
-    @PutMapping(path = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, Constant.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    ResponseEntity<List<BulkChunkDTO>> insertBulkRecords(@RequestParam(name = "commitSize", defaultValue = "500") int commitSize, InputStream body) throws IOException;
+
+    @PutMapping(path = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE, Constant.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE, Constant.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
     ResponseEntity<T> updateRecord(@PathVariable("id") Integer id, @Valid @RequestBody T dto);
 
-    @DeleteMapping(path = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @DeleteMapping(path = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE, Constant.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
     ResponseEntity<ResponseDTO> deleteRecordById(@PathVariable(value = "id") Integer id);
 
     @DeleteMapping
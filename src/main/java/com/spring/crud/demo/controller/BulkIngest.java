@@ -0,0 +1,113 @@
+package com.spring.crud.demo.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.spring.crud.demo.dto.BulkChunkDTO;
+import com.spring.crud.demo.exception.BadRequestException;
+import com.spring.crud.demo.service.IngestPartition;
+import com.spring.crud.demo.service.IngestReport;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Reads newline-delimited JSON, or a single JSON array, one value at a time and hands it to the service's ingest in
+ * chunks of {@code commitSize} DTOs, each mapped and persisted in its own transaction on the ingest pool. A chunk is
+ * read only when a pool thread is free to write it, so memory is bounded by the chunk size times the pool size,
+ * whatever the size of the payload. The response lists every chunk in payload order and is a 207 when any of them
+ * failed after its last retry.
+ * <p>
+ * A malformed record stops the read. Chunks read before it are still written and reported, followed by a failed
+ * chunk giving the record's position, so the client knows where to resume; a 400 is returned when no chunk was
+ * read yet.
+ */
+final class BulkIngest {
+
+    private BulkIngest() {
+    }
+
+    static <D> ResponseEntity<List<BulkChunkDTO>> ingest(ObjectReader reader, InputStream body, int commitSize,
+                                                         BiFunction<Iterator<List<D>>, Consumer<IngestPartition>, IngestReport> ingest) throws IOException {
+        if (commitSize < 1) {
+            throw new BadRequestException("Commit size must be greater than 0: " + commitSize);
+        }
+        List<BulkChunkDTO> chunks = new ArrayList<>();
+        boolean failed;
+        try (MappingIterator<D> values = reader.readValues(body)) {
+            Chunks<D> partitions = new Chunks<>(values, commitSize);
+            try {
+                IngestReport report = ingest.apply(partitions, partition -> chunks.add(new BulkChunkDTO(partition.partition(),
+                        partition.records(), partition.attempts(), partition.failed(), partition.elapsedMillis(), null)));
+                failed = !report.failedPartitions().isEmpty();
+            } catch (UncheckedIOException e) {
+                String error = malformed(partitions.read + 1, e.getCause());
+                if (partitions.chunks == 0) {
+                    throw new BadRequestException(error);
+                }
+                chunks.add(new BulkChunkDTO(partitions.chunks, 0, 0, true, 0L, error));
+                failed = true;
+            }
+        }
+        chunks.sort(Comparator.comparing(BulkChunkDTO::chunk));
+        return ResponseEntity.status(failed ? HttpStatus.MULTI_STATUS : HttpStatus.CREATED).body(chunks);
+    }
+
+    private static String malformed(long record, IOException e) {
+        if (e instanceof JsonProcessingException json && json.getLocation() != null) {
+            return "Malformed record " + record + " at line " + json.getLocation().getLineNr() + ", column "
+                    + json.getLocation().getColumnNr() + ": " + json.getOriginalMessage();
+        }
+        return "Malformed record " + record + ": " + e.getMessage();
+    }
+
+    private static final class Chunks<D> implements Iterator<List<D>> {
+
+        private final MappingIterator<D> values;
+        private final int commitSize;
+        private int chunks;
+        private long read;
+
+        private Chunks(MappingIterator<D> values, int commitSize) {
+            this.values = values;
+            this.commitSize = commitSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return values.hasNextValue();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public List<D> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<D> chunk = new ArrayList<>(Math.min(commitSize, 4096));
+            try {
+                while (chunk.size() < commitSize && values.hasNextValue()) {
+                    chunk.add(values.nextValue());
+                    read++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            chunks++;
+            return chunk;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.spring.crud.demo.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.crud.demo.dto.BulkChunkDTO;
 import com.spring.crud.demo.dto.ResponseDTO;
 import com.spring.crud.demo.dto.emp.EmployeeDTO;
 import com.spring.crud.demo.exception.InternalServerErrorException;
@@ -9,13 +10,19 @@ import com.spring.crud.demo.exception.NotFoundException;
 import com.spring.crud.demo.mapper.BaseMapper;
 import com.spring.crud.demo.model.emp.Employee;
 import com.spring.crud.demo.service.EmployeeService;
+import com.spring.crud.demo.xml.EmployeeDTOXmlCodec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -29,30 +36,58 @@ public class EmployeeController implements BaseController<EmployeeDTO> {
 
     @Override
     public ResponseEntity<List<EmployeeDTO>> getAllRecords() {
-        List<Employee> employeeList = employeeService.getAllRecords();
-        if (employeeList.isEmpty()) {
+        List<EmployeeDTO> employeeDTOList = employeeService.getAllDtos();
+        if (employeeDTOList.isEmpty()) {
             throw new NotFoundException("No record found");
         }
-        return ResponseEntity.status(HttpStatus.OK).body(employeeList.stream().map(employeeMapper::convertFromEntityToDto).toList());
+        return ResponseEntity.status(HttpStatus.OK).body(employeeDTOList);
+    }
+
+    @Override
+    public ResponseEntity<List<EmployeeDTO>> getRecordsPage(Integer after, int limit) {
+        List<Employee> page = employeeService.getRecordsPage(after, limit);
+        return KeysetPageResponse.of(page, limit, Employee::getId, employeeMapper::convertFromEntitiesToDtos);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAllRecords() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(JsonArrayStreamer.stream(objectMapper, employeeService::streamAllRecords, employeeMapper::convertFromEntityToDto));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAllRecordsAsXml() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_XML)
+                .body(XmlListStreamer.stream(new EmployeeDTOXmlCodec(), employeeService::streamAllRecords, employeeMapper::convertFromEntityToDto));
     }
 
     @Override
     public ResponseEntity<EmployeeDTO> getRecordsById(Integer id) {
-        Optional<Employee> optionalEmployee = employeeService.getRecordsById(id);
-        if (optionalEmployee.isEmpty()) {
+        Optional<EmployeeDTO> optionalEmployeeDTO = employeeService.isRecordCached()
+                ? employeeService.getRecordsById(id).map(employeeMapper::convertFromEntityToDto)
+                : employeeService.getDtoById(id);
+        if (optionalEmployeeDTO.isEmpty()) {
             throw new NotFoundException("No record found with id " + id);
         }
-        return ResponseEntity.status(HttpStatus.OK).body(employeeMapper.convertFromEntityToDto(optionalEmployee.get()));
+        return ResponseEntity.status(HttpStatus.OK).body(optionalEmployeeDTO.get());
     }
 
     @Override
     public ResponseEntity<List<EmployeeDTO>> getAllRecordsByExample(EmployeeDTO allRequestParams) throws JsonProcessingException {
         EmployeeDTO employeeDTO = objectMapper.convertValue(allRequestParams, EmployeeDTO.class);
-        List<Employee> employeeList = employeeService.getAllRecordsByExample(employeeMapper.convertFromDtoToEntity(employeeDTO));
-        if (employeeList.isEmpty()) {
+        List<EmployeeDTO> employeeDTOList = employeeService.getAllDtosByExample(employeeMapper.convertFromDtoToEntity(employeeDTO));
+        if (employeeDTOList.isEmpty()) {
             throw new NotFoundException("No record found with map " + objectMapper.writeValueAsString(employeeDTO));
         }
-        return ResponseEntity.status(HttpStatus.OK).body(employeeList.stream().map(employeeMapper::convertFromEntityToDto).toList());
+        return ResponseEntity.status(HttpStatus.OK).body(employeeDTOList);
+    }
+
+    @Override
+    public ResponseEntity<List<EmployeeDTO>> getRecordsPageByExample(Integer after, int limit, EmployeeDTO employeeDTO) {
+        List<Employee> page = employeeService.getRecordsPageByExample(employeeMapper.convertFromDtoToEntity(employeeDTO), after, limit);
+        return KeysetPageResponse.of(page, limit, Employee::getId, employeeMapper::convertFromEntitiesToDtos);
     }
 
     @Override
@@ -64,9 +99,15 @@ public class EmployeeController implements BaseController<EmployeeDTO> {
         return ResponseEntity.status(HttpStatus.CREATED).body(employeeMapper.convertFromEntityToDto(optionalEmployee.get()));
     }
 
+    @Override
+    public ResponseEntity<List<BulkChunkDTO>> insertBulkRecords(int commitSize, InputStream body) throws IOException {
+        return BulkIngest.<EmployeeDTO>ingest(objectMapper.readerFor(EmployeeDTO.class), body, commitSize,
+                (partitions, progress) -> employeeService.ingestRecords(partitions, employeeMapper::convertFromDtoToEntity, progress));
+    }
+
     @Override
     public ResponseEntity<EmployeeDTO> updateRecord(Integer id, EmployeeDTO employeeDTO) {
-        Optional<Employee> optionalEmployee = employeeService.updateRecord(id, employeeMapper.convertFromDtoToEntity(employeeDTO));
+        Optional<Employee> optionalEmployee = employeeService.updateRecord(id, Objects.nonNull(employeeDTO) ? employeeDTO.getId() : null, Objects.nonNull(employeeDTO) ? employeeDTO.getVersion() : null, employee -> employeeMapper.applyDtoToEntity(employeeDTO, employee));
         if (optionalEmployee.isEmpty()) {
             throw new InternalServerErrorException("Something went wrong");
         }
@@ -0,0 +1,54 @@
+package com.spring.crud.demo.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Writes a JSON array element by element while the source is still being read, flushing every
+ * {@link #FLUSH_INTERVAL} elements rather than after each one, so neither the entity list nor the DTO list is ever
+ * held in memory.
+ */
+final class JsonArrayStreamer {
+
+    /**
+     * Elements written between two flushes, configurable with {@code -Dstream.flush-interval}.
+     */
+    static final int FLUSH_INTERVAL = Integer.getInteger("stream.flush-interval", 256);
+
+    private JsonArrayStreamer() {
+    }
+
+    static <E, D> StreamingResponseBody stream(ObjectMapper objectMapper, Consumer<Consumer<E>> source, Function<E, D> mapping) {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                int[] written = {0};
+                try {
+                    source.accept(entity -> {
+                        try {
+                            writer.writeValue(generator, mapping.apply(entity));
+                            if (++written[0] % FLUSH_INTERVAL == 0) {
+                                generator.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                generator.writeEndArray();
+            }
+        };
+    }
+}
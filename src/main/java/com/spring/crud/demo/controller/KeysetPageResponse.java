@@ -0,0 +1,27 @@
+package com.spring.crud.demo.controller;
+
+import com.spring.crud.demo.utils.Constant;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builds the response for one keyset page. A full page carries the id of its last record in the
+ * {@value Constant#NEXT_CURSOR_HEADER} header, to be sent back as {@code after} for the next page; a shorter page is
+ * the last one and carries no cursor.
+ */
+final class KeysetPageResponse {
+
+    private KeysetPageResponse() {
+    }
+
+    static <E, D> ResponseEntity<List<D>> of(List<E> page, int limit, Function<E, Integer> id, Function<List<E>, List<D>> mapping) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (page.size() == limit) {
+            response.header(Constant.NEXT_CURSOR_HEADER, String.valueOf(id.apply(page.get(page.size() - 1))));
+        }
+        return response.body(mapping.apply(page));
+    }
+}
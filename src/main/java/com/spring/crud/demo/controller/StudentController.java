@@ -2,6 +2,7 @@ package com.spring.crud.demo.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.crud.demo.dto.BulkChunkDTO;
 import com.spring.crud.demo.dto.ResponseDTO;
 import com.spring.crud.demo.dto.StudentDTO;
 import com.spring.crud.demo.exception.InternalServerErrorException;
@@ -9,14 +10,20 @@ import com.spring.crud.demo.exception.NotFoundException;
 import com.spring.crud.demo.mapper.BaseMapper;
 import com.spring.crud.demo.model.Student;
 import com.spring.crud.demo.service.StudentService;
+import com.spring.crud.demo.xml.StudentDTOXmlCodec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -30,30 +37,58 @@ public class StudentController implements BaseController<StudentDTO> {
 
     @Override
     public ResponseEntity<List<StudentDTO>> getAllRecords() {
-        List<Student> studentList = studentService.getAllRecords();
-        if (studentList.isEmpty()) {
+        List<StudentDTO> studentDTOList = studentService.getAllDtos();
+        if (studentDTOList.isEmpty()) {
             throw new NotFoundException("No record found");
         }
-        return ResponseEntity.status(HttpStatus.OK).body(studentList.stream().map(studentMapper::convertFromEntityToDto).toList());
+        return ResponseEntity.status(HttpStatus.OK).body(studentDTOList);
+    }
+
+    @Override
+    public ResponseEntity<List<StudentDTO>> getRecordsPage(Integer after, int limit) {
+        List<Student> page = studentService.getRecordsPage(after, limit);
+        return KeysetPageResponse.of(page, limit, Student::getId, studentMapper::convertFromEntitiesToDtos);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAllRecords() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(JsonArrayStreamer.stream(objectMapper, studentService::streamAllRecords, studentMapper::convertFromEntityToDto));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAllRecordsAsXml() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_XML)
+                .body(XmlListStreamer.stream(new StudentDTOXmlCodec(), studentService::streamAllRecords, studentMapper::convertFromEntityToDto));
     }
 
     @Override
     public ResponseEntity<StudentDTO> getRecordsById(Integer id) {
-        Optional<Student> optionalStudent = studentService.getRecordsById(id);
-        if (optionalStudent.isEmpty()) {
+        Optional<StudentDTO> optionalStudentDTO = studentService.isRecordCached()
+                ? studentService.getRecordsById(id).map(studentMapper::convertFromEntityToDto)
+                : studentService.getDtoById(id);
+        if (optionalStudentDTO.isEmpty()) {
             throw new NotFoundException("No record found with id " + id);
         }
-        return ResponseEntity.status(HttpStatus.OK).body(studentMapper.convertFromEntityToDto(optionalStudent.get()));
+        return ResponseEntity.status(HttpStatus.OK).body(optionalStudentDTO.get());
     }
 
     @Override
     public ResponseEntity<List<StudentDTO>> getAllRecordsByExample(StudentDTO allRequestParams) throws JsonProcessingException {
         StudentDTO studentDTO = objectMapper.convertValue(allRequestParams, StudentDTO.class);
-        List<Student> studentList = studentService.getAllRecordsByExample(studentMapper.convertFromDtoToEntity(studentDTO));
-        if (studentList.isEmpty()) {
+        List<StudentDTO> studentDTOList = studentService.getAllDtosByExample(studentMapper.convertFromDtoToEntity(studentDTO));
+        if (studentDTOList.isEmpty()) {
             throw new NotFoundException("No record found with map " + objectMapper.writeValueAsString(studentDTO));
         }
-        return ResponseEntity.status(HttpStatus.OK).body(studentList.stream().map(studentMapper::convertFromEntityToDto).toList());
+        return ResponseEntity.status(HttpStatus.OK).body(studentDTOList);
+    }
+
+    @Override
+    public ResponseEntity<List<StudentDTO>> getRecordsPageByExample(Integer after, int limit, StudentDTO studentDTO) {
+        List<Student> page = studentService.getRecordsPageByExample(studentMapper.convertFromDtoToEntity(studentDTO), after, limit);
+        return KeysetPageResponse.of(page, limit, Student::getId, studentMapper::convertFromEntitiesToDtos);
     }
 
     @Override
@@ -65,9 +100,15 @@ public class StudentController implements BaseController<StudentDTO> {
         return ResponseEntity.status(HttpStatus.CREATED).body(studentMapper.convertFromEntityToDto(optionalStudent.get()));
     }
 
+    @Override
+    public ResponseEntity<List<BulkChunkDTO>> insertBulkRecords(int commitSize, InputStream body) throws IOException {
+        return BulkIngest.<StudentDTO>ingest(objectMapper.readerFor(StudentDTO.class), body, commitSize,
+                (partitions, progress) -> studentService.ingestRecords(partitions, studentMapper::convertFromDtoToEntity, progress));
+    }
+
     @Override
     public ResponseEntity<StudentDTO> updateRecord(Integer id, StudentDTO studentDTO) {
-        Optional<Student> optionalStudent = studentService.updateRecord(id, studentMapper.convertFromDtoToEntity(studentDTO));
+        Optional<Student> optionalStudent = studentService.updateRecord(id, Objects.nonNull(studentDTO) ? studentDTO.getId() : null, Objects.nonNull(studentDTO) ? studentDTO.getVersion() : null, student -> studentMapper.applyDtoToEntity(studentDTO, student));
         if (optionalStudent.isEmpty()) {
             throw new InternalServerErrorException("Something went wrong");
         }
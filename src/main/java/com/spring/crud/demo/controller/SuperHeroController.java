@@ -3,6 +3,7 @@ package com.spring.crud.demo.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.crud.demo.dto.BulkChunkDTO;
 import com.spring.crud.demo.dto.ResponseDTO;
 import com.spring.crud.demo.dto.SuperHeroDTO;
 import com.spring.crud.demo.exception.InternalServerErrorException;
@@ -10,14 +11,20 @@ import com.spring.crud.demo.exception.NotFoundException;
 import com.spring.crud.demo.mapper.BaseMapper;
 import com.spring.crud.demo.model.SuperHero;
 import com.spring.crud.demo.service.SuperHeroService;
+import com.spring.crud.demo.xml.SuperHeroDTOXmlCodec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -31,30 +38,58 @@ public class SuperHeroController implements BaseController<SuperHeroDTO> {
 
     @Override
     public ResponseEntity<List<SuperHeroDTO>> getAllRecords() {
-        List<SuperHero> superHeroList = superHeroService.getAllRecords();
-        if (superHeroList.isEmpty()) {
+        List<SuperHeroDTO> superHeroDTOList = superHeroService.getAllDtos();
+        if (superHeroDTOList.isEmpty()) {
             throw new NotFoundException("No record found");
         }
-        return ResponseEntity.status(HttpStatus.OK).body(superHeroList.stream().map(superHeroMapper::convertFromEntityToDto).toList());
+        return ResponseEntity.status(HttpStatus.OK).body(superHeroDTOList);
+    }
+
+    @Override
+    public ResponseEntity<List<SuperHeroDTO>> getRecordsPage(Integer after, int limit) {
+        List<SuperHero> page = superHeroService.getRecordsPage(after, limit);
+        return KeysetPageResponse.of(page, limit, SuperHero::getId, superHeroMapper::convertFromEntitiesToDtos);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAllRecords() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(JsonArrayStreamer.stream(objectMapper, superHeroService::streamAllRecords, superHeroMapper::convertFromEntityToDto));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAllRecordsAsXml() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_XML)
+                .body(XmlListStreamer.stream(new SuperHeroDTOXmlCodec(), superHeroService::streamAllRecords, superHeroMapper::convertFromEntityToDto));
     }
 
     @Override
     public ResponseEntity<SuperHeroDTO> getRecordsById(Integer id) {
-        Optional<SuperHero> optionalSuperHero = superHeroService.getRecordsById(id);
-        if (optionalSuperHero.isEmpty()) {
+        Optional<SuperHeroDTO> optionalSuperHeroDTO = superHeroService.isRecordCached()
+                ? superHeroService.getRecordsById(id).map(superHeroMapper::convertFromEntityToDto)
+                : superHeroService.getDtoById(id);
+        if (optionalSuperHeroDTO.isEmpty()) {
             throw new NotFoundException("No record found with id " + id);
         }
-        return ResponseEntity.status(HttpStatus.OK).body(superHeroMapper.convertFromEntityToDto(optionalSuperHero.get()));
+        return ResponseEntity.status(HttpStatus.OK).body(optionalSuperHeroDTO.get());
     }
 
     @Override
     public ResponseEntity<List<SuperHeroDTO>> getAllRecordsByExample(SuperHeroDTO allRequestParams) throws JsonProcessingException {
         SuperHeroDTO superHeroDTO = objectMapper.convertValue(allRequestParams, SuperHeroDTO.class);
-        List<SuperHero> superHeroList = superHeroService.getAllRecordsByExample(superHeroMapper.convertFromDtoToEntity(superHeroDTO));
-        if (superHeroList.isEmpty()) {
+        List<SuperHeroDTO> superHeroDTOList = superHeroService.getAllDtosByExample(superHeroMapper.convertFromDtoToEntity(superHeroDTO));
+        if (superHeroDTOList.isEmpty()) {
             throw new NotFoundException("No record found with map " + objectMapper.writeValueAsString(superHeroDTO));
         }
-        return ResponseEntity.status(HttpStatus.OK).body(superHeroList.stream().map(superHeroMapper::convertFromEntityToDto).toList());
+        return ResponseEntity.status(HttpStatus.OK).body(superHeroDTOList);
+    }
+
+    @Override
+    public ResponseEntity<List<SuperHeroDTO>> getRecordsPageByExample(Integer after, int limit, SuperHeroDTO superHeroDTO) {
+        List<SuperHero> page = superHeroService.getRecordsPageByExample(superHeroMapper.convertFromDtoToEntity(superHeroDTO), after, limit);
+        return KeysetPageResponse.of(page, limit, SuperHero::getId, superHeroMapper::convertFromEntitiesToDtos);
     }
 
     @Override
@@ -66,9 +101,15 @@ public class SuperHeroController implements BaseController<SuperHeroDTO> {
         return ResponseEntity.status(HttpStatus.CREATED).body(superHeroMapper.convertFromEntityToDto(optionalSuperHero.get()));
     }
 
+    @Override
+    public ResponseEntity<List<BulkChunkDTO>> insertBulkRecords(int commitSize, InputStream body) throws IOException {
+        return BulkIngest.<SuperHeroDTO>ingest(objectMapper.readerFor(SuperHeroDTO.class), body, commitSize,
+                (partitions, progress) -> superHeroService.ingestRecords(partitions, superHeroMapper::convertFromDtoToEntity, progress));
+    }
+
     @Override
     public ResponseEntity<SuperHeroDTO> updateRecord(Integer id, SuperHeroDTO superHeroDTO) {
-        Optional<SuperHero> optionalSuperHero = superHeroService.updateRecord(id, superHeroMapper.convertFromDtoToEntity(superHeroDTO));
+        Optional<SuperHero> optionalSuperHero = superHeroService.updateRecord(id, Objects.nonNull(superHeroDTO) ? superHeroDTO.getId() : null, Objects.nonNull(superHeroDTO) ? superHeroDTO.getVersion() : null, superHero -> superHeroMapper.applyDtoToEntity(superHeroDTO, superHero));
         if (optionalSuperHero.isEmpty()) {
             throw new InternalServerErrorException("Something went wrong");
         }
@@ -0,0 +1,49 @@
+package com.spring.crud.demo.controller;
+
+import com.spring.crud.demo.xml.DtoXmlCodec;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The XML counterpart of {@link JsonArrayStreamer}: writes each element of the list document while the source is
+ * still being read, flushing every {@link JsonArrayStreamer#FLUSH_INTERVAL} elements.
+ */
+final class XmlListStreamer {
+
+    private XmlListStreamer() {
+    }
+
+    static <E, D> StreamingResponseBody stream(DtoXmlCodec<D> codec, Consumer<Consumer<E>> source, Function<E, D> mapping) {
+        return outputStream -> {
+            try {
+                XMLStreamWriter writer = DtoXmlCodec.createWriter(outputStream);
+                writer.writeStartDocument("UTF-8", "1.0");
+                writer.writeStartElement(codec.getListElement());
+                int[] written = {0};
+                source.accept(entity -> {
+                    try {
+                        codec.write(writer, codec.getElement(), mapping.apply(entity));
+                        if (++written[0] % JsonArrayStreamer.FLUSH_INTERVAL == 0) {
+                            writer.flush();
+                        }
+                    } catch (XMLStreamException e) {
+                        throw new UncheckedIOException(new IOException(e));
+                    }
+                });
+                writer.writeEndElement();
+                writer.writeEndDocument();
+                writer.close();
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+}
@@ -0,0 +1,3 @@
+package com.spring.crud.demo.dto;
+
+public record BulkChunkDTO(Integer chunk, Integer records, Integer attempts, Boolean failed, Long elapsedMillis, String error) { }
@@ -1,5 +1,7 @@
 package com.spring.crud.demo.dto;
 
+import com.spring.crud.demo.mapper.processor.GenerateMapper;
+import com.spring.crud.demo.model.Student;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
@@ -7,6 +9,7 @@ import org.dozer.Mapping;
 
 import java.io.Serializable;
 
+@GenerateMapper(entity = Student.class)
 @Getter
 @Setter
 public class StudentDTO implements Serializable {
@@ -14,6 +17,9 @@ public class StudentDTO implements Serializable {
 	@Mapping(value = "id")
 	private Integer id;
 
+	@Mapping(value = "version")
+	private Integer version;
+
 	@Mapping(value = "rollNo")
 	private Integer rollNo;
 
@@ -23,7 +29,6 @@ public class StudentDTO implements Serializable {
 	@Mapping(value = "lastName")
 	private String lastName;
 
-	@Mapping(value = "this")
 	private String dateOfBirth;
 
 	@Mapping(value = "marks")
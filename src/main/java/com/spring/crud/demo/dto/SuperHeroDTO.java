@@ -1,5 +1,7 @@
 package com.spring.crud.demo.dto;
 
+import com.spring.crud.demo.mapper.processor.GenerateMapper;
+import com.spring.crud.demo.model.SuperHero;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -7,6 +9,7 @@ import org.dozer.Mapping;
 
 import java.io.Serializable;
 
+@GenerateMapper(entity = SuperHero.class)
 @EqualsAndHashCode
 @Getter
 @Setter
@@ -15,6 +18,9 @@ public class SuperHeroDTO implements Serializable {
     @Mapping(value = "id")
     private Integer id;
 
+    @Mapping(value = "version")
+    private Integer version;
+
     @Mapping(value = "name")
     private String name;
 
@@ -1,11 +1,14 @@
 package com.spring.crud.demo.dto.emp;
 
+import com.spring.crud.demo.mapper.processor.GenerateMapper;
+import com.spring.crud.demo.model.emp.Address;
 import lombok.Getter;
 import lombok.Setter;
 import org.dozer.Mapping;
 
 import java.io.Serializable;
 
+@GenerateMapper(entity = Address.class)
 @Getter
 @Setter
 public class AddressDTO implements Serializable {
@@ -1,5 +1,7 @@
 package com.spring.crud.demo.dto.emp;
 
+import com.spring.crud.demo.mapper.processor.GenerateMapper;
+import com.spring.crud.demo.model.emp.Employee;
 import lombok.Getter;
 import lombok.Setter;
 import org.dozer.Mapping;
@@ -7,6 +9,7 @@ import org.dozer.Mapping;
 import java.io.Serializable;
 import java.util.List;
 
+@GenerateMapper(entity = Employee.class)
 @Getter
 @Setter
 public class EmployeeDTO implements Serializable {
@@ -14,6 +17,9 @@ public class EmployeeDTO implements Serializable {
     @Mapping(value = "id")
     private Integer id;
 
+    @Mapping(value = "version")
+    private Integer version;
+
     @Mapping(value = "firstName")
     private String firstName;
 
@@ -29,7 +35,6 @@ public class EmployeeDTO implements Serializable {
     @Mapping(value = "spouse")
     private Boolean spouse;
 
-    @Mapping(value = "this")
     private String dateOfJoining;
 
     @Mapping(value = "hobbies")
@@ -1,12 +1,15 @@
 package com.spring.crud.demo.dto.emp;
 
 
+import com.spring.crud.demo.mapper.processor.GenerateMapper;
+import com.spring.crud.demo.model.emp.PhoneNumber;
 import lombok.Getter;
 import lombok.Setter;
 import org.dozer.Mapping;
 
 import java.io.Serializable;
 
+@GenerateMapper(entity = PhoneNumber.class)
 @Getter
 @Setter
 public class PhoneNumberDTO implements Serializable {
@@ -1,7 +1,10 @@
 package com.spring.crud.demo.exception;
 
 import com.spring.crud.demo.dto.ResponseDTO;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.UnsatisfiedServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -15,6 +18,18 @@ public class RestExceptionHandler {
         return new ResponseDTO(HttpStatus.INTERNAL_SERVER_ERROR.value(), String.format("%1$TH:%1$TM:%1$TS", System.currentTimeMillis()),ex.getMessage());
     }
 
+    @ExceptionHandler(value = {BadRequestException.class})
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseDTO badRequestException(BadRequestException ex) {
+        return new ResponseDTO(HttpStatus.BAD_REQUEST.value(), String.format("%1$TH:%1$TM:%1$TS", System.currentTimeMillis()), ex.getMessage());
+    }
+
+    @ExceptionHandler(value = {UnsatisfiedServletRequestParameterException.class})
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseDTO unsatisfiedServletRequestParameterException(UnsatisfiedServletRequestParameterException ex) {
+        return new ResponseDTO(HttpStatus.BAD_REQUEST.value(), String.format("%1$TH:%1$TM:%1$TS", System.currentTimeMillis()), ex.getMessage());
+    }
+
     @ExceptionHandler(value = {NotFoundException.class})
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ResponseDTO notFoundException(NotFoundException ex) {
@@ -27,6 +42,30 @@ public class RestExceptionHandler {
         return new ResponseDTO(HttpStatus.FOUND.value(), String.format("%1$TH:%1$TM:%1$TS", System.currentTimeMillis()), ex.getMessage());
     }
 
+    @ExceptionHandler(value = {ConflictException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseDTO conflictException(ConflictException ex) {
+        return new ResponseDTO(HttpStatus.CONFLICT.value(), String.format("%1$TH:%1$TM:%1$TS", System.currentTimeMillis()), ex.getMessage());
+    }
+
+    @ExceptionHandler(value = {PreconditionRequiredException.class})
+    @ResponseStatus(HttpStatus.PRECONDITION_REQUIRED)
+    public ResponseDTO preconditionRequiredException(PreconditionRequiredException ex) {
+        return new ResponseDTO(HttpStatus.PRECONDITION_REQUIRED.value(), String.format("%1$TH:%1$TM:%1$TS", System.currentTimeMillis()), ex.getMessage());
+    }
+
+    @ExceptionHandler(value = {OptimisticLockingFailureException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseDTO optimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return new ResponseDTO(HttpStatus.CONFLICT.value(), String.format("%1$TH:%1$TM:%1$TS", System.currentTimeMillis()), "Record was modified concurrently, reload it and retry");
+    }
+
+    @ExceptionHandler(value = {DataIntegrityViolationException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseDTO dataIntegrityViolationException(DataIntegrityViolationException ex) {
+        return new ResponseDTO(HttpStatus.CONFLICT.value(), String.format("%1$TH:%1$TM:%1$TS", System.currentTimeMillis()), "Record conflicts with a stored record, a unique or referential constraint is violated");
+    }
+
     @ExceptionHandler(value = {NullPointerException.class})
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ResponseDTO foundNullPointerException(NullPointerException ex) {
@@ -1,15 +1,14 @@
 package com.spring.crud.demo.jakson;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.TextNode;
-import com.spring.crud.demo.utils.Constant;
+import com.spring.crud.demo.mapper.converter.TemporalFormats;
 
 import java.io.IOException;
+import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 public class LocalDateDeserializer extends StdDeserializer<LocalDate> {
 
@@ -19,11 +18,13 @@ public class LocalDateDeserializer extends StdDeserializer<LocalDate> {
 
     @Override
     public LocalDate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
-        //return LocalDate.parse(parser.readValueAs(String.class));
-        ObjectCodec oc = parser.getCodec();
-        TextNode node = oc.readTree(parser);
-        String dateString = node.textValue();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(Constant.DATE_FORMAT);
-        return LocalDate.parse(dateString, formatter);
+        if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+            return (LocalDate) context.handleUnexpectedToken(LocalDate.class, parser);
+        }
+        try {
+            return TemporalFormats.parseDate(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (DateTimeException e) {
+            return (LocalDate) context.handleWeirdStringValue(LocalDate.class, parser.getText(), "%s", e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
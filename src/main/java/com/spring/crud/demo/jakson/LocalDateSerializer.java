@@ -1,23 +1,29 @@
 package com.spring.crud.demo.jakson;
 
-import com.spring.crud.demo.utils.Constant;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.spring.crud.demo.mapper.converter.TemporalFormats;
 
 import java.io.IOException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 public class LocalDateSerializer extends StdSerializer<LocalDate> {
 
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[TemporalFormats.DATE_LENGTH]);
+
     public LocalDateSerializer() {
         super(LocalDate.class);
     }
 
     @Override
     public void serialize(LocalDate value, JsonGenerator generator, SerializerProvider provider) throws IOException {
-        final String dateString = value.format(DateTimeFormatter.ofPattern(Constant.DATE_FORMAT));
-        generator.writeString(dateString);
+        char[] buffer = BUFFER.get();
+        int length = TemporalFormats.writeDate(value, buffer, 0);
+        if (length < 0) {
+            generator.writeString(TemporalFormats.formatDate(value));
+        } else {
+            generator.writeString(buffer, 0, length);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,14 @@
 package com.spring.crud.demo.jakson;
 
-import com.spring.crud.demo.utils.Constant;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.TextNode;
+import com.spring.crud.demo.mapper.converter.TemporalFormats;
 
 import java.io.IOException;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 public class LocalDateTimeDeserializer extends StdDeserializer<LocalDateTime> {
 
@@ -19,10 +18,13 @@ public class LocalDateTimeDeserializer extends StdDeserializer<LocalDateTime> {
 
     @Override
     public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
-        ObjectCodec oc = parser.getCodec();
-        TextNode node = oc.readTree(parser);
-        String dateString = node.textValue();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(Constant.DATE_TIME_FORMAT);
-        return LocalDateTime.parse(dateString, formatter);
+        if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+            return (LocalDateTime) context.handleUnexpectedToken(LocalDateTime.class, parser);
+        }
+        try {
+            return TemporalFormats.parseDateTime(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (DateTimeException e) {
+            return (LocalDateTime) context.handleWeirdStringValue(LocalDateTime.class, parser.getText(), "%s", e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,29 @@
 package com.spring.crud.demo.jakson;
 
-import com.spring.crud.demo.utils.Constant;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.spring.crud.demo.mapper.converter.TemporalFormats;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 public class LocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
 
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[TemporalFormats.DATE_TIME_LENGTH]);
+
     public LocalDateTimeSerializer() {
         super(LocalDateTime.class);
     }
 
     @Override
     public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
-        final String dateString = value.format(DateTimeFormatter.ofPattern(Constant.DATE_TIME_FORMAT));
-        generator.writeString(dateString);
+        char[] buffer = BUFFER.get();
+        int length = TemporalFormats.writeDateTime(value, buffer, 0);
+        if (length < 0) {
+            generator.writeString(TemporalFormats.formatDateTime(value));
+        } else {
+            generator.writeString(buffer, 0, length);
+        }
     }
-}
\ No newline at end of file
+}
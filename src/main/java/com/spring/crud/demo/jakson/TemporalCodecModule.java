@@ -0,0 +1,21 @@
+package com.spring.crud.demo.jakson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Registers the streaming {@code Constant} date codecs for every {@link LocalDate} and {@link LocalDateTime}
+ * property, not only the ones annotated with them.
+ */
+public class TemporalCodecModule extends SimpleModule {
+
+    public TemporalCodecModule() {
+        super(TemporalCodecModule.class.getSimpleName());
+        addSerializer(LocalDate.class, new LocalDateSerializer());
+        addDeserializer(LocalDate.class, new LocalDateDeserializer());
+        addSerializer(LocalDateTime.class, new LocalDateTimeSerializer());
+        addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer());
+    }
+}
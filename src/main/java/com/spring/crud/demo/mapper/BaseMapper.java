@@ -1,16 +1,37 @@
 package com.spring.crud.demo.mapper;
 
-import com.spring.crud.demo.utils.Constant;
+import com.spring.crud.demo.mapper.converter.TemporalFormats;
 
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 public interface BaseMapper<Entity, DTO> {
 
-    DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern(Constant.TIME_FORMAT);
-    DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(Constant.DATE_FORMAT);
-    DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(Constant.DATE_TIME_FORMAT);
+    DateTimeFormatter timeFormatter = TemporalFormats.TIME_FORMATTER;
+    DateTimeFormatter dateFormatter = TemporalFormats.DATE_FORMATTER;
+    DateTimeFormatter dateTimeFormatter = TemporalFormats.DATE_TIME_FORMATTER;
 
     Entity convertFromDtoToEntity(DTO dto);
 
     DTO convertFromEntityToDto(Entity entity);
+
+    /**
+     * Copies the DTO onto an entity the persistence context already manages, writing only the properties and
+     * children whose values differ. The entity id is left untouched.
+     */
+    void applyDtoToEntity(DTO dto, Entity entity);
+
+    /**
+     * Maps a list of DTOs into a mutable list of the same size.
+     */
+    default List<Entity> convertFromDtosToEntities(List<DTO> dtos) {
+        return BatchMapping.map(dtos, this::convertFromDtoToEntity);
+    }
+
+    /**
+     * Maps a list of entities into a mutable list of the same size, on the thread owning their session.
+     */
+    default List<DTO> convertFromEntitiesToDtos(List<Entity> entities) {
+        return BatchMapping.map(entities, this::convertFromEntityToDto);
+    }
 }
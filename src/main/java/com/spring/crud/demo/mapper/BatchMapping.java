@@ -0,0 +1,26 @@
+package com.spring.crud.demo.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * List mapping behind the {@link BaseMapper} bulk methods. The mapping function and the (shared, immutable)
+ * formatters are resolved once per batch and the output is an {@link ArrayList} allocated at its final size.
+ * <p>
+ * Mapping stays on the calling thread: the sources are usually entities of the caller's persistence context, which
+ * must not be touched, lazy loading included, from other threads.
+ */
+final class BatchMapping {
+
+    private BatchMapping() {
+    }
+
+    static <S, T> List<T> map(List<S> sources, Function<S, T> mapping) {
+        List<T> targets = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            targets.add(mapping.apply(source));
+        }
+        return targets;
+    }
+}
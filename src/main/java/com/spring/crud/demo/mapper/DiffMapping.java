@@ -0,0 +1,138 @@
+package com.spring.crud.demo.mapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Helpers for applying a DTO onto an already-managed entity graph. Properties and collections are only written
+ * when their value actually changes and existing children are updated in place, matched by id, so Hibernate's
+ * dirty checking flushes the columns that changed and leaves untouched rows and collections alone.
+ */
+public final class DiffMapping {
+
+    private DiffMapping() {
+    }
+
+    /**
+     * Calls {@code setter} with {@code updated} unless it equals {@code current}.
+     */
+    public static <V> void setIfChanged(V current, V updated, Consumer<? super V> setter) {
+        if (!Objects.equals(current, updated)) {
+            setter.accept(updated);
+        }
+    }
+
+    /**
+     * Brings a collection of values, such as an element collection, in line with {@code updated}. The
+     * {@code current} instance is kept and only rewritten when its elements differ.
+     */
+    public static <V> List<V> mergeValues(List<V> current, List<V> updated) {
+        if (current == null) {
+            return updated != null ? new ArrayList<>(updated) : null;
+        }
+        if (updated == null) {
+            if (!current.isEmpty()) {
+                current.clear();
+            }
+            return current;
+        }
+        if (!sameElements(current, updated)) {
+            current.clear();
+            current.addAll(updated);
+        }
+        return current;
+    }
+
+    /**
+     * Applies {@code update} onto {@code current} when both denote the same child, i.e. the DTO carries no id or
+     * the entity's id, and otherwise returns a new child built by {@code create}, which must not keep the DTO's id.
+     */
+    public static <D, E> E mergeChild(E current, D update,
+                                      Function<? super E, ?> entityId, Function<? super D, ?> dtoId,
+                                      BiConsumer<? super D, ? super E> apply, Function<? super D, ? extends E> create) {
+        if (update == null) {
+            return null;
+        }
+        Object id = dtoId.apply(update);
+        if (current != null && (id == null || id.equals(entityId.apply(current)))) {
+            apply.accept(update, current);
+            return current;
+        }
+        return create.apply(update);
+    }
+
+    /**
+     * Merges a child collection: DTOs whose id matches an existing child are applied onto it, the others are
+     * built by {@code create}, which must not keep the DTO's id. Null DTOs are skipped and children missing from
+     * {@code updates} are dropped from the collection. The {@code current} instance is kept and only rewritten when
+     * membership or order changes.
+     */
+    public static <D, E> List<E> mergeChildren(List<E> current, List<D> updates,
+                                               Function<? super E, ?> entityId, Function<? super D, ?> dtoId,
+                                               BiConsumer<? super D, ? super E> apply, Function<? super D, ? extends E> create) {
+        if (updates == null) {
+            return mergeValues(current, null);
+        }
+        Map<Object, E> existing = new HashMap<>();
+        if (current != null) {
+            for (E child : current) {
+                Object id = entityId.apply(child);
+                if (id != null) {
+                    existing.put(id, child);
+                }
+            }
+        }
+        List<E> merged = new ArrayList<>(updates.size());
+        for (D update : updates) {
+            if (update == null) {
+                continue;
+            }
+            Object id = dtoId.apply(update);
+            E child = id != null ? existing.remove(id) : null;
+            if (child != null) {
+                apply.accept(update, child);
+            } else {
+                child = create.apply(update);
+            }
+            merged.add(child);
+        }
+        if (current == null) {
+            return merged;
+        }
+        if (!sameInstances(current, merged)) {
+            current.clear();
+            current.addAll(merged);
+        }
+        return current;
+    }
+
+    private static <V> boolean sameElements(List<V> current, List<V> updated) {
+        if (current.size() != updated.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (!Objects.equals(current.get(i), updated.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <E> boolean sameInstances(List<E> current, List<E> merged) {
+        if (current.size() != merged.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (current.get(i) != merged.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
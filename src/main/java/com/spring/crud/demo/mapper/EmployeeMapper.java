@@ -1,24 +1,27 @@
 package com.spring.crud.demo.mapper;
 
+import com.spring.crud.demo.dto.emp.AddressDTO;
 import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.dto.emp.PhoneNumberDTO;
+import com.spring.crud.demo.mapper.converter.TemporalFormats;
+import com.spring.crud.demo.model.emp.Address;
 import com.spring.crud.demo.model.emp.Employee;
+import com.spring.crud.demo.model.emp.PhoneNumber;
 import lombok.RequiredArgsConstructor;
-import org.dozer.DozerBeanMapper;
+import org.dozer.Mapper;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
 import java.util.Objects;
 
 @RequiredArgsConstructor
 @Component(value = "employeeMapper")
 public class EmployeeMapper implements BaseMapper<Employee, EmployeeDTO> {
 
-    private final DozerBeanMapper dozerBeanMapper;
+    private final Mapper dozerMapper;
 
     @Override
     public Employee convertFromDtoToEntity(EmployeeDTO employeeDTO) {
-        Employee employee = dozerBeanMapper.map(employeeDTO, Employee.class);
-        employee.setDateOfJoining(employeeDTO.getDateOfJoining() != null ? LocalDateTime.parse(employeeDTO.getDateOfJoining(), dateTimeFormatter) : null);
+        Employee employee = dozerMapper.map(employeeDTO, Employee.class);
         if(Objects.nonNull(employee.getAddress())){
             employee.getAddress().setEmployee(employee);
         }
@@ -30,8 +33,44 @@ public class EmployeeMapper implements BaseMapper<Employee, EmployeeDTO> {
 
     @Override
     public EmployeeDTO convertFromEntityToDto(Employee employee) {
-        EmployeeDTO employeeDTO = dozerBeanMapper.map(employee, EmployeeDTO.class);
-        employeeDTO.setDateOfJoining(employee.getDateOfJoining() != null ? employee.getDateOfJoining().format(dateTimeFormatter) : null);
-        return employeeDTO;
+        return dozerMapper.map(employee, EmployeeDTO.class);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void applyDtoToEntity(EmployeeDTO employeeDTO, Employee employee) {
+        DiffMapping.setIfChanged(employee.getFirstName(), employeeDTO.getFirstName(), employee::setFirstName);
+        DiffMapping.setIfChanged(employee.getLastName(), employeeDTO.getLastName(), employee::setLastName);
+        DiffMapping.setIfChanged(employee.getAge(), employeeDTO.getAge(), employee::setAge);
+        DiffMapping.setIfChanged(employee.getNoOfChildrens(), employeeDTO.getNoOfChildrens(), employee::setNoOfChildrens);
+        DiffMapping.setIfChanged(employee.getSpouse(), employeeDTO.getSpouse(), employee::setSpouse);
+        DiffMapping.setIfChanged(employee.getDateOfJoining(), TemporalFormats.parseDateTime(employeeDTO.getDateOfJoining()), employee::setDateOfJoining);
+        employee.setHobbies(DiffMapping.mergeValues(employee.getHobbies(), employeeDTO.getHobbies()));
+        employee.setAddress(DiffMapping.mergeChild(employee.getAddress(), employeeDTO.getAddress(),
+                Address::getId, AddressDTO::getId, this::applyDtoToAddress, addressDTO -> {
+                    Address address = dozerMapper.map(addressDTO, Address.class);
+                    address.setId(null);
+                    address.setEmployee(employee);
+                    return address;
+                }));
+        employee.setPhoneNumbers(DiffMapping.mergeChildren(employee.getPhoneNumbers(), employeeDTO.getPhoneNumbers(),
+                PhoneNumber::getId, PhoneNumberDTO::getId, this::applyDtoToPhoneNumber, phoneNumberDTO -> {
+                    PhoneNumber phoneNumber = dozerMapper.map(phoneNumberDTO, PhoneNumber.class);
+                    phoneNumber.setId(null);
+                    phoneNumber.setEmployee(employee);
+                    return phoneNumber;
+                }));
+    }
+
+    private void applyDtoToAddress(AddressDTO addressDTO, Address address) {
+        DiffMapping.setIfChanged(address.getStreetAddress(), addressDTO.getStreetAddress(), address::setStreetAddress);
+        DiffMapping.setIfChanged(address.getCity(), addressDTO.getCity(), address::setCity);
+        DiffMapping.setIfChanged(address.getState(), addressDTO.getState(), address::setState);
+        DiffMapping.setIfChanged(address.getCountry(), addressDTO.getCountry(), address::setCountry);
+        DiffMapping.setIfChanged(address.getPostalCode(), addressDTO.getPostalCode(), address::setPostalCode);
+    }
+
+    private void applyDtoToPhoneNumber(PhoneNumberDTO phoneNumberDTO, PhoneNumber phoneNumber) {
+        DiffMapping.setIfChanged(phoneNumber.getType(), phoneNumberDTO.getType(), phoneNumber::setType);
+        DiffMapping.setIfChanged(phoneNumber.getNumber(), phoneNumberDTO.getNumber(), phoneNumber::setNumber);
+    }
+}
@@ -0,0 +1,65 @@
+package com.spring.crud.demo.mapper;
+
+import com.spring.crud.demo.mapper.converter.ConverterRegistry;
+import org.dozer.DozerBeanMapper;
+import org.dozer.Mapper;
+import org.dozer.MappingException;
+
+/**
+ * Spreads mapping calls over several {@link DozerBeanMapper} instances so request threads do not queue on the
+ * synchronized caches and lazy initialization of a single shared mapper. Every shard is initialized eagerly,
+ * and a thread always uses the same shard, so its class mappings stay warm.
+ */
+public class ShardedDozerMapper implements Mapper {
+
+    private final DozerBeanMapper[] shards;
+
+    public ShardedDozerMapper(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        this.shards = new DozerBeanMapper[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = preInitialized();
+        }
+    }
+
+    /**
+     * Creates a {@link DozerBeanMapper} with the {@link ConverterRegistry} field conversions, whose configuration is
+     * loaded now rather than on the first call.
+     */
+    public static DozerBeanMapper preInitialized() {
+        DozerBeanMapper dozerBeanMapper = new DozerBeanMapper();
+        dozerBeanMapper.addMapping(new ConverterRegistry());
+        dozerBeanMapper.getMappingMetadata();
+        return dozerBeanMapper;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    private DozerBeanMapper shard() {
+        return shards[(int) (Thread.currentThread().threadId() % shards.length)];
+    }
+
+    @Override
+    public <T> T map(Object source, Class<T> destinationClass) throws MappingException {
+        return shard().map(source, destinationClass);
+    }
+
+    @Override
+    public void map(Object source, Object destination) throws MappingException {
+        shard().map(source, destination);
+    }
+
+    @Override
+    public <T> T map(Object source, Class<T> destinationClass, String mapId) throws MappingException {
+        return shard().map(source, destinationClass, mapId);
+    }
+
+    @Override
+    public void map(Object source, Object destination, String mapId) throws MappingException {
+        shard().map(source, destination, mapId);
+    }
+}
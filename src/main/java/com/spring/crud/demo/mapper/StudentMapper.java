@@ -1,30 +1,34 @@
 package com.spring.crud.demo.mapper;
 
 import com.spring.crud.demo.dto.StudentDTO;
+import com.spring.crud.demo.mapper.converter.TemporalFormats;
 import com.spring.crud.demo.model.Student;
 import lombok.RequiredArgsConstructor;
-import org.dozer.DozerBeanMapper;
+import org.dozer.Mapper;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
-
 @RequiredArgsConstructor
 @Component(value = "studentMapper")
 public class StudentMapper implements BaseMapper<Student, StudentDTO> {
 
-    private final DozerBeanMapper dozerBeanMapper;
+    private final Mapper dozerMapper;
 
     @Override
     public Student convertFromDtoToEntity(StudentDTO studentDTO) {
-        Student student = dozerBeanMapper.map(studentDTO, Student.class);
-        student.setDateOfBirth(studentDTO.getDateOfBirth() != null ? LocalDate.parse(studentDTO.getDateOfBirth(), dateFormatter) : null);
-        return student;
+        return dozerMapper.map(studentDTO, Student.class);
     }
 
     @Override
     public StudentDTO convertFromEntityToDto(Student student) {
-        StudentDTO studentDTO = dozerBeanMapper.map(student, StudentDTO.class);
-        studentDTO.setDateOfBirth(student.getDateOfBirth() != null ? student.getDateOfBirth().format(dateFormatter) : null);
-        return studentDTO;
+        return dozerMapper.map(student, StudentDTO.class);
+    }
+
+    @Override
+    public void applyDtoToEntity(StudentDTO studentDTO, Student student) {
+        DiffMapping.setIfChanged(student.getRollNo(), studentDTO.getRollNo(), student::setRollNo);
+        DiffMapping.setIfChanged(student.getFirstName(), studentDTO.getFirstName(), student::setFirstName);
+        DiffMapping.setIfChanged(student.getLastName(), studentDTO.getLastName(), student::setLastName);
+        DiffMapping.setIfChanged(student.getDateOfBirth(), TemporalFormats.parseDate(studentDTO.getDateOfBirth()), student::setDateOfBirth);
+        DiffMapping.setIfChanged(student.getMarks(), studentDTO.getMarks(), student::setMarks);
     }
 }
\ No newline at end of file
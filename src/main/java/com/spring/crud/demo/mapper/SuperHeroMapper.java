@@ -3,22 +3,31 @@ package com.spring.crud.demo.mapper;
 import com.spring.crud.demo.dto.SuperHeroDTO;
 import com.spring.crud.demo.model.SuperHero;
 import lombok.RequiredArgsConstructor;
-import org.dozer.DozerBeanMapper;
+import org.dozer.Mapper;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
 @Component(value = "superHeroMapper")
 public class SuperHeroMapper implements BaseMapper<SuperHero, SuperHeroDTO> {
 
-    private final DozerBeanMapper dozerBeanMapper;
+    private final Mapper dozerMapper;
 
     @Override
     public SuperHero convertFromDtoToEntity(SuperHeroDTO superHeroDTO) {
-        return dozerBeanMapper.map(superHeroDTO, SuperHero.class);
+        return dozerMapper.map(superHeroDTO, SuperHero.class);
     }
 
     @Override
     public SuperHeroDTO convertFromEntityToDto(SuperHero superHero) {
-        return dozerBeanMapper.map(superHero, SuperHeroDTO.class);
+        return dozerMapper.map(superHero, SuperHeroDTO.class);
+    }
+
+    @Override
+    public void applyDtoToEntity(SuperHeroDTO superHeroDTO, SuperHero superHero) {
+        DiffMapping.setIfChanged(superHero.getName(), superHeroDTO.getName(), superHero::setName);
+        DiffMapping.setIfChanged(superHero.getSuperName(), superHeroDTO.getSuperName(), superHero::setSuperName);
+        DiffMapping.setIfChanged(superHero.getProfession(), superHeroDTO.getProfession(), superHero::setProfession);
+        DiffMapping.setIfChanged(superHero.getAge(), superHeroDTO.getAge(), superHero::setAge);
+        DiffMapping.setIfChanged(superHero.getCanFly(), superHeroDTO.getCanFly(), superHero::setCanFly);
     }
 }
\ No newline at end of file
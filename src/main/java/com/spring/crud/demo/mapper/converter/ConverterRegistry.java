@@ -0,0 +1,24 @@
+package com.spring.crud.demo.mapper.converter;
+
+import com.spring.crud.demo.dto.StudentDTO;
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.model.emp.Employee;
+import org.dozer.loader.api.BeanMappingBuilder;
+
+import static org.dozer.loader.api.FieldsMappingOptions.customConverter;
+
+/**
+ * The field conversions Dozer cannot derive from the {@code @Mapping} annotations, declared once and applied in
+ * the same pass as every other field. The generated mappers call {@link TemporalFormats} directly.
+ */
+public class ConverterRegistry extends BeanMappingBuilder {
+
+    @Override
+    protected void configure() {
+        mapping(Student.class, StudentDTO.class)
+                .fields("dateOfBirth", "dateOfBirth", customConverter(LocalDateStringConverter.class));
+        mapping(Employee.class, EmployeeDTO.class)
+                .fields("dateOfJoining", "dateOfJoining", customConverter(LocalDateTimeStringConverter.class));
+    }
+}
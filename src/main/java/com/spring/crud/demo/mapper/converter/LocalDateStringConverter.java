@@ -0,0 +1,25 @@
+package com.spring.crud.demo.mapper.converter;
+
+import org.dozer.DozerConverter;
+
+import java.time.LocalDate;
+
+/**
+ * Converts between an entity {@link LocalDate} and its {@code Constant.DATE_FORMAT} DTO representation.
+ */
+public class LocalDateStringConverter extends DozerConverter<LocalDate, String> {
+
+    public LocalDateStringConverter() {
+        super(LocalDate.class, String.class);
+    }
+
+    @Override
+    public String convertTo(LocalDate source, String destination) {
+        return TemporalFormats.formatDate(source);
+    }
+
+    @Override
+    public LocalDate convertFrom(String source, LocalDate destination) {
+        return TemporalFormats.parseDate(source);
+    }
+}
@@ -0,0 +1,25 @@
+package com.spring.crud.demo.mapper.converter;
+
+import org.dozer.DozerConverter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Converts between an entity {@link LocalDateTime} and its {@code Constant.DATE_TIME_FORMAT} DTO representation.
+ */
+public class LocalDateTimeStringConverter extends DozerConverter<LocalDateTime, String> {
+
+    public LocalDateTimeStringConverter() {
+        super(LocalDateTime.class, String.class);
+    }
+
+    @Override
+    public String convertTo(LocalDateTime source, String destination) {
+        return TemporalFormats.formatDateTime(source);
+    }
+
+    @Override
+    public LocalDateTime convertFrom(String source, LocalDateTime destination) {
+        return TemporalFormats.parseDateTime(source);
+    }
+}
@@ -0,0 +1,257 @@
+package com.spring.crud.demo.mapper.converter;
+
+import com.spring.crud.demo.utils.Constant;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats and parses the {@link Constant} date and time layouts.
+ * <p>
+ * When the {@link Constant} patterns are the fixed-width numeric layouts this class knows, values are written into
+ * a single {@code char[]} and read digit by digit, either from a String or straight from a caller's char buffer.
+ * Anything outside that fast path, including dates the {@link java.time} factories reject, goes through the cached
+ * {@link DateTimeFormatter}, so results and parse errors stay identical to {@code DateTimeFormatter.ofPattern(...)}.
+ */
+public final class TemporalFormats {
+
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(Constant.TIME_FORMAT);
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(Constant.DATE_FORMAT);
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(Constant.DATE_TIME_FORMAT);
+
+    public static final int TIME_LENGTH = 8;
+    public static final int DATE_LENGTH = 10;
+    public static final int DATE_TIME_LENGTH = DATE_LENGTH + 1 + TIME_LENGTH;
+
+    private static final boolean FIXED_TIME = "HH:mm:ss".equals(Constant.TIME_FORMAT);
+    private static final boolean FIXED_DATE = "dd-MM-yyyy".equals(Constant.DATE_FORMAT);
+    private static final boolean FIXED_DATE_TIME = FIXED_DATE && FIXED_TIME
+            && (Constant.DATE_FORMAT + " " + Constant.TIME_FORMAT).equals(Constant.DATE_TIME_FORMAT);
+
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[DATE_TIME_LENGTH]);
+
+    private TemporalFormats() {
+    }
+
+    public static String formatTime(LocalTime time) {
+        if (time == null) {
+            return null;
+        }
+        if (!FIXED_TIME) {
+            return time.format(TIME_FORMATTER);
+        }
+        char[] chars = new char[TIME_LENGTH];
+        writeTime(chars, 0, time.getHour(), time.getMinute(), time.getSecond());
+        return new String(chars);
+    }
+
+    public static String formatDate(LocalDate date) {
+        if (date == null) {
+            return null;
+        }
+        char[] chars = new char[DATE_LENGTH];
+        return writeDate(date, chars, 0) < 0 ? date.format(DATE_FORMATTER) : new String(chars);
+    }
+
+    public static String formatDateTime(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        char[] chars = new char[DATE_TIME_LENGTH];
+        return writeDateTime(dateTime, chars, 0) < 0 ? dateTime.format(DATE_TIME_FORMATTER) : new String(chars);
+    }
+
+    /**
+     * Writes {@code date} into {@code chars} and returns the number of chars written, or {@code -1} when it has no
+     * fixed-width representation and {@link #formatDate(LocalDate)} has to be used instead.
+     */
+    public static int writeDate(LocalDate date, char[] chars, int offset) {
+        if (!FIXED_DATE || !isFourDigitYear(date.getYear())) {
+            return -1;
+        }
+        writeDate(chars, offset, date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+        return DATE_LENGTH;
+    }
+
+    /**
+     * Writes {@code dateTime} into {@code chars} and returns the number of chars written, or {@code -1} when it has
+     * no fixed-width representation and {@link #formatDateTime(LocalDateTime)} has to be used instead.
+     */
+    public static int writeDateTime(LocalDateTime dateTime, char[] chars, int offset) {
+        if (!FIXED_DATE_TIME || !isFourDigitYear(dateTime.getYear())) {
+            return -1;
+        }
+        writeDate(chars, offset, dateTime.getDayOfMonth(), dateTime.getMonthValue(), dateTime.getYear());
+        chars[offset + DATE_LENGTH] = ' ';
+        writeTime(chars, offset + DATE_LENGTH + 1, dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond());
+        return DATE_TIME_LENGTH;
+    }
+
+    public static LocalTime parseTime(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        if (FIXED_TIME && text.length() == TIME_LENGTH) {
+            LocalTime time = readTime(charsOf(text), 0);
+            if (time != null) {
+                return time;
+            }
+        }
+        return LocalTime.parse(text, TIME_FORMATTER);
+    }
+
+    public static LocalDate parseDate(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        if (FIXED_DATE && text.length() == DATE_LENGTH) {
+            LocalDate date = readDate(charsOf(text), 0);
+            if (date != null) {
+                return date;
+            }
+        }
+        return LocalDate.parse(text, DATE_FORMATTER);
+    }
+
+    /**
+     * Parses a date from a region of a char buffer, such as the current token of a JSON parser, without creating
+     * a String unless the formatter fallback is needed.
+     */
+    public static LocalDate parseDate(char[] chars, int offset, int length) {
+        if (FIXED_DATE && length == DATE_LENGTH) {
+            LocalDate date = readDate(chars, offset);
+            if (date != null) {
+                return date;
+            }
+        }
+        return LocalDate.parse(new String(chars, offset, length), DATE_FORMATTER);
+    }
+
+    public static LocalDateTime parseDateTime(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        if (FIXED_DATE_TIME && text.length() == DATE_TIME_LENGTH) {
+            LocalDateTime dateTime = readDateTime(charsOf(text), 0);
+            if (dateTime != null) {
+                return dateTime;
+            }
+        }
+        return LocalDateTime.parse(text, DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * Parses a date-time from a region of a char buffer, such as the current token of a JSON parser, without
+     * creating a String unless the formatter fallback is needed.
+     */
+    public static LocalDateTime parseDateTime(char[] chars, int offset, int length) {
+        if (FIXED_DATE_TIME && length == DATE_TIME_LENGTH) {
+            LocalDateTime dateTime = readDateTime(chars, offset);
+            if (dateTime != null) {
+                return dateTime;
+            }
+        }
+        return LocalDateTime.parse(new String(chars, offset, length), DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * Copies a fast-path candidate into the per-thread scratch buffer so both parse entry points share one reader.
+     */
+    private static char[] charsOf(CharSequence text) {
+        char[] chars = SCRATCH.get();
+        if (text instanceof String string) {
+            string.getChars(0, string.length(), chars, 0);
+        } else {
+            for (int i = 0; i < text.length(); i++) {
+                chars[i] = text.charAt(i);
+            }
+        }
+        return chars;
+    }
+
+    private static boolean isFourDigitYear(int year) {
+        return year >= 1 && year <= 9999;
+    }
+
+    private static void writeDate(char[] chars, int offset, int day, int month, int year) {
+        writeTwoDigits(chars, offset, day);
+        chars[offset + 2] = '-';
+        writeTwoDigits(chars, offset + 3, month);
+        chars[offset + 5] = '-';
+        writeTwoDigits(chars, offset + 6, year / 100);
+        writeTwoDigits(chars, offset + 8, year % 100);
+    }
+
+    private static void writeTime(char[] chars, int offset, int hour, int minute, int second) {
+        writeTwoDigits(chars, offset, hour);
+        chars[offset + 2] = ':';
+        writeTwoDigits(chars, offset + 3, minute);
+        chars[offset + 5] = ':';
+        writeTwoDigits(chars, offset + 6, second);
+    }
+
+    private static void writeTwoDigits(char[] chars, int offset, int value) {
+        chars[offset] = (char) ('0' + value / 10);
+        chars[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    /**
+     * Returns {@code null} when the text is not a valid date so the caller can fall back to the formatter.
+     */
+    private static LocalDate readDate(char[] chars, int offset) {
+        if (chars[offset + 2] != '-' || chars[offset + 5] != '-') {
+            return null;
+        }
+        int day = readDigits(chars, offset, 2);
+        int month = readDigits(chars, offset + 3, 2);
+        int year = readDigits(chars, offset + 6, 4);
+        if (day < 0 || month < 0 || year < 1) {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns {@code null} when the text is not a valid time so the caller can fall back to the formatter.
+     */
+    private static LocalTime readTime(char[] chars, int offset) {
+        if (chars[offset + 2] != ':' || chars[offset + 5] != ':') {
+            return null;
+        }
+        int hour = readDigits(chars, offset, 2);
+        int minute = readDigits(chars, offset + 3, 2);
+        int second = readDigits(chars, offset + 6, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second);
+    }
+
+    private static LocalDateTime readDateTime(char[] chars, int offset) {
+        if (chars[offset + DATE_LENGTH] != ' ') {
+            return null;
+        }
+        LocalDate date = readDate(chars, offset);
+        LocalTime time = date != null ? readTime(chars, offset + DATE_LENGTH + 1) : null;
+        return time != null ? LocalDateTime.of(date, time) : null;
+    }
+
+    private static int readDigits(char[] chars, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,120 @@
+package com.spring.crud.demo.mapper.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every {@code BaseMapper} conversion, tagged by mapper, direction and single or list conversion.
+ * <p>
+ * Meters are resolved once per mapper method and cached, so a call costs two {@code nanoTime} reads and a
+ * timer update. When {@code mapper.metrics.allocation.enabled} is set, one in {@code sample-rate} calls also
+ * records the bytes the calling thread allocated, read from the JVM's per-thread allocation counter.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "mapper.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MapperMetricsAspect {
+
+    static final String CONVERSION_TIMER = "mapper.conversion";
+    static final String ELEMENT_COUNTER = "mapper.conversion.elements";
+    static final String ALLOCATION_SUMMARY = "mapper.conversion.allocated";
+
+    private static final Map<String, String[]> OPERATIONS = Map.of(
+            "convertFromEntityToDto", new String[]{"toDto", "single"},
+            "convertFromDtoToEntity", new String[]{"toEntity", "single"},
+            "convertFromEntitiesToDtos", new String[]{"toDto", "list"},
+            "convertFromDtosToEntities", new String[]{"toEntity", "list"},
+            "applyDtoToEntity", new String[]{"applyToEntity", "single"});
+
+    private final MeterRegistry meterRegistry;
+    private final com.sun.management.ThreadMXBean allocationCounter;
+    private final int allocationSampleRate;
+    private final Map<Operation, Meters> meters = new ConcurrentHashMap<>();
+
+    public MapperMetricsAspect(MeterRegistry meterRegistry,
+                               @Value("${mapper.metrics.allocation.enabled:false}") boolean allocationEnabled,
+                               @Value("${mapper.metrics.allocation.sample-rate:100}") int allocationSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.allocationCounter = allocationEnabled ? allocationCounter() : null;
+        this.allocationSampleRate = Math.max(1, allocationSampleRate);
+    }
+
+    @Around("execution(* com.spring.crud.demo.mapper.BaseMapper+.convert*(..)) || execution(* com.spring.crud.demo.mapper.BaseMapper+.applyDtoToEntity(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        Meters operationMeters = meters.computeIfAbsent(
+                new Operation(AopUtils.getTargetClass(joinPoint.getTarget()), joinPoint.getSignature().getName()), this::register);
+        if (operationMeters == null) {
+            return joinPoint.proceed();
+        }
+        boolean sampleAllocation = allocationCounter != null
+                && (allocationSampleRate == 1 || ThreadLocalRandom.current().nextInt(allocationSampleRate) == 0);
+        long allocatedBefore = sampleAllocation ? allocationCounter.getCurrentThreadAllocatedBytes() : 0L;
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            if (operationMeters.elements() != null && result instanceof Collection<?> collection) {
+                operationMeters.elements().increment(collection.size());
+            }
+            return result;
+        } finally {
+            operationMeters.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (sampleAllocation) {
+                operationMeters.allocation().record(allocationCounter.getCurrentThreadAllocatedBytes() - allocatedBefore);
+            }
+        }
+    }
+
+    private Meters register(Operation operation) {
+        String[] directionAndCardinality = OPERATIONS.get(operation.method());
+        if (directionAndCardinality == null) {
+            return null;
+        }
+        Tags tags = Tags.of("mapper", operation.mapper().getSimpleName(),
+                "direction", directionAndCardinality[0],
+                "cardinality", directionAndCardinality[1]);
+        Timer timer = Timer.builder(CONVERSION_TIMER)
+                .description("Time spent converting between entities and DTOs")
+                .tags(tags)
+                .register(meterRegistry);
+        Counter elements = "list".equals(directionAndCardinality[1])
+                ? Counter.builder(ELEMENT_COUNTER).description("Elements converted by list conversions").tags(tags).register(meterRegistry)
+                : null;
+        DistributionSummary allocation = allocationCounter != null
+                ? DistributionSummary.builder(ALLOCATION_SUMMARY).description("Bytes allocated by sampled conversions").baseUnit("bytes").tags(tags).register(meterRegistry)
+                : null;
+        return new Meters(timer, elements, allocation);
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean counter
+                && counter.isThreadAllocatedMemorySupported() && counter.isThreadAllocatedMemoryEnabled()) {
+            return counter;
+        }
+        return null;
+    }
+
+    private record Operation(Class<?> mapper, String method) {
+    }
+
+    private record Meters(Timer timer, Counter elements, DistributionSummary allocation) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.spring.crud.demo.mapper.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a DTO for which {@link MapperGeneratorProcessor} generates a plain-Java
+ * {@code BaseMapper} implementation from the existing {@code @Mapping} declarations.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface GenerateMapper {
+
+    /**
+     * Entity the annotated DTO is mapped to and from.
+     */
+    Class<?> entity();
+}
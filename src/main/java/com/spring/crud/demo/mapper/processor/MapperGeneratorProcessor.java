@@ -0,0 +1,459 @@
+package com.spring.crud.demo.mapper.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a reflection-free {@code BaseMapper} for every DTO annotated with {@link GenerateMapper}.
+ * <p>
+ * Field pairs are resolved the same way Dozer resolves them: the {@code @Mapping} value names the entity
+ * property, {@code "this"} or a missing annotation falls back to the field name. Nested DTOs annotated with
+ * {@link GenerateMapper} and lists of them are mapped through their own generated mapper, child entities get
+ * their back-reference to the parent entity set, and {@code java.time} fields are converted with
+ * {@code TemporalFormats}. The generated {@code apply} method merges a DTO onto a managed entity through
+ * {@code DiffMapping}, matching nested children by their {@code @Id}.
+ */
+@SupportedAnnotationTypes(MapperGeneratorProcessor.GENERATE_MAPPER)
+public class MapperGeneratorProcessor extends AbstractProcessor {
+
+    static final String GENERATE_MAPPER = "com.spring.crud.demo.mapper.processor.GenerateMapper";
+    private static final String DOZER_MAPPING = "org.dozer.Mapping";
+    private static final String GENERATED_PACKAGE = "com.spring.crud.demo.mapper.generated";
+    private static final String GENERATED_SUFFIX = "GeneratedMapper";
+    private static final String JPA_ID = "jakarta.persistence.Id";
+    private static final String JPA_VERSION = "jakarta.persistence.Version";
+    private static final String DIFF_MAPPING = "com.spring.crud.demo.mapper.DiffMapping";
+    private static final String TEMPORAL_FORMATS = "com.spring.crud.demo.mapper.converter.TemporalFormats";
+    private static final Map<String, String> TEMPORAL_SUFFIXES = Map.of(
+            "java.time.LocalDate", "Date",
+            "java.time.LocalDateTime", "DateTime",
+            "java.time.LocalTime", "Time");
+
+    private Types types;
+    private Elements elements;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.types = processingEnv.getTypeUtils();
+        this.elements = processingEnv.getElementUtils();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateMapper.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@GenerateMapper is only supported on classes", element);
+                continue;
+            }
+            TypeElement dto = (TypeElement) element;
+            TypeElement entity = annotatedEntityOf(dto);
+            if (entity == null) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@GenerateMapper of " + dto.getQualifiedName() + " does not name an entity", dto);
+                continue;
+            }
+            try {
+                writeMapper(dto, entity);
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Unable to write mapper for " + dto.getQualifiedName() + ": " + e.getMessage(), dto);
+            }
+        }
+        return true;
+    }
+
+    private void writeMapper(TypeElement dto, TypeElement entity) throws IOException {
+        String dtoName = dto.getQualifiedName().toString();
+        String entityName = entity.getQualifiedName().toString();
+        String mapperName = mapperNameOf(dto);
+
+        StringBuilder toEntity = new StringBuilder();
+        StringBuilder toDto = new StringBuilder();
+        StringBuilder apply = new StringBuilder();
+        VariableElement idField = idFieldOf(entity);
+        VariableElement versionField = annotatedFieldOf(entity, JPA_VERSION);
+        for (VariableElement dtoField : ElementFilter.fieldsIn(dto.getEnclosedElements())) {
+            if (dtoField.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            String property = propertyOf(dtoField);
+            VariableElement entityField = findField(entity, property);
+            if (entityField == null) {
+                messager.printMessage(Diagnostic.Kind.WARNING, "No property '" + property + "' on " + entityName + ", field is not mapped", dtoField);
+                continue;
+            }
+            appendConversion(toEntity, dtoField, entityField, entity);
+            appendConversion(toDto, entityField, dtoField, null);
+            // the version of a managed entity is owned by Hibernate, the payload's one is checked by the service
+            if (!entityField.equals(idField) && !entityField.equals(versionField)) {
+                appendMerge(apply, dtoField, entityField, entity);
+            }
+        }
+
+        String beanName = dto.getSimpleName().toString().replaceFirst("DTO$", "");
+        try (Writer writer = processingEnv.getFiler().createSourceFile(GENERATED_PACKAGE + "." + mapperName, dto).openWriter()) {
+            writer.write("package " + GENERATED_PACKAGE + ";\n\n");
+            writer.write("import com.spring.crud.demo.mapper.BaseMapper;\n");
+            writer.write("import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;\n");
+            writer.write("import org.springframework.context.annotation.Primary;\n");
+            writer.write("import org.springframework.stereotype.Component;\n\n");
+            writer.write("import javax.annotation.processing.Generated;\n\n");
+            writer.write("@Generated(\"" + getClass().getName() + "\")\n");
+            writer.write("@Primary\n");
+            writer.write("@ConditionalOnProperty(name = \"mapper.engine\", havingValue = \"generated\")\n");
+            writer.write("@Component(value = \"generated" + beanName + "Mapper\")\n");
+            writer.write("public class " + mapperName + " implements BaseMapper<" + entityName + ", " + dtoName + "> {\n\n");
+            writeStaticMethod(writer, "toEntity", dtoName, entityName, toEntity);
+            writeStaticMethod(writer, "toDto", entityName, dtoName, toDto);
+            writer.write("    public static void apply(" + dtoName + " source, " + entityName + " target) {\n");
+            writer.write("        if (source == null || target == null) {\n");
+            writer.write("            return;\n");
+            writer.write("        }\n");
+            writer.write(apply.toString());
+            writer.write("    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public " + entityName + " convertFromDtoToEntity(" + dtoName + " dto) {\n");
+            writer.write("        return toEntity(dto);\n");
+            writer.write("    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public " + dtoName + " convertFromEntityToDto(" + entityName + " entity) {\n");
+            writer.write("        return toDto(entity);\n");
+            writer.write("    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public void applyDtoToEntity(" + dtoName + " dto, " + entityName + " entity) {\n");
+            writer.write("        apply(dto, entity);\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+    }
+
+    private void writeStaticMethod(Writer writer, String name, String sourceType, String targetType, CharSequence body) throws IOException {
+        writer.write("    public static " + targetType + " " + name + "(" + sourceType + " source) {\n");
+        writer.write("        if (source == null) {\n");
+        writer.write("            return null;\n");
+        writer.write("        }\n");
+        writer.write("        " + targetType + " target = new " + targetType + "();\n");
+        writer.write(body.toString());
+        writer.write("        return target;\n");
+        writer.write("    }\n\n");
+    }
+
+    /**
+     * Appends the statements copying {@code sourceField} into {@code targetField}. {@code parentEntity} is the
+     * entity being built when mapping towards entities, so nested children can point back to it.
+     */
+    private void appendConversion(StringBuilder body, VariableElement sourceField, VariableElement targetField, TypeElement parentEntity) {
+        TypeMirror sourceType = sourceField.asType();
+        TypeMirror targetType = targetField.asType();
+        String read = "source." + getterOf(sourceField) + "()";
+        String write = "target." + setterOf(targetField);
+
+        if (isList(sourceType) && isList(targetType)) {
+            TypeMirror sourceElement = elementTypeOf(sourceType);
+            TypeMirror targetElement = elementTypeOf(targetType);
+            if (types.isSameType(sourceElement, targetElement)) {
+                body.append("        ").append(write).append("(").append(read).append(" != null ? new java.util.ArrayList<>(").append(read).append(") : null);\n");
+                return;
+            }
+            String nested = nestedMapperOf(sourceElement, targetElement);
+            if (nested == null) {
+                unsupported(sourceField, sourceType, targetType);
+                return;
+            }
+            String element = types.erasure(targetElement).toString();
+            String local = "mapped" + capitalize(targetField.getSimpleName().toString());
+            String backReference = backReferenceOf(targetElement, parentEntity);
+            body.append("        if (").append(read).append(" != null) {\n");
+            body.append("            java.util.List<").append(element).append("> ").append(local)
+                    .append(" = new java.util.ArrayList<>(").append(read).append(".size());\n");
+            body.append("            for (").append(types.erasure(sourceElement)).append(" element : ").append(read).append(") {\n");
+            body.append("                ").append(element).append(" mapped = ").append(nested).append("(element);\n");
+            if (backReference != null) {
+                body.append("                if (mapped != null) {\n");
+                body.append("                    mapped.").append(backReference).append("(target);\n");
+                body.append("                }\n");
+            }
+            body.append("                ").append(local).append(".add(mapped);\n");
+            body.append("            }\n");
+            body.append("            ").append(write).append("(").append(local).append(");\n");
+            body.append("        }\n");
+            return;
+        }
+
+        if (types.isSameType(sourceType, targetType)) {
+            body.append("        ").append(write).append("(").append(read).append(");\n");
+            return;
+        }
+
+        String sourceName = types.erasure(sourceType).toString();
+        String targetName = types.erasure(targetType).toString();
+        if (String.class.getName().equals(sourceName) && TEMPORAL_SUFFIXES.containsKey(targetName)) {
+            body.append("        ").append(write).append("(").append(TEMPORAL_FORMATS).append(".parse")
+                    .append(TEMPORAL_SUFFIXES.get(targetName)).append("(").append(read).append("));\n");
+            return;
+        }
+        if (TEMPORAL_SUFFIXES.containsKey(sourceName) && String.class.getName().equals(targetName)) {
+            body.append("        ").append(write).append("(").append(TEMPORAL_FORMATS).append(".format")
+                    .append(TEMPORAL_SUFFIXES.get(sourceName)).append("(").append(read).append("));\n");
+            return;
+        }
+
+        String nested = nestedMapperOf(sourceType, targetType);
+        if (nested == null) {
+            unsupported(sourceField, sourceType, targetType);
+            return;
+        }
+        String local = "mapped" + capitalize(targetField.getSimpleName().toString());
+        String backReference = backReferenceOf(targetType, parentEntity);
+        body.append("        ").append(targetName).append(" ").append(local).append(" = ").append(nested).append("(").append(read).append(");\n");
+        if (backReference != null) {
+            body.append("        if (").append(local).append(" != null) {\n");
+            body.append("            ").append(local).append(".").append(backReference).append("(target);\n");
+            body.append("        }\n");
+        }
+        body.append("        ").append(write).append("(").append(local).append(");\n");
+    }
+
+    /**
+     * Appends the statements applying {@code dtoField} onto {@code entityField} of a managed {@code parentEntity}
+     * through {@code DiffMapping}, so unchanged values and children are left untouched.
+     */
+    private void appendMerge(StringBuilder body, VariableElement dtoField, VariableElement entityField, TypeElement parentEntity) {
+        TypeMirror sourceType = dtoField.asType();
+        TypeMirror targetType = entityField.asType();
+        String read = "source." + getterOf(dtoField) + "()";
+        String current = "target." + getterOf(entityField) + "()";
+        String write = "target." + setterOf(entityField);
+
+        if (isList(sourceType) && isList(targetType)) {
+            TypeMirror sourceElement = elementTypeOf(sourceType);
+            TypeMirror targetElement = elementTypeOf(targetType);
+            if (types.isSameType(sourceElement, targetElement)) {
+                body.append("        ").append(write).append("(").append(DIFF_MAPPING).append(".mergeValues(")
+                        .append(current).append(", ").append(read).append("));\n");
+                return;
+            }
+            String merge = childMergeArguments(dtoField, sourceElement, targetElement, parentEntity);
+            if (merge != null) {
+                body.append("        ").append(write).append("(").append(DIFF_MAPPING).append(".mergeChildren(")
+                        .append(current).append(", ").append(read).append(", ").append(merge).append("));\n");
+            }
+            return;
+        }
+
+        if (types.isSameType(sourceType, targetType)) {
+            body.append("        ").append(DIFF_MAPPING).append(".setIfChanged(").append(current).append(", ")
+                    .append(read).append(", target::").append(setterOf(entityField)).append(");\n");
+            return;
+        }
+
+        String sourceName = types.erasure(sourceType).toString();
+        String targetName = types.erasure(targetType).toString();
+        if (String.class.getName().equals(sourceName) && TEMPORAL_SUFFIXES.containsKey(targetName)) {
+            body.append("        ").append(DIFF_MAPPING).append(".setIfChanged(").append(current).append(", ")
+                    .append(TEMPORAL_FORMATS).append(".parse").append(TEMPORAL_SUFFIXES.get(targetName)).append("(").append(read)
+                    .append("), target::").append(setterOf(entityField)).append(");\n");
+            return;
+        }
+
+        String merge = childMergeArguments(dtoField, sourceType, targetType, parentEntity);
+        if (merge != null) {
+            body.append("        ").append(write).append("(").append(DIFF_MAPPING).append(".mergeChild(")
+                    .append(current).append(", ").append(read).append(", ").append(merge).append("));\n");
+        }
+    }
+
+    /**
+     * Returns the id accessors, apply method and factory {@code DiffMapping} needs to merge a nested DTO onto its
+     * child entity, or {@code null} after reporting an error when the child cannot be matched by id.
+     */
+    private String childMergeArguments(VariableElement dtoField, TypeMirror dtoType, TypeMirror entityType, TypeElement parentEntity) {
+        TypeElement childDto = asTypeElement(dtoType);
+        TypeElement childEntity = asTypeElement(entityType);
+        if (childDto == null || childEntity == null || !childEntity.equals(annotatedEntityOf(childDto))) {
+            unsupported(dtoField, dtoType, entityType);
+            return null;
+        }
+        VariableElement entityId = idFieldOf(childEntity);
+        VariableElement dtoId = entityId != null ? dtoFieldFor(childDto, entityId.getSimpleName().toString()) : null;
+        if (dtoId == null) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Cannot match " + childDto.getQualifiedName() + " to " + childEntity.getQualifiedName() + " by id", dtoField);
+            return null;
+        }
+        String mapper = GENERATED_PACKAGE + "." + mapperNameOf(childDto);
+        String entityName = childEntity.getQualifiedName().toString();
+        String backReference = backReferenceOf(entityType, parentEntity);
+        // a DTO that matched no existing child is a new row, whatever id it carries
+        String create = "element -> {\n"
+                + "            " + entityName + " mapped = " + mapper + ".toEntity(element);\n"
+                + "            mapped." + setterOf(entityId) + "(null);\n"
+                + (backReference == null ? "" : "            mapped." + backReference + "(target);\n")
+                + "            return mapped;\n"
+                + "        }";
+        return entityName + "::" + getterOf(entityId) + ", " + childDto.getQualifiedName() + "::" + getterOf(dtoId)
+                + ", " + mapper + "::apply, " + create;
+    }
+
+    private VariableElement idFieldOf(TypeElement entity) {
+        return annotatedFieldOf(entity, JPA_ID);
+    }
+
+    private VariableElement annotatedFieldOf(TypeElement entity, String annotation) {
+        for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+            for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+                if (annotation.equals(((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private VariableElement dtoFieldFor(TypeElement dto, String property) {
+        for (VariableElement field : ElementFilter.fieldsIn(dto.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC) && propertyOf(field).equals(property)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private void unsupported(VariableElement field, TypeMirror sourceType, TypeMirror targetType) {
+        messager.printMessage(Diagnostic.Kind.ERROR, "No conversion from " + sourceType + " to " + targetType, field);
+    }
+
+    /**
+     * Returns the generated static method converting {@code sourceType} to {@code targetType}, or {@code null}
+     * when neither side is a DTO annotated with {@link GenerateMapper} for the other.
+     */
+    private String nestedMapperOf(TypeMirror sourceType, TypeMirror targetType) {
+        TypeElement source = asTypeElement(sourceType);
+        TypeElement target = asTypeElement(targetType);
+        if (source == null || target == null) {
+            return null;
+        }
+        TypeElement sourceEntity = annotatedEntityOf(source);
+        if (sourceEntity != null && sourceEntity.equals(target)) {
+            return GENERATED_PACKAGE + "." + mapperNameOf(source) + ".toEntity";
+        }
+        TypeElement targetEntity = annotatedEntityOf(target);
+        if (targetEntity != null && targetEntity.equals(source)) {
+            return GENERATED_PACKAGE + "." + mapperNameOf(target) + ".toDto";
+        }
+        return null;
+    }
+
+    /**
+     * Returns the setter on {@code child} accepting {@code parentEntity}, i.e. the owning side of a
+     * bidirectional association such as {@code Address.employee}.
+     */
+    private String backReferenceOf(TypeMirror child, TypeElement parentEntity) {
+        TypeElement childElement = asTypeElement(child);
+        if (parentEntity == null || childElement == null) {
+            return null;
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(childElement.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC) && types.isSameType(field.asType(), parentEntity.asType())) {
+                return setterOf(field);
+            }
+        }
+        return null;
+    }
+
+    private TypeElement annotatedEntityOf(TypeElement type) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!GENERATE_MAPPER.equals(((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("entity")) {
+                    return asTypeElement((TypeMirror) entry.getValue().getValue());
+                }
+            }
+        }
+        return null;
+    }
+
+    private String propertyOf(VariableElement dtoField) {
+        for (AnnotationMirror mirror : dtoField.getAnnotationMirrors()) {
+            if (!DOZER_MAPPING.equals(((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                String value = String.valueOf(entry.getValue().getValue());
+                if (entry.getKey().getSimpleName().contentEquals("value") && !value.isEmpty() && !"this".equals(value)) {
+                    return value;
+                }
+            }
+        }
+        return dtoField.getSimpleName().toString();
+    }
+
+    private VariableElement findField(TypeElement type, String name) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getSimpleName().contentEquals(name) && !field.getModifiers().contains(Modifier.STATIC)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private boolean isList(TypeMirror type) {
+        TypeElement list = elements.getTypeElement("java.util.List");
+        return type.getKind() == TypeKind.DECLARED && types.isSameType(types.erasure(type), types.erasure(list.asType()));
+    }
+
+    private TypeMirror elementTypeOf(TypeMirror listType) {
+        return ((DeclaredType) listType).getTypeArguments().get(0);
+    }
+
+    private TypeElement asTypeElement(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(type) : null;
+    }
+
+    private static String mapperNameOf(TypeElement dto) {
+        return dto.getSimpleName() + GENERATED_SUFFIX;
+    }
+
+    private static String getterOf(VariableElement field) {
+        String prefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+        return prefix + capitalize(field.getSimpleName().toString());
+    }
+
+    private static String setterOf(VariableElement field) {
+        return "set" + capitalize(field.getSimpleName().toString());
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -4,7 +4,12 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.spring.crud.demo.jakson.LocalDateDeserializer;
 import com.spring.crud.demo.jakson.LocalDateSerializer;
+import com.spring.crud.demo.search.SearchIndexListener;
+import com.spring.crud.demo.utils.Constant;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import jakarta.persistence.*;
 import jakarta.xml.bind.annotation.XmlRootElement;
@@ -16,14 +21,28 @@ import java.time.LocalDate;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "STUDENT", uniqueConstraints = {@UniqueConstraint(columnNames = {"ID"})})
+@DynamicUpdate
+@Cacheable
+@EntityListeners(SearchIndexListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "student")
+@Table(name = "STUDENT", indexes = {
+        @Index(name = "UX_STUDENT_ROLL_NO", columnList = "ROLL_NO", unique = true),
+        @Index(name = "IX_STUDENT_FIRST_NAME", columnList = "FIRST_NAME"),
+        @Index(name = "IX_STUDENT_FIRST_NAME_NORMALIZED", columnList = "FIRST_NAME_NORMALIZED"),
+        @Index(name = "IX_STUDENT_LAST_NAME_NORMALIZED", columnList = "LAST_NAME_NORMALIZED"),
+        @Index(name = "IX_STUDENT_MARKS", columnList = "MARKS")})
 public class Student implements Serializable {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "STUDENT_SEQ")
+    @SequenceGenerator(name = "STUDENT_SEQ", sequenceName = "STUDENT_SEQ", allocationSize = Constant.ID_ALLOCATION_SIZE)
     @Column(name = "ID")
     private Integer id;
 
+    @Version
+    @Column(name = "VERSION")
+    private Integer version;
+
     @Column(name = "ROLL_NO")
     private Integer rollNo;
 
@@ -33,6 +52,22 @@ public class Student implements Serializable {
     @Column(name = "LAST_NAME")
     private String lastName;
 
+    /**
+     * Lower-cased copies of the names maintained by the database, so case-insensitive lookups can use an index.
+     * They are only read by queries and never written or exposed by the entity.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "FIRST_NAME_NORMALIZED", insertable = false, updatable = false,
+            columnDefinition = "VARCHAR(255) GENERATED ALWAYS AS (LOWER(FIRST_NAME))")
+    private String firstNameNormalized;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "LAST_NAME_NORMALIZED", insertable = false, updatable = false,
+            columnDefinition = "VARCHAR(255) GENERATED ALWAYS AS (LOWER(LAST_NAME))")
+    private String lastNameNormalized;
+
     @JsonDeserialize(using = LocalDateDeserializer.class)
     @JsonSerialize(using = LocalDateSerializer.class)
     @Column(name = "DATE_OF_BIRTH")
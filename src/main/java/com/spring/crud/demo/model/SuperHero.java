@@ -1,6 +1,11 @@
 package com.spring.crud.demo.model;
 
+import com.spring.crud.demo.search.SearchIndexListener;
+import com.spring.crud.demo.utils.Constant;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import jakarta.persistence.*;
 import jakarta.xml.bind.annotation.XmlRootElement;
@@ -11,14 +16,23 @@ import java.io.Serializable;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "SUPER_HERO", uniqueConstraints = {@UniqueConstraint(columnNames = {"ID"})})
+@DynamicUpdate
+@Cacheable
+@EntityListeners(SearchIndexListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "superHero")
+@Table(name = "SUPER_HERO")
 public class SuperHero implements Serializable {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "SUPER_HERO_SEQ")
+    @SequenceGenerator(name = "SUPER_HERO_SEQ", sequenceName = "SUPER_HERO_SEQ", allocationSize = Constant.ID_ALLOCATION_SIZE)
     @Column(name = "ID")
     private Integer id;
 
+    @Version
+    @Column(name = "VERSION")
+    private Integer version;
+
     @Column(name = "NAME")
     private String name;
 
@@ -1,9 +1,14 @@
 package com.spring.crud.demo.model.emp;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.spring.crud.demo.search.SearchIndexListener;
+import com.spring.crud.demo.utils.Constant;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import jakarta.persistence.*;
 import jakarta.xml.bind.annotation.XmlRootElement;
@@ -14,11 +19,16 @@ import java.io.Serializable;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "ADDRESS", uniqueConstraints = {@UniqueConstraint(columnNames = {"ID"})})
+@DynamicUpdate
+@Cacheable
+@EntityListeners(SearchIndexListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "address")
+@Table(name = "ADDRESS")
 public class Address implements Serializable {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ADDRESS_SEQ")
+    @SequenceGenerator(name = "ADDRESS_SEQ", sequenceName = "ADDRESS_SEQ", allocationSize = Constant.ID_ALLOCATION_SIZE)
     @Column(name = "ID")
     private Integer id;
 
@@ -38,7 +48,7 @@ public class Address implements Serializable {
     private String postalCode;
 
     @JsonBackReference
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne
     @JoinColumn(name = "EMPLOYEE_ID", referencedColumnName = "ID", nullable = false)
     private Employee employee;
 }
\ No newline at end of file
@@ -5,9 +5,14 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.spring.crud.demo.jakson.LocalDateTimeDeserializer;
 import com.spring.crud.demo.jakson.LocalDateTimeSerializer;
+import com.spring.crud.demo.search.SearchIndexListener;
+import com.spring.crud.demo.utils.Constant;
 import lombok.*;
-import org.hibernate.annotations.LazyCollection;
-import org.hibernate.annotations.LazyCollectionOption;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import jakarta.persistence.*;
 import jakarta.xml.bind.annotation.XmlRootElement;
@@ -20,14 +25,23 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "EMPLOYEE", uniqueConstraints = {@UniqueConstraint(columnNames = {"ID"})})
+@DynamicUpdate
+@Cacheable
+@EntityListeners(SearchIndexListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employee")
+@Table(name = "EMPLOYEE")
 public class Employee implements Serializable {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "EMPLOYEE_SEQ")
+    @SequenceGenerator(name = "EMPLOYEE_SEQ", sequenceName = "EMPLOYEE_SEQ", allocationSize = Constant.ID_ALLOCATION_SIZE)
     @Column(name = "ID")
     private Integer id;
 
+    @Version
+    @Column(name = "VERSION")
+    private Integer version;
+
     @Column(name = "FIRST_NAME")
     private String firstName;
 
@@ -49,17 +63,20 @@ public class Employee implements Serializable {
     private LocalDateTime dateOfJoining;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employee.hobbies")
     @CollectionTable(name = "HOBBIES", joinColumns = @JoinColumn(name = "ID"))
     @Column(name = "HOBBY")
     private List<String> hobbies;
 
     @JsonManagedReference
-    @OneToOne(cascade = CascadeType.ALL, mappedBy = "employee")
+    @OneToOne(cascade = CascadeType.ALL, mappedBy = "employee", orphanRemoval = true)
     private Address address;
 
     @JsonManagedReference
-    @LazyCollection(LazyCollectionOption.FALSE)
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "employee")
+    @Fetch(FetchMode.SUBSELECT)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employee.phoneNumbers")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "employee", fetch = FetchType.EAGER, orphanRemoval = true)
     private List<PhoneNumber> phoneNumbers;
 
 
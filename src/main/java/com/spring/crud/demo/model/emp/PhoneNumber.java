@@ -2,9 +2,13 @@ package com.spring.crud.demo.model.emp;
 
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.spring.crud.demo.utils.Constant;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import jakarta.persistence.*;
 import jakarta.xml.bind.annotation.XmlRootElement;
@@ -15,11 +19,15 @@ import java.io.Serializable;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "PHONE_NUMBER", uniqueConstraints = {@UniqueConstraint(columnNames = {"ID"})})
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "phoneNumber")
+@Table(name = "PHONE_NUMBER")
 public class PhoneNumber implements Serializable {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "PHONE_NUMBER_SEQ")
+    @SequenceGenerator(name = "PHONE_NUMBER_SEQ", sequenceName = "PHONE_NUMBER_SEQ", allocationSize = Constant.ID_ALLOCATION_SIZE)
     @Column(name = "ID")
     private Integer id;
 
@@ -30,7 +38,7 @@ public class PhoneNumber implements Serializable {
     private String number;
 
     @JsonBackReference
-    @ManyToOne(cascade = CascadeType.ALL)
+    @ManyToOne
     @JoinColumn(name = "EMPLOYEE_ID", referencedColumnName = "ID")
     private Employee employee;
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.spring.crud.demo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Example;
+import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads DTOs straight from a scalar tuple query: only the selected columns are fetched and no entity is
+ * instantiated, registered in the persistence context or snapshotted for dirty checking. Queries by example use
+ * the same predicates as {@code JpaRepository.findAll(Example)}; results are ordered by id.
+ */
+public abstract class DtoProjectionRepository<T, D> {
+
+    protected final EntityManager entityManager;
+    private final Class<T> type;
+
+    protected DtoProjectionRepository(EntityManager entityManager, Class<T> type) {
+        this.entityManager = entityManager;
+        this.type = type;
+    }
+
+    public List<D> findAll() {
+        return find((root, query, builder) -> null);
+    }
+
+    public Optional<D> findById(int id) {
+        return find((root, query, builder) -> builder.equal(root.get("id"), id)).stream().findFirst();
+    }
+
+    public List<D> findAll(Example<T> example) {
+        return find((root, query, builder) -> QueryByExamplePredicateBuilder.getPredicate(root, builder, example));
+    }
+
+    public List<D> findAll(Specification<T> specification) {
+        return find(specification);
+    }
+
+    /**
+     * Columns of the tuple handed to {@link #toDto(Tuple)}, in order.
+     */
+    protected abstract List<Selection<?>> select(Root<T> root);
+
+    protected abstract D toDto(Tuple tuple);
+
+    protected List<D> find(Specification<T> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<T> root = query.from(type);
+        query.multiselect(select(root));
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(builder.asc(root.get("id")));
+        return entityManager.createQuery(query).getResultList().stream().map(this::toDto).toList();
+    }
+}
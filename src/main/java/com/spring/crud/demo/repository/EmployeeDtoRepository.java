@@ -0,0 +1,100 @@
+package com.spring.crud.demo.repository;
+
+import com.spring.crud.demo.dto.emp.AddressDTO;
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.dto.emp.PhoneNumberDTO;
+import com.spring.crud.demo.mapper.converter.TemporalFormats;
+import com.spring.crud.demo.model.emp.Address;
+import com.spring.crud.demo.model.emp.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads employees with their address in one joined query, then the phone numbers and hobbies of the whole result
+ * with one query each per {@link #ID_CHUNK_SIZE} employees, attaching every child row to its employee in a single
+ * pass over the result.
+ */
+@Repository(value = "employeeDtoRepository")
+public class EmployeeDtoRepository extends DtoProjectionRepository<Employee, EmployeeDTO> {
+
+    static final int ID_CHUNK_SIZE = 1000;
+
+    public EmployeeDtoRepository(EntityManager entityManager) {
+        super(entityManager, Employee.class);
+    }
+
+    @Override
+    protected List<Selection<?>> select(Root<Employee> root) {
+        Join<Employee, Address> address = root.join("address", JoinType.LEFT);
+        return List.of(root.get("id"), root.get("firstName"), root.get("lastName"), root.get("age"), root.get("noOfChildrens"), root.get("spouse"), root.get("dateOfJoining"),
+                address.get("id"), address.get("streetAddress"), address.get("city"), address.get("state"), address.get("country"), address.get("postalCode"),
+                root.get("version"));
+    }
+
+    @Override
+    protected EmployeeDTO toDto(Tuple tuple) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setId(tuple.get(0, Integer.class));
+        employeeDTO.setFirstName(tuple.get(1, String.class));
+        employeeDTO.setLastName(tuple.get(2, String.class));
+        employeeDTO.setAge(tuple.get(3, Integer.class));
+        employeeDTO.setNoOfChildrens(tuple.get(4, Integer.class));
+        employeeDTO.setSpouse(tuple.get(5, Boolean.class));
+        employeeDTO.setDateOfJoining(TemporalFormats.formatDateTime(tuple.get(6, LocalDateTime.class)));
+        employeeDTO.setVersion(tuple.get(13, Integer.class));
+        employeeDTO.setHobbies(new ArrayList<>());
+        employeeDTO.setPhoneNumbers(new ArrayList<>());
+        Integer addressId = tuple.get(7, Integer.class);
+        if (addressId != null) {
+            AddressDTO addressDTO = new AddressDTO();
+            addressDTO.setId(addressId);
+            addressDTO.setStreetAddress(tuple.get(8, String.class));
+            addressDTO.setCity(tuple.get(9, String.class));
+            addressDTO.setState(tuple.get(10, String.class));
+            addressDTO.setCountry(tuple.get(11, String.class));
+            addressDTO.setPostalCode(tuple.get(12, String.class));
+            employeeDTO.setAddress(addressDTO);
+        }
+        return employeeDTO;
+    }
+
+    @Override
+    protected List<EmployeeDTO> find(Specification<Employee> specification) {
+        List<EmployeeDTO> employees = super.find(specification);
+        Map<Integer, EmployeeDTO> employeesById = new HashMap<>(employees.size() * 2);
+        employees.forEach(employeeDTO -> employeesById.put(employeeDTO.getId(), employeeDTO));
+        List<Integer> ids = new ArrayList<>(employeesById.keySet());
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+            entityManager.createQuery("select p.employee.id, p.id, p.type, p.number from PhoneNumber p where p.employee.id in :ids order by p.id", Object[].class)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(row -> employeesById.get((Integer) row[0]).getPhoneNumbers().add(toPhoneNumberDto(row)));
+            entityManager.createQuery("select e.id, h from Employee e join e.hobbies h where e.id in :ids", Object[].class)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(row -> employeesById.get((Integer) row[0]).getHobbies().add((String) row[1]));
+        }
+        return employees;
+    }
+
+    private static PhoneNumberDTO toPhoneNumberDto(Object[] row) {
+        PhoneNumberDTO phoneNumberDTO = new PhoneNumberDTO();
+        phoneNumberDTO.setId((Integer) row[1]);
+        phoneNumberDTO.setType((String) row[2]);
+        phoneNumberDTO.setNumber((String) row[3]);
+        return phoneNumberDTO;
+    }
+}
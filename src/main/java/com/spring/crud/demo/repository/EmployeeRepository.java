@@ -1,9 +1,85 @@
 package com.spring.crud.demo.repository;
 
 import com.spring.crud.demo.model.emp.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
 @Repository(value = "employeeRepository")
-public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
+public interface EmployeeRepository extends JpaRepository<Employee, Integer>, JpaSpecificationExecutor<Employee> {
+
+    /**
+     * Joins the address into the employee query; hobbies and phone numbers are each loaded for the whole result by
+     * one subselect, so the number of statements does not grow with the number of employees.
+     */
+    @EntityGraph(attributePaths = "address", type = EntityGraph.EntityGraphType.LOAD)
+    @Override
+    List<Employee> findAll();
+
+    @EntityGraph(attributePaths = "address", type = EntityGraph.EntityGraphType.LOAD)
+    @Override
+    <S extends Employee> List<S> findAll(Example<S> example);
+
+    @EntityGraph(attributePaths = "address", type = EntityGraph.EntityGraphType.LOAD)
+    @Override
+    <S extends Employee, R> R findBy(Specification<Employee> spec, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction);
+
+    @EntityGraph(attributePaths = "address", type = EntityGraph.EntityGraphType.LOAD)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Employee> findByIdGreaterThanOrderByIdAsc(int after, Limit limit);
+
+    /**
+     * Ids of the next keyset batch. Employees are not scrolled like the other entities: a scrolled row initializes
+     * its eager hobbies and phone numbers one employee at a time, whereas {@link #findByIdInOrderByIdAsc} loads them
+     * for a whole batch of ids with one subselect each.
+     */
+    @Query("select e.id from Employee e where e.id > :after order by e.id")
+    List<Integer> findIdsByIdGreaterThan(@Param("after") int after, Limit limit);
+
+    @EntityGraph(attributePaths = "address", type = EntityGraph.EntityGraphType.LOAD)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Employee> findByIdInOrderByIdAsc(Collection<Integer> ids);
+
+    /**
+     * Bulk deletes skip cascades, so the phone numbers and the address referencing an employee have to go first.
+     * The HOBBIES collection table is cleared by Hibernate as part of the employee delete.
+     */
+    @Modifying
+    @Query("delete from PhoneNumber p where p.employee.id = :id")
+    int bulkDeletePhoneNumbersByEmployeeId(@Param("id") int id);
+
+    @Modifying
+    @Query("delete from Address a where a.employee.id = :id")
+    int bulkDeleteAddressByEmployeeId(@Param("id") int id);
+
+    @Modifying
+    @Query("delete from Employee e where e.id = :id")
+    int bulkDeleteById(@Param("id") int id);
+
+    @Modifying
+    @Query("delete from PhoneNumber")
+    int bulkDeleteAllPhoneNumbers();
+
+    @Modifying
+    @Query("delete from Address")
+    int bulkDeleteAllAddresses();
+
+    @Modifying
+    @Query("delete from Employee")
+    int bulkDeleteAll();
 }
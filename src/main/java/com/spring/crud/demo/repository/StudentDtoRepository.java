@@ -0,0 +1,39 @@
+package com.spring.crud.demo.repository;
+
+import com.spring.crud.demo.dto.StudentDTO;
+import com.spring.crud.demo.mapper.converter.TemporalFormats;
+import com.spring.crud.demo.model.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository(value = "studentDtoRepository")
+public class StudentDtoRepository extends DtoProjectionRepository<Student, StudentDTO> {
+
+    public StudentDtoRepository(EntityManager entityManager) {
+        super(entityManager, Student.class);
+    }
+
+    @Override
+    protected List<Selection<?>> select(Root<Student> root) {
+        return List.of(root.get("id"), root.get("rollNo"), root.get("firstName"), root.get("lastName"), root.get("dateOfBirth"), root.get("marks"), root.get("version"));
+    }
+
+    @Override
+    protected StudentDTO toDto(Tuple tuple) {
+        StudentDTO studentDTO = new StudentDTO();
+        studentDTO.setId(tuple.get(0, Integer.class));
+        studentDTO.setRollNo(tuple.get(1, Integer.class));
+        studentDTO.setFirstName(tuple.get(2, String.class));
+        studentDTO.setLastName(tuple.get(3, String.class));
+        studentDTO.setDateOfBirth(TemporalFormats.formatDate(tuple.get(4, LocalDate.class)));
+        studentDTO.setMarks(tuple.get(5, Float.class));
+        studentDTO.setVersion(tuple.get(6, Integer.class));
+        return studentDTO;
+    }
+}
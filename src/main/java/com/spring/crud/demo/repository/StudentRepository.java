@@ -1,24 +1,63 @@
 package com.spring.crud.demo.repository;
 
 import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.utils.Constant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository(value = "studentRepository")
-public interface StudentRepository extends JpaRepository<Student, Integer> {
+public interface StudentRepository extends JpaRepository<Student, Integer>, JpaSpecificationExecutor<Student> {
 
     Optional<Student> findByRollNo(int rollNo);
 
     Optional<Student> findByFirstName(String firstName);
 
-    Optional<Student> findByFirstNameIgnoreCase(String firstName);
+    /**
+     * Compares against the indexed {@code FIRST_NAME_NORMALIZED} column instead of upper-casing every row.
+     */
+    @Query("select s from Student s where s.firstNameNormalized = lower(:firstName)")
+    Optional<Student> findByFirstNameIgnoreCase(@Param("firstName") String firstName);
 
-    Optional<Student> findByLastNameIgnoreCase(String lastName);
+    @Query("select s from Student s where s.lastNameNormalized = lower(:lastName)")
+    Optional<Student> findByLastNameIgnoreCase(@Param("lastName") String lastName);
 
     List<Student> findByFirstNameLike(String firstName);
 
     List<Student> findByMarksGreaterThanEqual(float marks);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Student> findByIdGreaterThanOrderByIdAsc(int after, Limit limit);
+
+    List<Student> findByFirstNameLikeAndIdGreaterThanOrderByIdAsc(String firstName, int after, Limit limit);
+
+    List<Student> findByMarksGreaterThanEqualAndIdGreaterThanOrderByIdAsc(float marks, int after, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constant.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select s from Student s order by s.id")
+    Stream<Student> streamAll();
+
+    /**
+     * Deletes the row in one statement and returns how many rows went, unlike {@link #deleteById(Object)} which loads
+     * the entity first. Hibernate evicts the second-level cache region of a bulk deleted entity.
+     */
+    @Modifying
+    @Query("delete from Student s where s.id = :id")
+    int bulkDeleteById(@Param("id") int id);
+
+    @Modifying
+    @Query("delete from Student")
+    int bulkDeleteAll();
 }
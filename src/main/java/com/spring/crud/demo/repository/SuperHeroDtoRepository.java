@@ -0,0 +1,37 @@
+package com.spring.crud.demo.repository;
+
+import com.spring.crud.demo.dto.SuperHeroDTO;
+import com.spring.crud.demo.model.SuperHero;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository(value = "superHeroDtoRepository")
+public class SuperHeroDtoRepository extends DtoProjectionRepository<SuperHero, SuperHeroDTO> {
+
+    public SuperHeroDtoRepository(EntityManager entityManager) {
+        super(entityManager, SuperHero.class);
+    }
+
+    @Override
+    protected List<Selection<?>> select(Root<SuperHero> root) {
+        return List.of(root.get("id"), root.get("name"), root.get("superName"), root.get("profession"), root.get("age"), root.get("canFly"), root.get("version"));
+    }
+
+    @Override
+    protected SuperHeroDTO toDto(Tuple tuple) {
+        SuperHeroDTO superHeroDTO = new SuperHeroDTO();
+        superHeroDTO.setId(tuple.get(0, Integer.class));
+        superHeroDTO.setName(tuple.get(1, String.class));
+        superHeroDTO.setSuperName(tuple.get(2, String.class));
+        superHeroDTO.setProfession(tuple.get(3, String.class));
+        superHeroDTO.setAge(tuple.get(4, Integer.class));
+        superHeroDTO.setCanFly(tuple.get(5, Boolean.class));
+        superHeroDTO.setVersion(tuple.get(6, Integer.class));
+        return superHeroDTO;
+    }
+}
@@ -1,10 +1,37 @@
 package com.spring.crud.demo.repository;
 
 import com.spring.crud.demo.model.SuperHero;
+import com.spring.crud.demo.utils.Constant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository(value = "superHeroRepository")
-public interface SuperHeroRepository extends JpaRepository<SuperHero, Integer> {
+public interface SuperHeroRepository extends JpaRepository<SuperHero, Integer>, JpaSpecificationExecutor<SuperHero> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<SuperHero> findByIdGreaterThanOrderByIdAsc(int after, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constant.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select s from SuperHero s order by s.id")
+    Stream<SuperHero> streamAll();
+
+    @Modifying
+    @Query("delete from SuperHero s where s.id = :id")
+    int bulkDeleteById(@Param("id") int id);
 
+    @Modifying
+    @Query("delete from SuperHero")
+    int bulkDeleteAll();
 }
@@ -0,0 +1,119 @@
+package com.spring.crud.demo.search;
+
+import com.spring.crud.demo.model.emp.Address;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the {@link TrigramIndex} beans in step with entity writes. Inserted and updated values are indexed when
+ * they are flushed; values replaced by an update and deleted entities are dropped once the transaction commits,
+ * and a rollback restores what the entity was indexed with before. An {@link Address} is indexed as part of its
+ * employee. Without index beans in the context, e.g. in repository slice tests, writes are not tracked.
+ */
+public class SearchIndexListener {
+
+    private final ObjectProvider<TrigramIndex<?>> indexes;
+
+    public SearchIndexListener(ObjectProvider<TrigramIndex<?>> indexes) {
+        this.indexes = indexes;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void afterWrite(Object entity) {
+        Object owner = entity instanceof Address address ? address.getEmployee() : entity;
+        if (owner != null) {
+            indexes.orderedStream().filter(index -> index.getType().isInstance(owner)).forEach(index -> put(index, owner));
+        }
+    }
+
+    @PostRemove
+    public void afterDelete(Object entity) {
+        indexes.orderedStream().filter(index -> index.getType().isInstance(entity)).forEach(index -> delete(index, entity));
+    }
+
+    private static <T> void put(TrigramIndex<T> index, Object entity) {
+        T value = index.getType().cast(entity);
+        int key = index.getId(value);
+        Map<String, String> previous = index.put(value);
+        onCompletion(previous == null ? null : () -> index.prune(key, previous), () -> index.revert(key, previous));
+    }
+
+    private static <T> void delete(TrigramIndex<T> index, Object entity) {
+        int key = index.getId(index.getType().cast(entity));
+        onCompletion(() -> index.remove(key), null);
+    }
+
+    /**
+     * Applies an index change for rows removed by a bulk delete, which bypasses entity callbacks, once the current
+     * transaction commits.
+     */
+    public static void afterCommit(Runnable change) {
+        onCompletion(change, null);
+    }
+
+    /**
+     * Runs {@code commit} once the current transaction commits, or {@code rollback} if it rolls back; either may be
+     * {@code null}. Outside a transaction the write is already durable, so {@code commit} runs at once.
+     */
+    private static void onCompletion(Runnable commit, Runnable rollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (commit != null) {
+                commit.run();
+            }
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(PendingChanges.class);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(PendingChanges.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        if (commit != null) {
+            pending.commit.add(commit);
+        }
+        if (rollback != null) {
+            pending.rollback.add(rollback);
+        }
+    }
+
+    /**
+     * Index changes of one transaction, applied after it completes. Rollbacks are undone in reverse order; when the
+     * outcome is unknown the index keeps both the old and the new values.
+     */
+    private static final class PendingChanges implements TransactionSynchronization {
+
+        private final List<Runnable> commit = new ArrayList<>();
+        private final List<Runnable> rollback = new ArrayList<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(PendingChanges.class);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(PendingChanges.class, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingChanges.class);
+            if (status == STATUS_COMMITTED) {
+                commit.forEach(Runnable::run);
+            } else if (status == STATUS_ROLLED_BACK) {
+                for (int i = rollback.size() - 1; i >= 0; i--) {
+                    rollback.get(i).run();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.spring.crud.demo.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * In-process inverted index from the lower-cased trigrams of an entity's string fields to the ids of the entities
+ * holding them. A value containing a search string contains every trigram of it, so intersecting the ids of those
+ * trigrams over all searched fields gives a superset of the rows a case-insensitive {@code CONTAINING} query by
+ * example matches. The database still evaluates the example, but only against those candidate ids.
+ * <p>
+ * The index may hold ids that no longer match, never the reverse: new values are indexed as soon as they are
+ * written, stale ones are only dropped once the change is committed. That only holds for writes made through this
+ * instance after the index was {@link #markLoaded() loaded}, until then every search scans the table.
+ */
+public class TrigramIndex<T> {
+
+    static final int GRAM = 3;
+
+    private final Class<T> type;
+    private final Function<T, Integer> id;
+    private final Map<String, Function<T, String>> fields;
+    private final int maxCandidates;
+    private final Map<String, Map<String, Set<Integer>>> postings = new HashMap<>();
+    private final Map<Integer, Map<String, String>> documents = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * @param fields        indexed string fields by their path in the example probe, e.g. {@code address.city}
+     * @param maxCandidates largest candidate set worth restricting a query to, above it the query scans instead
+     */
+    public TrigramIndex(Class<T> type, Function<T, Integer> id, Map<String, Function<T, String>> fields, int maxCandidates) {
+        this.type = type;
+        this.id = id;
+        this.fields = Map.copyOf(fields);
+        this.maxCandidates = maxCandidates;
+        for (String field : this.fields.keySet()) {
+            postings.put(field, new ConcurrentHashMap<>());
+        }
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public Integer getId(T entity) {
+        return id.apply(entity);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Marks the index as holding every row of the table, from which point {@link #candidates(Object)} narrows
+     * searches instead of leaving them to scan.
+     */
+    public void markLoaded() {
+        loaded = true;
+    }
+
+    /**
+     * Indexes the current values of the entity and returns the values it was indexed with before, {@code null} for
+     * a new entity. Trigrams of the previous values stay until {@link #prune(int, Map)} is called.
+     */
+    public Map<String, String> put(T entity) {
+        int key = id.apply(entity);
+        Map<String, String> document = new HashMap<>();
+        fields.forEach((field, value) -> {
+            String normalized = normalize(value.apply(entity));
+            if (normalized != null) {
+                document.put(field, normalized);
+                for (String trigram : trigrams(normalized)) {
+                    postings.get(field).compute(trigram, (gram, ids) -> {
+                        Set<Integer> values = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                        values.add(key);
+                        return values;
+                    });
+                }
+            }
+        });
+        return documents.put(key, document);
+    }
+
+    /**
+     * Drops the trigrams of {@code previous} values the entity no longer holds.
+     */
+    public void prune(int key, Map<String, String> previous) {
+        if (previous == null) {
+            return;
+        }
+        Map<String, String> current = documents.getOrDefault(key, Map.of());
+        previous.forEach((field, value) -> {
+            Set<String> stale = trigrams(value);
+            String currentValue = current.get(field);
+            if (currentValue != null) {
+                stale.removeAll(trigrams(currentValue));
+            }
+            stale.forEach(trigram -> unpost(field, trigram, key));
+        });
+    }
+
+    /**
+     * Restores the values an entity was indexed with before a rolled back write, removing it when it had none.
+     */
+    public void revert(int key, Map<String, String> previous) {
+        if (previous == null) {
+            remove(key);
+        } else {
+            prune(key, documents.put(key, previous));
+        }
+    }
+
+    public void remove(int key) {
+        Map<String, String> document = documents.remove(key);
+        if (document != null) {
+            document.forEach((field, value) -> trigrams(value).forEach(trigram -> unpost(field, trigram, key)));
+        }
+    }
+
+    public void clear() {
+        documents.clear();
+        postings.values().forEach(Map::clear);
+    }
+
+    /**
+     * Ids of the entities that may match the probe's string fields, or empty when the index cannot narrow the search:
+     * it is not loaded yet, no indexed field of the probe has {@value #GRAM} characters or more, or more than
+     * {@code maxCandidates} ids survive the intersection.
+     */
+    public Optional<Set<Integer>> candidates(T probe) {
+        if (!loaded) {
+            return Optional.empty();
+        }
+        List<Set<Integer>> matches = new ArrayList<>();
+        for (Map.Entry<String, Function<T, String>> field : fields.entrySet()) {
+            String value = normalize(field.getValue().apply(probe));
+            if (value == null || value.length() < GRAM) {
+                continue;
+            }
+            for (String trigram : trigrams(value)) {
+                Set<Integer> ids = postings.get(field.getKey()).get(trigram);
+                if (ids == null || ids.isEmpty()) {
+                    return Optional.of(Set.of());
+                }
+                matches.add(ids);
+            }
+        }
+        if (matches.isEmpty()) {
+            return Optional.empty();
+        }
+        matches.sort(Comparator.comparingInt(Set::size));
+        Set<Integer> candidates = new HashSet<>(matches.get(0));
+        for (int i = 1; i < matches.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(matches.get(i));
+        }
+        return candidates.size() > maxCandidates ? Optional.empty() : Optional.of(candidates);
+    }
+
+    private void unpost(String field, String trigram, int key) {
+        postings.get(field).computeIfPresent(trigram, (gram, ids) -> {
+            ids.remove(key);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> trigrams(String value) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + GRAM));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,20 @@
+package com.spring.crud.demo.service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only counterpart of {@link BaseService} that returns DTOs built directly from the selected columns, for
+ * responses that never modify what they read.
+ */
+public interface BaseDtoService<T, D> {
+
+    List<D> getAllDtos();
+    Optional<D> getDtoById(int id);
+    /**
+     * Whether a record loaded by id is served from the second-level cache. Loading and mapping the entity is then
+     * cheaper than {@link #getDtoById(int)}, whose projection always queries the database.
+     */
+    boolean isRecordCached();
+    List<D> getAllDtosByExample(T entity);
+}
@@ -1,23 +1,58 @@
 package com.spring.crud.demo.service;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public interface BaseService<T> {
 
     // Select
     List<T> getAllRecords();
+    /**
+     * Reads every record through a forward-only cursor, or in keyset batches for entities with eager collections,
+     * inside a read-only transaction and hands each one to {@code action} before detaching it, so the persistence
+     * context does not grow with the row count.
+     */
+    void streamAllRecords(Consumer<T> action);
+    /**
+     * Returns up to {@code limit} records ordered by id, starting after the id {@code after} ({@code null} for the
+     * first page). Each page is a seek on the primary key, so a deep page costs as much as the first one.
+     */
+    List<T> getRecordsPage(Integer after, int limit);
     Optional<T> getRecordsById(int id);
 
     boolean existRecordById(int id);
     List<T> getAllRecordsByExample(T entity);
+    List<T> getRecordsPageByExample(T entity, Integer after, int limit);
 
     // Insert
     Optional<T> insertRecord(T entity);
-    List<T> insertBulkRecords(Iterable<T> entities);
+    /**
+     * Saves the entities in one transaction, flushing them in JDBC batches and clearing the persistence context
+     * after each batch, and returns how many were saved. The service keeps no reference to the saved entities, so
+     * memory stays bounded when {@code entities} is produced lazily; a list passed in stays as large as the caller
+     * made it.
+     */
+    int insertBulkRecords(Iterable<T> entities);
+    /**
+     * Maps and saves the partitions on the {@link IngestEngine}: they are written concurrently, each in its own
+     * transaction, and retried on failure. {@code progress} is called with the outcome of every partition.
+     */
+    <S> IngestReport ingestRecords(Iterator<List<S>> partitions, Function<S, T> mapping, Consumer<IngestPartition> progress);
 
     // Update
-    Optional<T> updateRecord(int id, T entity);
+    /**
+     * Loads the record inside a transaction and applies {@code changes} to the managed instance, so dirty checking
+     * flushes only the columns that changed instead of merging a detached copy. {@code payloadVersion} must match
+     * the stored version, otherwise the update is rejected with a
+     * {@link com.spring.crud.demo.exception.ConflictException}, or with a
+     * {@link com.spring.crud.demo.exception.PreconditionRequiredException} when it is null, see {@link RecordVersion}.
+     * A write committed by another transaction in the meantime fails the flush with an
+     * {@link org.springframework.dao.OptimisticLockingFailureException}, which is not retried.
+     */
+    Optional<T> updateRecord(int id, Integer payloadId, Integer payloadVersion, Consumer<T> changes);
 
     // Delete
     boolean deleteRecordById(int id);
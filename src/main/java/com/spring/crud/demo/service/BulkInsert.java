@@ -0,0 +1,57 @@
+package com.spring.crud.demo.service;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Persists new entities inside the caller's transaction, flushing and clearing the persistence context every
+ * {@code bulk.flush-interval} entities. Each flush sends one JDBC batch per table, and the context never holds more
+ * than one interval's worth of entities. Only the number of persisted entities is returned, no reference to them is
+ * kept.
+ * <p>
+ * Every entity is inserted as a new row: its ids and version are cleared before it is persisted, as
+ * {@code insertRecord} does for an id that is not stored, so a record carrying an existing id never overwrites it.
+ */
+@Component(value = "bulkInsert")
+public class BulkInsert {
+
+    private final EntityManager entityManager;
+    private final int flushInterval;
+
+    /**
+     * @param flushInterval entities persisted between two flushes, best a multiple of {@code hibernate.jdbc.batch_size}
+     *                      so that every flush sends full batches
+     */
+    public BulkInsert(EntityManager entityManager, @Value("${bulk.flush-interval:50}") int flushInterval) {
+        if (flushInterval < 1) {
+            throw new IllegalArgumentException("Flush interval must be greater than 0");
+        }
+        this.entityManager = entityManager;
+        this.flushInterval = flushInterval;
+    }
+
+    public int getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Clears each entity's ids with {@code asNew}, then persists it.
+     */
+    public <T> int persistAll(Iterable<T> entities, Consumer<T> asNew) {
+        int persisted = 0;
+        for (T entity : entities) {
+            asNew.accept(entity);
+            entityManager.persist(entity);
+            if (++persisted % flushInterval == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return persisted;
+    }
+}
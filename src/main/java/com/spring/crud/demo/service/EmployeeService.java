@@ -1,31 +1,69 @@
 package com.spring.crud.demo.service;
 
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
 import com.spring.crud.demo.exception.InternalServerErrorException;
 import com.spring.crud.demo.exception.NotFoundException;
 import com.spring.crud.demo.exception.RecordFoundException;
 import com.spring.crud.demo.model.emp.Employee;
+import com.spring.crud.demo.repository.EmployeeDtoRepository;
 import com.spring.crud.demo.repository.EmployeeRepository;
+import com.spring.crud.demo.search.SearchIndexListener;
+import com.spring.crud.demo.search.TrigramIndex;
+import com.spring.crud.demo.utils.Constant;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @RequiredArgsConstructor
 @Service(value = "employeeService")
-public class EmployeeService implements BaseService<Employee> {
+public class EmployeeService implements BaseService<Employee>, BaseDtoService<Employee, EmployeeDTO> {
+
+    private static final int STREAM_BATCH_SIZE = Integer.parseInt(Constant.STREAM_FETCH_SIZE);
 
     private final EmployeeRepository employeeRepository;
+    private final EmployeeDtoRepository employeeDtoRepository;
+    private final TrigramIndex<Employee> employeeSearchIndex;
+    private final EntityManager entityManager;
+    private final IngestEngine ingestEngine;
+    private final BulkInsert bulkInsert;
 
+    @Transactional(readOnly = true)
     @Override
     public List<Employee> getAllRecords() {
         return employeeRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public void streamAllRecords(Consumer<Employee> action) {
+        Limit batch = Limit.of(STREAM_BATCH_SIZE);
+        List<Integer> ids = employeeRepository.findIdsByIdGreaterThan(KeysetPage.after(null), batch);
+        while (!ids.isEmpty()) {
+            employeeRepository.findByIdInOrderByIdAsc(ids).forEach(action);
+            entityManager.clear();
+            ids = ids.size() < STREAM_BATCH_SIZE ? List.of() : employeeRepository.findIdsByIdGreaterThan(ids.get(ids.size() - 1), batch);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Employee> getRecordsPage(Integer after, int limit) {
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(KeysetPage.after(after), KeysetPage.limit(limit));
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public Optional<Employee> getRecordsById(int id) {
         Optional<Employee> optionalEmployee = employeeRepository.findById(id);
@@ -35,42 +73,98 @@ public class EmployeeService implements BaseService<Employee> {
         return optionalEmployee;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<EmployeeDTO> getAllDtos() {
+        return employeeDtoRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<EmployeeDTO> getDtoById(int id) {
+        Optional<EmployeeDTO> optionalEmployeeDTO = employeeDtoRepository.findById(id);
+        if (optionalEmployeeDTO.isEmpty()) {
+            throw new NotFoundException("No record found with id " + id);
+        }
+        return optionalEmployeeDTO;
+    }
+
+    @Override
+    public boolean isRecordCached() {
+        return SecondLevelCache.isEnabled(entityManager, Employee.class);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<EmployeeDTO> getAllDtosByExample(Employee employee) {
+        Example<Employee> employeeExample = Example.of(employee, ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING));
+        return employeeSearchIndex.candidates(employee)
+                .map(ids -> employeeDtoRepository.findAll(SearchCandidates.of(employeeExample, ids)))
+                .orElseGet(() -> employeeDtoRepository.findAll(employeeExample));
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public boolean existRecordById(int id) {
         return employeeRepository.existsById(id);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<Employee> getAllRecordsByExample(Employee employee) {
         Example<Employee> employeeExample = Example.of(employee, ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING));
-        return employeeRepository.findAll(employeeExample);
+        return employeeSearchIndex.candidates(employee)
+                .map(ids -> employeeRepository.findBy(SearchCandidates.of(employeeExample, ids), query -> query.sortBy(KeysetPage.SORT).all()))
+                .orElseGet(() -> employeeRepository.findAll(employeeExample));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Employee> getRecordsPageByExample(Employee employee, Integer after, int limit) {
+        Example<Employee> employeeExample = Example.of(employee, ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING));
+        Specification<Employee> page = employeeSearchIndex.candidates(employee)
+                .map(ids -> KeysetPage.after(employeeExample, after).and(SearchCandidates.within(ids)))
+                .orElseGet(() -> KeysetPage.after(employeeExample, after));
+        return employeeRepository.findBy(page, query -> query.sortBy(KeysetPage.SORT).limit(KeysetPage.limit(limit).max()).all());
     }
 
     @Transactional
     @Override
     public Optional<Employee> insertRecord(Employee employee) {
-        if (Objects.nonNull(employee) && Objects.nonNull(employee.getId()) && employeeRepository.existsById(employee.getId())) {
-            throw new RecordFoundException("Record already found with id " + employee.getId());
+        if (Objects.nonNull(employee) && Objects.nonNull(employee.getId())) {
+            if (employeeRepository.existsById(employee.getId())) {
+                throw new RecordFoundException("Record already found with id " + employee.getId());
+            }
+            // an id that is not stored is not taken over, the record is inserted with a generated id and a new version
+            asNew(employee);
         }
         return Optional.of(employeeRepository.save(employee));
     }
 
+    @Transactional
     @Override
-    public List<Employee> insertBulkRecords(Iterable<Employee> employees) {
-        return employeeRepository.saveAll(employees);
+    public int insertBulkRecords(Iterable<Employee> employees) {
+        return bulkInsert.persistAll(employees, EmployeeService::asNew);
+    }
+
+    @Override
+    public <S> IngestReport ingestRecords(Iterator<List<S>> partitions, Function<S, Employee> mapping, Consumer<IngestPartition> progress) {
+        return ingestEngine.ingest(partitions, mapping, employees -> bulkInsert.persistAll(employees, EmployeeService::asNew), progress);
     }
 
     @Transactional
     @Override
-    public Optional<Employee> updateRecord(int id, Employee employee) {
-        if (id > 0 && Objects.nonNull(employee) && Objects.nonNull(employee.getId())) {
-            if (id == employee.getId()) {
-                if (existRecordById(id)) {
-                    return Optional.of(employeeRepository.save(employee));
-                }
-                throw new NotFoundException("No record found with id " + id);
+    public Optional<Employee> updateRecord(int id, Integer payloadId, Integer payloadVersion, Consumer<Employee> changes) {
+        if (id > 0 && Objects.nonNull(payloadId)) {
+            if (id == payloadId) {
+                Employee employee = getRecordsById(id).orElseThrow();
+                RecordVersion.check(id, payloadVersion, employee.getVersion());
+                changes.accept(employee);
+                // flushing now returns the incremented version to the caller
+                employeeRepository.flush();
+                return Optional.of(employee);
             } else {
-                throw new InternalServerErrorException("Update Record id: " + id + " not equal to payload id: " + employee.getId());
+                throw new InternalServerErrorException("Update Record id: " + id + " not equal to payload id: " + payloadId);
             }
         } else {
             throw new NullPointerException("Payload record id is null");
@@ -80,16 +174,32 @@ public class EmployeeService implements BaseService<Employee> {
     @Transactional
     @Override
     public boolean deleteRecordById(int id) {
-        if (existRecordById(id)) {
-            employeeRepository.deleteById(id);
-            return Boolean.TRUE;
-        } else {
+        employeeRepository.bulkDeletePhoneNumbersByEmployeeId(id);
+        employeeRepository.bulkDeleteAddressByEmployeeId(id);
+        if (employeeRepository.bulkDeleteById(id) == 0) {
             return Boolean.FALSE;
         }
+        SearchIndexListener.afterCommit(() -> employeeSearchIndex.remove(id));
+        return Boolean.TRUE;
     }
 
+    @Transactional
     @Override
     public void deleteAllRecords() {
-        employeeRepository.deleteAll();
+        employeeRepository.bulkDeleteAllPhoneNumbers();
+        employeeRepository.bulkDeleteAllAddresses();
+        employeeRepository.bulkDeleteAll();
+        SearchIndexListener.afterCommit(employeeSearchIndex::clear);
+    }
+
+    private static void asNew(Employee employee) {
+        employee.setId(null);
+        employee.setVersion(null);
+        if (Objects.nonNull(employee.getAddress())) {
+            employee.getAddress().setId(null);
+        }
+        if (Objects.nonNull(employee.getPhoneNumbers())) {
+            employee.getPhoneNumbers().forEach(phoneNumber -> phoneNumber.setId(null));
+        }
     }
 }
@@ -0,0 +1,182 @@
+package com.spring.crud.demo.service;
+
+import com.spring.crud.demo.exception.InternalServerErrorException;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Writes a large import as a sequence of partitions on a fixed pool of {@code ingest.parallelism} threads. Each
+ * partition is mapped and written in its own {@code REQUIRES_NEW} transaction, so it runs on its own pooled
+ * connection. Partitions are pulled from the caller's iterator only when a thread is free, so at most
+ * {@code ingest.parallelism} of them are held at once. A failed partition is rolled back without affecting the
+ * others. When the failure is transient, such as a lock timeout, a deadlock victim or a lost connection, it is mapped
+ * again from its sources, up to {@code ingest.max-attempts} times; any other failure, a constraint violation for
+ * instance, would fail the same way again and is reported at once.
+ */
+@Slf4j
+@Component(value = "ingestEngine")
+public class IngestEngine {
+
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final int maxAttempts;
+
+    public IngestEngine(PlatformTransactionManager transactionManager,
+                        @Value("${ingest.parallelism:0}") int parallelism,
+                        @Value("${ingest.max-attempts:3}") int maxAttempts,
+                        @Value("${spring.datasource.dbcp2.max-total:8}") int maxConnections) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be greater than 0");
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        this.parallelism = parallelism > 0 ? parallelism : maxConnections > 0 ? Math.min(processors, maxConnections) : processors;
+        this.maxAttempts = maxAttempts;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = Executors.newFixedThreadPool(this.parallelism, threadFactory());
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Writes every partition of {@code partitions} and calls {@code progress} on the calling thread as each one
+     * completes, in completion order. Partitions are numbered in the order they are read.
+     */
+    public <S, T> IngestReport ingest(Iterator<List<S>> partitions, Function<S, T> mapping, ToIntFunction<List<T>> writer, Consumer<IngestPartition> progress) {
+        long start = System.nanoTime();
+        CompletionService<IngestPartition> completionService = new ExecutorCompletionService<>(executor);
+        Tally tally = new Tally();
+        int submitted = 0;
+        try {
+            while (partitions.hasNext()) {
+                if (submitted - tally.completed == parallelism) {
+                    progress.accept(tally.add(take(completionService)));
+                }
+                List<S> slice = partitions.next();
+                int index = submitted++;
+                completionService.submit(() -> writePartition(index, slice, mapping, writer));
+            }
+        } finally {
+            while (tally.completed < submitted) {
+                progress.accept(tally.add(take(completionService)));
+            }
+        }
+        IngestReport report = new IngestReport(submitted, tally.completed, List.copyOf(tally.failedPartitions), tally.records, tally.retries,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        log.info("Ingested {} records in {} partitions with {} threads in {} ms, {} retries, failed partitions {}",
+                report.records(), submitted, parallelism, report.elapsedMillis(), report.retries(), report.failedPartitions());
+        return report;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <S, T> IngestPartition writePartition(int partition, List<S> sources, Function<S, T> mapping, ToIntFunction<List<T>> writer) {
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer written = transactionTemplate.execute(status -> {
+                    List<T> entities = new ArrayList<>(sources.size());
+                    for (S source : sources) {
+                        entities.add(mapping.apply(source));
+                    }
+                    return writer.applyAsInt(entities);
+                });
+                return new IngestPartition(partition, written == null ? 0 : written, attempt, false, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } catch (RuntimeException e) {
+                log.warn("Ingest partition {} failed on attempt {} of {}: {}", partition, attempt, maxAttempts, e.getMessage());
+                if (attempt == maxAttempts || !isTransient(e)) {
+                    return new IngestPartition(partition, 0, attempt, true, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether a retry may succeed: Spring's transient and recoverable data access failures, which include pessimistic
+     * locking failures, connection failures, and the JPA and JDBC exceptions they translate when they reach the
+     * engine untranslated.
+     */
+    static boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof TransientDataAccessException || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException || cause instanceof CannotCreateTransactionException
+                    || cause instanceof PessimisticLockException || cause instanceof LockTimeoutException
+                    || cause instanceof SQLTransientException || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static IngestPartition take(CompletionService<IngestPartition> completionService) {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerErrorException("Ingest interrupted");
+        } catch (ExecutionException e) {
+            throw new InternalServerErrorException("Ingest partition failed: " + e.getCause().getMessage());
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "ingest-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Tally {
+
+        private final List<Integer> failedPartitions = new ArrayList<>();
+        private int completed;
+        private long records;
+        private int retries;
+
+        private IngestPartition add(IngestPartition partition) {
+            completed++;
+            records += partition.records();
+            retries += partition.attempts() - 1;
+            if (partition.failed()) {
+                failedPartitions.add(partition.partition());
+            }
+            return partition;
+        }
+    }
+}
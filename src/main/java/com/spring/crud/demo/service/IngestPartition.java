@@ -0,0 +1,7 @@
+package com.spring.crud.demo.service;
+
+/**
+ * Outcome of one ingest partition: {@code records} written after {@code attempts} tries, or {@code failed} when the
+ * last attempt was rolled back too. {@code elapsedMillis} covers every attempt.
+ */
+public record IngestPartition(Integer partition, Integer records, Integer attempts, Boolean failed, Long elapsedMillis) { }
@@ -0,0 +1,10 @@
+package com.spring.crud.demo.service;
+
+import java.util.List;
+
+/**
+ * Summary of a partitioned ingest: {@code records} counts the rows written by the completed partitions,
+ * {@code retries} the attempts repeated after a partition failed and {@code failedPartitions} the partitions given
+ * up on after the last attempt.
+ */
+public record IngestReport(Integer partitions, Integer completedPartitions, List<Integer> failedPartitions, Long records, Integer retries, Long elapsedMillis) { }
@@ -0,0 +1,49 @@
+package com.spring.crud.demo.service;
+
+import com.spring.crud.demo.exception.BadRequestException;
+import com.spring.crud.demo.utils.Constant;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Keyset pages ordered by the primary key: a page is the first {@code limit} rows with an id greater than the last
+ * id of the previous page, so the database seeks straight to it through the primary key index instead of reading
+ * and discarding the rows before it as an {@code OFFSET} would.
+ */
+final class KeysetPage {
+
+    static final String KEY = "id";
+    static final Sort SORT = Sort.by(Sort.Direction.ASC, KEY);
+
+    private KeysetPage() {
+    }
+
+    /**
+     * Id to start after, {@code 0} for the first page.
+     */
+    static int after(Integer after) {
+        return after == null ? 0 : after;
+    }
+
+    static Limit limit(int limit) {
+        if (limit < 1 || limit > Constant.MAX_PAGE_SIZE) {
+            throw new BadRequestException("Limit must be between 1 and " + Constant.MAX_PAGE_SIZE + ": " + limit);
+        }
+        return Limit.of(limit);
+    }
+
+    /**
+     * Restricts the query by example to the rows after the given id.
+     */
+    static <T> Specification<T> after(Example<T> example, Integer after) {
+        return (root, query, builder) -> {
+            Predicate keyset = builder.greaterThan(root.get(KEY), after(after));
+            Predicate predicate = QueryByExamplePredicateBuilder.getPredicate(root, builder, example);
+            return predicate == null ? keyset : builder.and(predicate, keyset);
+        };
+    }
+}
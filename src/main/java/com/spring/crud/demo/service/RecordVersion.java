@@ -0,0 +1,28 @@
+package com.spring.crud.demo.service;
+
+import com.spring.crud.demo.exception.ConflictException;
+import com.spring.crud.demo.exception.PreconditionRequiredException;
+
+/**
+ * Optimistic check of the version an update payload was read at against the version of the stored record.
+ * <p>
+ * The version is required: a payload without one is rejected with {@code 428 Precondition Required} instead of
+ * silently overwriting whatever was committed since the client read the record. A matching version is still
+ * protected against a write committed between the load and the flush, Hibernate repeats the check in the
+ * {@code WHERE} clause of the update and the resulting {@link org.springframework.dao.OptimisticLockingFailureException}
+ * is answered with {@code 409 Conflict}.
+ */
+final class RecordVersion {
+
+    private RecordVersion() {
+    }
+
+    static void check(int id, Integer expected, Integer current) {
+        if (expected == null) {
+            throw new PreconditionRequiredException("Record with id " + id + " is at version " + current + ", payload has no version");
+        }
+        if (!expected.equals(current)) {
+            throw new ConflictException("Record with id " + id + " is at version " + current + ", payload has version " + expected);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.spring.crud.demo.service;
+
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Example;
+import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+
+/**
+ * Queries by example restricted to the candidate ids of a {@link com.spring.crud.demo.search.TrigramIndex}: the
+ * database verifies the example's {@code LIKE} predicates only for those rows, looked up through the primary key,
+ * instead of evaluating them on every row.
+ */
+final class SearchCandidates {
+
+    private SearchCandidates() {
+    }
+
+    static <T> Specification<T> within(Set<Integer> ids) {
+        return (root, query, builder) -> ids.isEmpty() ? builder.disjunction() : root.get(KeysetPage.KEY).in(ids);
+    }
+
+    static <T> Specification<T> of(Example<T> example, Set<Integer> ids) {
+        return (root, query, builder) -> {
+            Predicate candidates = SearchCandidates.<T>within(ids).toPredicate(root, query, builder);
+            Predicate predicate = QueryByExamplePredicateBuilder.getPredicate(root, builder, example);
+            return predicate == null ? candidates : builder.and(predicate, candidates);
+        };
+    }
+}
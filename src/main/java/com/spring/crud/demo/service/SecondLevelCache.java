@@ -0,0 +1,20 @@
+package com.spring.crud.demo.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Tells whether Hibernate reads an entity from the second-level cache: the cache is switched on and the entity is
+ * mapped as cacheable.
+ */
+final class SecondLevelCache {
+
+    private SecondLevelCache() {
+    }
+
+    static boolean isEnabled(EntityManager entityManager, Class<?> entityClass) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        return sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()
+                && sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass).canReadFromCache();
+    }
+}
@@ -0,0 +1,53 @@
+package com.spring.crud.demo.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs entity list queries in a Hibernate {@link StatelessSession} when {@code read.stateless.enabled} is set. The
+ * returned entities are detached from the start: no entity map, no snapshots, nothing to flush and no second-level
+ * cache puts. Only meant for entities without collections, a stateless session cannot load them lazily.
+ * <p>
+ * Over HTTP this covers the keyset pages of the list endpoints. The unpaged list is read as a column projection
+ * ({@code getAllDtos}), which builds no entities and so has nothing for a stateless session to save.
+ * <p>
+ * The stateless session runs on the JDBC connection of the current session, so it reads inside the caller's
+ * transaction and from the same replica.
+ */
+@Component(value = "statelessReader")
+public class StatelessReader {
+
+    private final EntityManager entityManager;
+    private final boolean enabled;
+
+    public StatelessReader(EntityManager entityManager, @Value("${read.stateless.enabled:false}") boolean enabled) {
+        this.entityManager = entityManager;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public <T> List<T> list(String hql, Class<T> type, Map<String, ?> parameters, Limit limit) {
+        Session session = entityManager.unwrap(Session.class);
+        return session.doReturningWork(connection -> {
+            try (StatelessSession statelessSession = session.getSessionFactory().openStatelessSession(connection)) {
+                SelectionQuery<T> query = statelessSession.createSelectionQuery(hql, type);
+                parameters.forEach(query::setParameter);
+                if (limit.isLimited()) {
+                    query.setMaxResults(limit.max());
+                }
+                return query.getResultList();
+            }
+        });
+    }
+}
@@ -1,30 +1,76 @@
 package com.spring.crud.demo.service;
 
+import com.spring.crud.demo.dto.StudentDTO;
 import com.spring.crud.demo.exception.InternalServerErrorException;
 import com.spring.crud.demo.exception.NotFoundException;
 import com.spring.crud.demo.exception.RecordFoundException;
 import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.repository.StudentDtoRepository;
 import com.spring.crud.demo.repository.StudentRepository;
+import com.spring.crud.demo.search.SearchIndexListener;
+import com.spring.crud.demo.search.TrigramIndex;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service(value = "studentService")
-public class StudentService implements BaseService<Student> {
+public class StudentService implements BaseService<Student>, BaseDtoService<Student, StudentDTO> {
 
     private final StudentRepository studentRepository;
+    private final StudentDtoRepository studentDtoRepository;
+    private final TrigramIndex<Student> studentSearchIndex;
+    private final EntityManager entityManager;
+    private final IngestEngine ingestEngine;
+    private final BulkInsert bulkInsert;
+    private final StatelessReader statelessReader;
 
+    @Transactional(readOnly = true)
     @Override
     public List<Student> getAllRecords() {
+        if (statelessReader.isEnabled()) {
+            return statelessReader.list("select s from Student s", Student.class, Map.of(), Limit.unlimited());
+        }
         return studentRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public void streamAllRecords(Consumer<Student> action) {
+        try (Stream<Student> studentStream = studentRepository.streamAll()) {
+            studentStream.forEach(student -> {
+                action.accept(student);
+                entityManager.detach(student);
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Student> getRecordsPage(Integer after, int limit) {
+        Limit page = KeysetPage.limit(limit);
+        if (statelessReader.isEnabled()) {
+            return statelessReader.list("select s from Student s where s.id > :after order by s.id", Student.class,
+                    Map.of("after", KeysetPage.after(after)), page);
+        }
+        return studentRepository.findByIdGreaterThanOrderByIdAsc(KeysetPage.after(after), page);
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public Optional<Student> getRecordsById(int id) {
         Optional<Student> optionalStudent = studentRepository.findById(id);
@@ -34,59 +80,123 @@ public class StudentService implements BaseService<Student> {
         return optionalStudent;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<StudentDTO> getAllDtos() {
+        return studentDtoRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<StudentDTO> getDtoById(int id) {
+        Optional<StudentDTO> optionalStudentDTO = studentDtoRepository.findById(id);
+        if (optionalStudentDTO.isEmpty()) {
+            throw new NotFoundException("No record found with id " + id);
+        }
+        return optionalStudentDTO;
+    }
+
+    @Override
+    public boolean isRecordCached() {
+        return SecondLevelCache.isEnabled(entityManager, Student.class);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<StudentDTO> getAllDtosByExample(Student student) {
+        Example<Student> studentExample = Example.of(student, ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING));
+        return studentSearchIndex.candidates(student)
+                .map(ids -> studentDtoRepository.findAll(SearchCandidates.of(studentExample, ids)))
+                .orElseGet(() -> studentDtoRepository.findAll(studentExample));
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public boolean existRecordById(int id) {
         return studentRepository.existsById(id);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<Student> getAllRecordsByExample(Student student) {
         Example<Student> studentExample = Example.of(student, ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING));
-        return studentRepository.findAll(studentExample);
+        return studentSearchIndex.candidates(student)
+                .map(ids -> studentRepository.findBy(SearchCandidates.of(studentExample, ids), query -> query.sortBy(KeysetPage.SORT).all()))
+                .orElseGet(() -> studentRepository.findAll(studentExample));
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<Student> getRecordsPageByExample(Student student, Integer after, int limit) {
+        Example<Student> studentExample = Example.of(student, ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING));
+        Specification<Student> page = studentSearchIndex.candidates(student)
+                .map(ids -> KeysetPage.after(studentExample, after).and(SearchCandidates.within(ids)))
+                .orElseGet(() -> KeysetPage.after(studentExample, after));
+        return studentRepository.findBy(page, query -> query.sortBy(KeysetPage.SORT).limit(KeysetPage.limit(limit).max()).all());
+    }
+
+    @Transactional
     @Override
     public Optional<Student> insertRecord(Student student) {
-        if (Objects.nonNull(student) && Objects.nonNull(student.getId()) && studentRepository.existsById(student.getId())) {
-            throw new RecordFoundException("Record already found with id " + student.getId());
+        if (Objects.nonNull(student) && Objects.nonNull(student.getId())) {
+            if (studentRepository.existsById(student.getId())) {
+                throw new RecordFoundException("Record already found with id " + student.getId());
+            }
+            // an id that is not stored is not taken over, the record is inserted with a generated id and a new version
+            asNew(student);
         }
         return Optional.of(studentRepository.save(student));
     }
 
+    @Transactional
+    @Override
+    public int insertBulkRecords(Iterable<Student> students) {
+        return bulkInsert.persistAll(students, StudentService::asNew);
+    }
+
     @Override
-    public List<Student> insertBulkRecords(Iterable<Student> students) {
-        return studentRepository.saveAll(students);
+    public <S> IngestReport ingestRecords(Iterator<List<S>> partitions, Function<S, Student> mapping, Consumer<IngestPartition> progress) {
+        return ingestEngine.ingest(partitions, mapping, students -> bulkInsert.persistAll(students, StudentService::asNew), progress);
     }
 
+    @Transactional
     @Override
-    public Optional<Student> updateRecord(int id, Student student) {
-        if (id > 0 && Objects.nonNull(student) && Objects.nonNull(student.getId())) {
-            if (id == student.getId()) {
-                if (existRecordById(id)) {
-                    return Optional.of(studentRepository.save(student));
-                }
-                throw new NotFoundException("No record found with id " + id);
+    public Optional<Student> updateRecord(int id, Integer payloadId, Integer payloadVersion, Consumer<Student> changes) {
+        if (id > 0 && Objects.nonNull(payloadId)) {
+            if (id == payloadId) {
+                Student student = getRecordsById(id).orElseThrow();
+                RecordVersion.check(id, payloadVersion, student.getVersion());
+                changes.accept(student);
+                // flushing now returns the incremented version to the caller
+                studentRepository.flush();
+                return Optional.of(student);
             } else {
-                throw new InternalServerErrorException("Update Record id: " + id + " not equal to payload id: " + student.getId());
+                throw new InternalServerErrorException("Update Record id: " + id + " not equal to payload id: " + payloadId);
             }
         } else {
             throw new NullPointerException("Payload record id is null");
         }
     }
 
+    @Transactional
     @Override
     public boolean deleteRecordById(int id) {
-        if (existRecordById(id)) {
-            studentRepository.deleteById(id);
-            return Boolean.TRUE;
-        } else {
+        if (studentRepository.bulkDeleteById(id) == 0) {
             return Boolean.FALSE;
         }
+        SearchIndexListener.afterCommit(() -> studentSearchIndex.remove(id));
+        return Boolean.TRUE;
     }
 
+    @Transactional
     @Override
     public void deleteAllRecords() {
-        studentRepository.deleteAll();
+        studentRepository.bulkDeleteAll();
+        SearchIndexListener.afterCommit(studentSearchIndex::clear);
     }
 
+    private static void asNew(Student student) {
+        student.setId(null);
+        student.setVersion(null);
+    }
 }
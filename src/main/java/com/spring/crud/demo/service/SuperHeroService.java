@@ -1,30 +1,76 @@
 package com.spring.crud.demo.service;
 
+import com.spring.crud.demo.dto.SuperHeroDTO;
 import com.spring.crud.demo.exception.InternalServerErrorException;
 import com.spring.crud.demo.exception.NotFoundException;
 import com.spring.crud.demo.exception.RecordFoundException;
 import com.spring.crud.demo.model.SuperHero;
+import com.spring.crud.demo.repository.SuperHeroDtoRepository;
 import com.spring.crud.demo.repository.SuperHeroRepository;
+import com.spring.crud.demo.search.SearchIndexListener;
+import com.spring.crud.demo.search.TrigramIndex;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service(value = "superHeroServiceImpl")
-public class SuperHeroService implements BaseService<SuperHero> {
+public class SuperHeroService implements BaseService<SuperHero>, BaseDtoService<SuperHero, SuperHeroDTO> {
 
     private final SuperHeroRepository superHeroRepository;
+    private final SuperHeroDtoRepository superHeroDtoRepository;
+    private final TrigramIndex<SuperHero> superHeroSearchIndex;
+    private final EntityManager entityManager;
+    private final IngestEngine ingestEngine;
+    private final BulkInsert bulkInsert;
+    private final StatelessReader statelessReader;
 
+    @Transactional(readOnly = true)
     @Override
     public List<SuperHero> getAllRecords() {
+        if (statelessReader.isEnabled()) {
+            return statelessReader.list("select h from SuperHero h", SuperHero.class, Map.of(), Limit.unlimited());
+        }
         return superHeroRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public void streamAllRecords(Consumer<SuperHero> action) {
+        try (Stream<SuperHero> superHeroStream = superHeroRepository.streamAll()) {
+            superHeroStream.forEach(superHero -> {
+                action.accept(superHero);
+                entityManager.detach(superHero);
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<SuperHero> getRecordsPage(Integer after, int limit) {
+        Limit page = KeysetPage.limit(limit);
+        if (statelessReader.isEnabled()) {
+            return statelessReader.list("select h from SuperHero h where h.id > :after order by h.id", SuperHero.class,
+                    Map.of("after", KeysetPage.after(after)), page);
+        }
+        return superHeroRepository.findByIdGreaterThanOrderByIdAsc(KeysetPage.after(after), page);
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public Optional<SuperHero> getRecordsById(int id) {
         Optional<SuperHero> optionalSuperHero = superHeroRepository.findById(id);
@@ -34,58 +80,123 @@ public class SuperHeroService implements BaseService<SuperHero> {
         return optionalSuperHero;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<SuperHeroDTO> getAllDtos() {
+        return superHeroDtoRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<SuperHeroDTO> getDtoById(int id) {
+        Optional<SuperHeroDTO> optionalSuperHeroDTO = superHeroDtoRepository.findById(id);
+        if (optionalSuperHeroDTO.isEmpty()) {
+            throw new NotFoundException("No record found with id " + id);
+        }
+        return optionalSuperHeroDTO;
+    }
+
+    @Override
+    public boolean isRecordCached() {
+        return SecondLevelCache.isEnabled(entityManager, SuperHero.class);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<SuperHeroDTO> getAllDtosByExample(SuperHero superHero) {
+        Example<SuperHero> superHeroExample = Example.of(superHero, ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING));
+        return superHeroSearchIndex.candidates(superHero)
+                .map(ids -> superHeroDtoRepository.findAll(SearchCandidates.of(superHeroExample, ids)))
+                .orElseGet(() -> superHeroDtoRepository.findAll(superHeroExample));
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public boolean existRecordById(int id) {
         return superHeroRepository.existsById(id);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<SuperHero> getAllRecordsByExample(SuperHero superHero) {
         Example<SuperHero> superHeroExample = Example.of(superHero, ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING));
-        return superHeroRepository.findAll(superHeroExample);
+        return superHeroSearchIndex.candidates(superHero)
+                .map(ids -> superHeroRepository.findBy(SearchCandidates.of(superHeroExample, ids), query -> query.sortBy(KeysetPage.SORT).all()))
+                .orElseGet(() -> superHeroRepository.findAll(superHeroExample));
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<SuperHero> getRecordsPageByExample(SuperHero superHero, Integer after, int limit) {
+        Example<SuperHero> superHeroExample = Example.of(superHero, ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING));
+        Specification<SuperHero> page = superHeroSearchIndex.candidates(superHero)
+                .map(ids -> KeysetPage.after(superHeroExample, after).and(SearchCandidates.within(ids)))
+                .orElseGet(() -> KeysetPage.after(superHeroExample, after));
+        return superHeroRepository.findBy(page, query -> query.sortBy(KeysetPage.SORT).limit(KeysetPage.limit(limit).max()).all());
+    }
+
+    @Transactional
     @Override
     public Optional<SuperHero> insertRecord(SuperHero superHero) {
-        if (Objects.nonNull(superHero) && Objects.nonNull(superHero.getId()) && superHeroRepository.existsById(superHero.getId())) {
-            throw new RecordFoundException("Record already found with id " + superHero.getId());
+        if (Objects.nonNull(superHero) && Objects.nonNull(superHero.getId())) {
+            if (superHeroRepository.existsById(superHero.getId())) {
+                throw new RecordFoundException("Record already found with id " + superHero.getId());
+            }
+            // an id that is not stored is not taken over, the record is inserted with a generated id and a new version
+            asNew(superHero);
         }
         return Optional.of(superHeroRepository.save(superHero));
     }
 
+    @Transactional
+    @Override
+    public int insertBulkRecords(Iterable<SuperHero> students) {
+        return bulkInsert.persistAll(students, SuperHeroService::asNew);
+    }
+
     @Override
-    public List<SuperHero> insertBulkRecords(Iterable<SuperHero> students) {
-        return superHeroRepository.saveAll(students);
+    public <S> IngestReport ingestRecords(Iterator<List<S>> partitions, Function<S, SuperHero> mapping, Consumer<IngestPartition> progress) {
+        return ingestEngine.ingest(partitions, mapping, superHeroes -> bulkInsert.persistAll(superHeroes, SuperHeroService::asNew), progress);
     }
 
+    @Transactional
     @Override
-    public Optional<SuperHero> updateRecord(int id, SuperHero superHero) {
-        if (id > 0 && Objects.nonNull(superHero) && Objects.nonNull(superHero.getId())) {
-            if (id == superHero.getId()) {
-                if (existRecordById(id)) {
-                    return Optional.of(superHeroRepository.save(superHero));
-                }
-                throw new NotFoundException("No record found with id " + id);
+    public Optional<SuperHero> updateRecord(int id, Integer payloadId, Integer payloadVersion, Consumer<SuperHero> changes) {
+        if (id > 0 && Objects.nonNull(payloadId)) {
+            if (id == payloadId) {
+                SuperHero superHero = getRecordsById(id).orElseThrow();
+                RecordVersion.check(id, payloadVersion, superHero.getVersion());
+                changes.accept(superHero);
+                // flushing now returns the incremented version to the caller
+                superHeroRepository.flush();
+                return Optional.of(superHero);
             } else {
-                throw new InternalServerErrorException("Update Record id: " + id + " not equal to payload id: " + superHero.getId());
+                throw new InternalServerErrorException("Update Record id: " + id + " not equal to payload id: " + payloadId);
             }
         } else {
             throw new NullPointerException("Payload record id is null");
         }
     }
 
+    @Transactional
     @Override
     public boolean deleteRecordById(int id) {
-        if (existRecordById(id)) {
-            superHeroRepository.deleteById(id);
-            return Boolean.TRUE;
-        } else {
+        if (superHeroRepository.bulkDeleteById(id) == 0) {
             return Boolean.FALSE;
         }
+        SearchIndexListener.afterCommit(() -> superHeroSearchIndex.remove(id));
+        return Boolean.TRUE;
     }
 
+    @Transactional
     @Override
     public void deleteAllRecords() {
-        superHeroRepository.deleteAll();
+        superHeroRepository.bulkDeleteAll();
+        SearchIndexListener.afterCommit(superHeroSearchIndex::clear);
+    }
+
+    private static void asNew(SuperHero superHero) {
+        superHero.setId(null);
+        superHero.setVersion(null);
     }
 }
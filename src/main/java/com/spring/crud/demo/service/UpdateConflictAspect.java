@@ -0,0 +1,51 @@
+package com.spring.crud.demo.service;
+
+import com.spring.crud.demo.exception.ConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the optimistic locking conflicts of {@link BaseService#updateRecord(int, Integer, Integer, java.util.function.Consumer)},
+ * tagged by service and cause, and lets them through to be answered with {@code 409 Conflict}.
+ * <p>
+ * A payload read at an older version than the stored one is counted as {@code cause=stale-version}, another
+ * transaction committing the record between the load and the flush as {@code cause=concurrent-write}. Neither is
+ * retried: reapplying the payload on top of the other write would silently overwrite it.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UpdateConflictAspect {
+
+    static final String CONFLICT_COUNTER = "record.update.conflicts";
+
+    private final MeterRegistry meterRegistry;
+
+    public UpdateConflictAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.spring.crud.demo.service.BaseService+.updateRecord(int, Integer, Integer, java.util.function.Consumer))")
+    public Object countConflicts(ProceedingJoinPoint joinPoint) throws Throwable {
+        try {
+            return joinPoint.proceed();
+        } catch (ConflictException e) {
+            meterRegistry.counter(CONFLICT_COUNTER, "service", service(joinPoint), "cause", "stale-version").increment();
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            meterRegistry.counter(CONFLICT_COUNTER, "service", service(joinPoint), "cause", "concurrent-write").increment();
+            throw e;
+        }
+    }
+
+    private static String service(ProceedingJoinPoint joinPoint) {
+        return AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+    }
+}
@@ -4,4 +4,9 @@ public class Constant {
     public static final String TIME_FORMAT = "HH:mm:ss";
     public static final String DATE_FORMAT = "dd-MM-yyyy";
     public static final String DATE_TIME_FORMAT = "dd-MM-yyyy HH:mm:ss";
+    public static final String STREAM_FETCH_SIZE = "256";
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int MAX_PAGE_SIZE = 1000;
 }
@@ -0,0 +1,42 @@
+package com.spring.crud.demo.xml;
+
+import com.spring.crud.demo.dto.emp.AddressDTO;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+public class AddressDTOXmlCodec extends DtoXmlCodec<AddressDTO> {
+
+    public AddressDTOXmlCodec() {
+        super(AddressDTO.class, "address", "addresses");
+    }
+
+    @Override
+    protected AddressDTO newInstance() {
+        return new AddressDTO();
+    }
+
+    @Override
+    protected void writeFields(XMLStreamWriter writer, AddressDTO value) throws XMLStreamException {
+        writeText(writer, "id", value.getId());
+        writeText(writer, "streetAddress", value.getStreetAddress());
+        writeText(writer, "city", value.getCity());
+        writeText(writer, "state", value.getState());
+        writeText(writer, "country", value.getCountry());
+        writeText(writer, "postalCode", value.getPostalCode());
+    }
+
+    @Override
+    protected void readField(XMLStreamReader reader, String name, AddressDTO value) throws XMLStreamException {
+        switch (name) {
+            case "id" -> value.setId(readText(reader, Integer::valueOf));
+            case "streetAddress" -> value.setStreetAddress(reader.getElementText());
+            case "city" -> value.setCity(reader.getElementText());
+            case "state" -> value.setState(reader.getElementText());
+            case "country" -> value.setCountry(reader.getElementText());
+            case "postalCode" -> value.setPostalCode(reader.getElementText());
+            default -> skip(reader);
+        }
+    }
+}
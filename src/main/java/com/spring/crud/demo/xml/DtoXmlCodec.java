@@ -0,0 +1,169 @@
+package com.spring.crud.demo.xml;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * StAX reader and writer for one DTO type. Properties are written as child elements named after the field and
+ * omitted when {@code null}; unknown elements are skipped on read. Lists are wrapped in {@link #getListElement()}
+ * and written one element at a time, so nothing but the value being written is buffered.
+ */
+public abstract class DtoXmlCodec<T> {
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final Class<T> type;
+    private final String element;
+    private final String listElement;
+
+    protected DtoXmlCodec(Class<T> type, String element, String listElement) {
+        this.type = type;
+        this.element = element;
+        this.listElement = listElement;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public String getElement() {
+        return element;
+    }
+
+    public String getListElement() {
+        return listElement;
+    }
+
+    protected abstract T newInstance();
+
+    protected abstract void writeFields(XMLStreamWriter writer, T value) throws XMLStreamException;
+
+    /**
+     * Reads the child element the reader is positioned on into {@code value}, leaving the reader on its end tag.
+     */
+    protected abstract void readField(XMLStreamReader reader, String name, T value) throws XMLStreamException;
+
+    public void write(XMLStreamWriter writer, String name, T value) throws XMLStreamException {
+        writer.writeStartElement(name);
+        writeFields(writer, value);
+        writer.writeEndElement();
+    }
+
+    public void writeList(XMLStreamWriter writer, List<T> values) throws XMLStreamException {
+        writer.writeStartElement(listElement);
+        for (T value : values) {
+            write(writer, element, value);
+        }
+        writer.writeEndElement();
+    }
+
+    /**
+     * Reads the element the reader is positioned on, leaving the reader on its end tag.
+     */
+    public T read(XMLStreamReader reader) throws XMLStreamException {
+        T value = newInstance();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            readField(reader, reader.getLocalName(), value);
+        }
+        return value;
+    }
+
+    public List<T> readList(XMLStreamReader reader) throws XMLStreamException {
+        return readElements(reader, this::read);
+    }
+
+    public static XMLStreamWriter createWriter(OutputStream outputStream) throws XMLStreamException {
+        return OUTPUT_FACTORY.createXMLStreamWriter(outputStream, StandardCharsets.UTF_8.name());
+    }
+
+    /**
+     * Opens a reader positioned on the root element of the document.
+     */
+    public static XMLStreamReader createReader(InputStream inputStream) throws XMLStreamException {
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(inputStream);
+        reader.nextTag();
+        return reader;
+    }
+
+    protected static void writeText(XMLStreamWriter writer, String name, Object value) throws XMLStreamException {
+        if (value != null) {
+            writer.writeStartElement(name);
+            writer.writeCharacters(value.toString());
+            writer.writeEndElement();
+        }
+    }
+
+    protected static void writeTexts(XMLStreamWriter writer, String name, String itemName, List<String> values) throws XMLStreamException {
+        if (values != null) {
+            writer.writeStartElement(name);
+            for (String value : values) {
+                writeText(writer, itemName, value);
+            }
+            writer.writeEndElement();
+        }
+    }
+
+    protected static <V> void writeElements(XMLStreamWriter writer, String name, DtoXmlCodec<V> codec, List<V> values) throws XMLStreamException {
+        if (values != null) {
+            writer.writeStartElement(name);
+            for (V value : values) {
+                codec.write(writer, codec.getElement(), value);
+            }
+            writer.writeEndElement();
+        }
+    }
+
+    protected static List<String> readTexts(XMLStreamReader reader) throws XMLStreamException {
+        return readElements(reader, XMLStreamReader::getElementText);
+    }
+
+    protected static <V> List<V> readElements(XMLStreamReader reader, ElementReader<V> elementReader) throws XMLStreamException {
+        List<V> values = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            values.add(elementReader.read(reader));
+        }
+        return values;
+    }
+
+    protected static <V> V readText(XMLStreamReader reader, Function<String, V> parser) throws XMLStreamException {
+        return parser.apply(reader.getElementText());
+    }
+
+    /**
+     * Skips the element the reader is positioned on, including its children.
+     */
+    protected static void skip(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    @FunctionalInterface
+    protected interface ElementReader<V> {
+        V read(XMLStreamReader reader) throws XMLStreamException;
+    }
+}
@@ -0,0 +1,57 @@
+package com.spring.crud.demo.xml;
+
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+public class EmployeeDTOXmlCodec extends DtoXmlCodec<EmployeeDTO> {
+
+    private final AddressDTOXmlCodec addressCodec = new AddressDTOXmlCodec();
+    private final PhoneNumberDTOXmlCodec phoneNumberCodec = new PhoneNumberDTOXmlCodec();
+
+    public EmployeeDTOXmlCodec() {
+        super(EmployeeDTO.class, "employee", "employees");
+    }
+
+    @Override
+    protected EmployeeDTO newInstance() {
+        return new EmployeeDTO();
+    }
+
+    @Override
+    protected void writeFields(XMLStreamWriter writer, EmployeeDTO value) throws XMLStreamException {
+        writeText(writer, "id", value.getId());
+        writeText(writer, "version", value.getVersion());
+        writeText(writer, "firstName", value.getFirstName());
+        writeText(writer, "lastName", value.getLastName());
+        writeText(writer, "age", value.getAge());
+        writeText(writer, "noOfChildrens", value.getNoOfChildrens());
+        writeText(writer, "spouse", value.getSpouse());
+        writeText(writer, "dateOfJoining", value.getDateOfJoining());
+        writeTexts(writer, "hobbies", "hobby", value.getHobbies());
+        if (value.getAddress() != null) {
+            addressCodec.write(writer, "address", value.getAddress());
+        }
+        writeElements(writer, "phoneNumbers", phoneNumberCodec, value.getPhoneNumbers());
+    }
+
+    @Override
+    protected void readField(XMLStreamReader reader, String name, EmployeeDTO value) throws XMLStreamException {
+        switch (name) {
+            case "id" -> value.setId(readText(reader, Integer::valueOf));
+            case "version" -> value.setVersion(readText(reader, Integer::valueOf));
+            case "firstName" -> value.setFirstName(reader.getElementText());
+            case "lastName" -> value.setLastName(reader.getElementText());
+            case "age" -> value.setAge(readText(reader, Integer::valueOf));
+            case "noOfChildrens" -> value.setNoOfChildrens(readText(reader, Integer::valueOf));
+            case "spouse" -> value.setSpouse(readText(reader, Boolean::valueOf));
+            case "dateOfJoining" -> value.setDateOfJoining(reader.getElementText());
+            case "hobbies" -> value.setHobbies(readTexts(reader));
+            case "address" -> value.setAddress(addressCodec.read(reader));
+            case "phoneNumbers" -> value.setPhoneNumbers(readElements(reader, phoneNumberCodec::read));
+            default -> skip(reader);
+        }
+    }
+}
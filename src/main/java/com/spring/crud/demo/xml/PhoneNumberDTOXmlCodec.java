@@ -0,0 +1,36 @@
+package com.spring.crud.demo.xml;
+
+import com.spring.crud.demo.dto.emp.PhoneNumberDTO;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+public class PhoneNumberDTOXmlCodec extends DtoXmlCodec<PhoneNumberDTO> {
+
+    public PhoneNumberDTOXmlCodec() {
+        super(PhoneNumberDTO.class, "phoneNumber", "phoneNumbers");
+    }
+
+    @Override
+    protected PhoneNumberDTO newInstance() {
+        return new PhoneNumberDTO();
+    }
+
+    @Override
+    protected void writeFields(XMLStreamWriter writer, PhoneNumberDTO value) throws XMLStreamException {
+        writeText(writer, "id", value.getId());
+        writeText(writer, "type", value.getType());
+        writeText(writer, "number", value.getNumber());
+    }
+
+    @Override
+    protected void readField(XMLStreamReader reader, String name, PhoneNumberDTO value) throws XMLStreamException {
+        switch (name) {
+            case "id" -> value.setId(readText(reader, Integer::valueOf));
+            case "type" -> value.setType(reader.getElementText());
+            case "number" -> value.setNumber(reader.getElementText());
+            default -> skip(reader);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.spring.crud.demo.xml;
+
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes the DTOs, and lists of them, as XML through their {@link DtoXmlCodec}. Output goes straight to
+ * the response stream without an intermediate document or buffer.
+ */
+public class StaxXmlHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final Map<Class<?>, DtoXmlCodec<?>> codecs = new HashMap<>();
+
+    public StaxXmlHttpMessageConverter(DtoXmlCodec<?>... codecs) {
+        super(MediaType.APPLICATION_XML, MediaType.TEXT_XML, new MediaType("application", "*+xml"));
+        setDefaultCharset(StandardCharsets.UTF_8);
+        for (DtoXmlCodec<?> codec : codecs) {
+            this.codecs.put(codec.getType(), codec);
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return codecs.containsKey(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return codecFor(type, contextClass) != null && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return codecFor(type != null ? type : clazz, null) != null && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        ResolvableType resolvableType = resolve(type, contextClass);
+        DtoXmlCodec<?> codec = codecs.get(elementClass(resolvableType));
+        try {
+            XMLStreamReader reader = DtoXmlCodec.createReader(inputMessage.getBody());
+            try {
+                return isList(resolvableType) ? codec.readList(reader) : codec.read(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException("Could not read XML: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ResolvableType resolvableType = resolve(type != null ? type : value.getClass(), null);
+        DtoXmlCodec<Object> codec = (DtoXmlCodec<Object>) codecs.get(elementClass(resolvableType));
+        try {
+            XMLStreamWriter writer = DtoXmlCodec.createWriter(outputMessage.getBody());
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            if (value instanceof List<?> values) {
+                codec.writeList(writer, (List<Object>) values);
+            } else {
+                codec.write(writer, codec.getElement(), value);
+            }
+            writer.writeEndDocument();
+            writer.flush();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new HttpMessageNotWritableException("Could not write XML: " + e.getMessage(), e);
+        }
+    }
+
+    private DtoXmlCodec<?> codecFor(Type type, Class<?> contextClass) {
+        return type == null ? null : codecs.get(elementClass(resolve(type, contextClass)));
+    }
+
+    private static ResolvableType resolve(Type type, Class<?> contextClass) {
+        return ResolvableType.forType(contextClass != null ? GenericTypeResolver.resolveType(type, contextClass) : type);
+    }
+
+    private static boolean isList(ResolvableType type) {
+        return List.class.isAssignableFrom(type.toClass());
+    }
+
+    private static Class<?> elementClass(ResolvableType type) {
+        return isList(type) ? type.asCollection().resolveGeneric(0) : type.resolve();
+    }
+}
@@ -0,0 +1,44 @@
+package com.spring.crud.demo.xml;
+
+import com.spring.crud.demo.dto.StudentDTO;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+public class StudentDTOXmlCodec extends DtoXmlCodec<StudentDTO> {
+
+    public StudentDTOXmlCodec() {
+        super(StudentDTO.class, "student", "students");
+    }
+
+    @Override
+    protected StudentDTO newInstance() {
+        return new StudentDTO();
+    }
+
+    @Override
+    protected void writeFields(XMLStreamWriter writer, StudentDTO value) throws XMLStreamException {
+        writeText(writer, "id", value.getId());
+        writeText(writer, "version", value.getVersion());
+        writeText(writer, "rollNo", value.getRollNo());
+        writeText(writer, "firstName", value.getFirstName());
+        writeText(writer, "lastName", value.getLastName());
+        writeText(writer, "dateOfBirth", value.getDateOfBirth());
+        writeText(writer, "marks", value.getMarks());
+    }
+
+    @Override
+    protected void readField(XMLStreamReader reader, String name, StudentDTO value) throws XMLStreamException {
+        switch (name) {
+            case "id" -> value.setId(readText(reader, Integer::valueOf));
+            case "version" -> value.setVersion(readText(reader, Integer::valueOf));
+            case "rollNo" -> value.setRollNo(readText(reader, Integer::valueOf));
+            case "firstName" -> value.setFirstName(reader.getElementText());
+            case "lastName" -> value.setLastName(reader.getElementText());
+            case "dateOfBirth" -> value.setDateOfBirth(reader.getElementText());
+            case "marks" -> value.setMarks(readText(reader, Float::valueOf));
+            default -> skip(reader);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.spring.crud.demo.xml;
+
+import com.spring.crud.demo.dto.SuperHeroDTO;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+public class SuperHeroDTOXmlCodec extends DtoXmlCodec<SuperHeroDTO> {
+
+    public SuperHeroDTOXmlCodec() {
+        super(SuperHeroDTO.class, "superHero", "superHeroes");
+    }
+
+    @Override
+    protected SuperHeroDTO newInstance() {
+        return new SuperHeroDTO();
+    }
+
+    @Override
+    protected void writeFields(XMLStreamWriter writer, SuperHeroDTO value) throws XMLStreamException {
+        writeText(writer, "id", value.getId());
+        writeText(writer, "version", value.getVersion());
+        writeText(writer, "name", value.getName());
+        writeText(writer, "superName", value.getSuperName());
+        writeText(writer, "profession", value.getProfession());
+        writeText(writer, "age", value.getAge());
+        writeText(writer, "canFly", value.getCanFly());
+    }
+
+    @Override
+    protected void readField(XMLStreamReader reader, String name, SuperHeroDTO value) throws XMLStreamException {
+        switch (name) {
+            case "id" -> value.setId(readText(reader, Integer::valueOf));
+            case "version" -> value.setVersion(readText(reader, Integer::valueOf));
+            case "name" -> value.setName(reader.getElementText());
+            case "superName" -> value.setSuperName(reader.getElementText());
+            case "profession" -> value.setProfession(reader.getElementText());
+            case "age" -> value.setAge(readText(reader, Integer::valueOf));
+            case "canFly" -> value.setCanFly(readText(reader, Boolean::valueOf));
+            default -> skip(reader);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.spring.crud.demo.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionHoldFilterTest {
+
+    @Mock
+    private DataSource targetDataSource;
+    @Mock
+    private Connection connection;
+    private MeterRegistry meterRegistry;
+    private ConnectionHoldDataSource dataSource;
+    private ConnectionHoldFilter connectionHoldFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ConnectionHoldDataSource(targetDataSource);
+        connectionHoldFilter = new ConnectionHoldFilter(meterRegistry);
+    }
+
+    @Test
+    void testGivenRequestBorrowingConnections_WhenFilter_ThenRecordHoldTimeAndCount() throws Exception {
+        // Given
+        Mockito.when(targetDataSource.getConnection()).thenReturn(connection);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/students/1");
+
+        // When
+        connectionHoldFilter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/students/{id}");
+            borrow();
+            borrow();
+        });
+
+        // Then
+        Timer holdTimer = meterRegistry.find(ConnectionHoldFilter.HOLD_TIMER).tags("method", "GET", "uri", "/students/{id}").timer();
+        DistributionSummary connections = meterRegistry.find(ConnectionHoldFilter.CONNECTION_SUMMARY).tags("method", "GET", "uri", "/students/{id}").summary();
+        Assertions.assertThat(holdTimer).isNotNull();
+        Assertions.assertThat(holdTimer.count()).isEqualTo(1);
+        Assertions.assertThat(holdTimer.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        Assertions.assertThat(connections).isNotNull();
+        Assertions.assertThat(connections.totalAmount()).isEqualTo(2);
+        Mockito.verify(connection, Mockito.times(2)).close();
+    }
+
+    @Test
+    void testGivenAsyncRequestBorrowingOnTaskThread_WhenFilterBothDispatches_ThenRecordHoldOnceAfterAsyncDispatch() throws Exception {
+        // Given
+        Mockito.when(targetDataSource.getConnection()).thenReturn(connection);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/students/stream");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CountDownLatch dispatched = new CountDownLatch(1);
+        Set<String> borrowingThreads = ConcurrentHashMap.newKeySet();
+
+        // When
+        connectionHoldFilter.doFilter(request, response, (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/students/stream");
+            borrow();
+            WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(servletRequest);
+            asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+            asyncManager.setTaskExecutor(new SimpleAsyncTaskExecutor("mvc-"));
+            try {
+                asyncManager.startCallableProcessing(() -> {
+                    borrowingThreads.add(Thread.currentThread().getName());
+                    borrow();
+                    return null;
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            ((MockAsyncContext) request.getAsyncContext()).addDispatchHandler(dispatched::countDown);
+        });
+        boolean recordedBeforeDispatch = meterRegistry.find(ConnectionHoldFilter.HOLD_TIMER).timer() != null;
+        Assertions.assertThat(dispatched.await(5, TimeUnit.SECONDS)).isTrue();
+        request.setAsyncStarted(false);
+        request.setDispatcherType(DispatcherType.ASYNC);
+        connectionHoldFilter.doFilter(request, response, (servletRequest, servletResponse) -> {
+        });
+
+        // Then
+        Timer holdTimer = meterRegistry.find(ConnectionHoldFilter.HOLD_TIMER).tags("method", "GET", "uri", "/students/stream").timer();
+        DistributionSummary connections = meterRegistry.find(ConnectionHoldFilter.CONNECTION_SUMMARY).tags("method", "GET", "uri", "/students/stream").summary();
+        Assertions.assertThat(recordedBeforeDispatch).isFalse();
+        Assertions.assertThat(borrowingThreads).singleElement().asString().startsWith("mvc-");
+        Assertions.assertThat(holdTimer).isNotNull();
+        Assertions.assertThat(holdTimer.count()).isEqualTo(1);
+        Assertions.assertThat(connections).isNotNull();
+        Assertions.assertThat(connections.totalAmount()).isEqualTo(2);
+        Mockito.verify(connection, Mockito.times(2)).close();
+    }
+
+    @Test
+    void testGivenRequestWithoutConnections_WhenFilter_ThenRecordZeroHoldTime() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+
+        // When
+        connectionHoldFilter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> {
+        });
+
+        // Then
+        Timer holdTimer = meterRegistry.find(ConnectionHoldFilter.HOLD_TIMER).tags("method", "GET", "uri", "UNKNOWN").timer();
+        Assertions.assertThat(holdTimer).isNotNull();
+        Assertions.assertThat(holdTimer.count()).isEqualTo(1);
+        Assertions.assertThat(holdTimer.totalTime(TimeUnit.NANOSECONDS)).isZero();
+        Mockito.verifyNoInteractions(targetDataSource);
+    }
+
+    @Test
+    void testGivenUntrackedThread_WhenGetConnection_ThenReturnTargetConnection() throws SQLException {
+        // Given
+        Mockito.when(targetDataSource.getConnection()).thenReturn(connection);
+
+        // When
+        Connection actualConnection = dataSource.getConnection();
+
+        // Then
+        Assertions.assertThat(actualConnection).isSameAs(connection);
+    }
+
+    @Test
+    void testGivenHoldResumedOnManyThreads_WhenBorrowConcurrently_ThenCountEveryConnection() throws Exception {
+        // Given
+        Mockito.when(targetDataSource.getConnection()).thenReturn(connection);
+        ConnectionHoldDataSource.Hold hold = ConnectionHoldDataSource.track();
+        hold.close();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> borrowers = new ArrayList<>();
+
+        // When
+        for (int thread = 0; thread < 8; thread++) {
+            borrowers.add(executor.submit(() -> {
+                try (ConnectionHoldDataSource.Hold resumed = ConnectionHoldDataSource.resume(hold)) {
+                    start.await();
+                    for (int i = 0; i < 1000; i++) {
+                        borrow();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> borrower : borrowers) {
+            borrower.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        Assertions.assertThat(hold.getConnections()).isEqualTo(8000);
+        Assertions.assertThat(hold.getNanos()).isPositive();
+    }
+
+    private void borrow() {
+        try (Connection borrowed = dataSource.getConnection()) {
+            borrowed.isValid(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
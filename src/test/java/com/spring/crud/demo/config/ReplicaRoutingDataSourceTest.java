@@ -0,0 +1,157 @@
+package com.spring.crud.demo.config;
+
+import jakarta.servlet.http.Cookie;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @Test
+    void testGivenReadOnlyTransactions_WhenQuery_ThenSpreadOverReplicas() {
+        // Given
+        init(Duration.ofMinutes(1));
+
+        // When / Then
+        Assertions.assertThat(List.of(readNode(), readNode(), readNode())).containsExactly("replica-1", "replica-2", "replica-1");
+    }
+
+    @Test
+    void testGivenReadWriteTransaction_WhenQuery_ThenUsePrimary() {
+        // Given
+        init(Duration.ofMinutes(1));
+
+        // When
+        String node = writeTransaction.execute(status -> jdbcTemplate.queryForObject("SELECT NAME FROM NODE", String.class));
+
+        // Then
+        Assertions.assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void testGivenCommittedWrite_WhenSameClientReadsWithinStickyWindow_ThenUsePrimary() {
+        // Given
+        init(Duration.ofMinutes(1));
+        List<Long> deadlines = new ArrayList<>();
+        try (ReplicaRoutingDataSource.Client client = ReplicaRoutingDataSource.bind(0L, deadlines::add)) {
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE NODE SET WRITES = WRITES + 1"));
+
+            // When / Then
+            Assertions.assertThat(readNode()).isEqualTo("primary");
+            Assertions.assertThat(deadlines).containsExactly(client.getPrimaryUntil());
+        }
+    }
+
+    @Test
+    void testGivenCommittedWrite_WhenOtherClientReadsWithinStickyWindow_ThenUseReplica() {
+        // Given
+        init(Duration.ofMinutes(1));
+        try (ReplicaRoutingDataSource.Client writer = ReplicaRoutingDataSource.bind(0L, deadline -> {
+        })) {
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE NODE SET WRITES = WRITES + 1"));
+        }
+
+        // When / Then
+        try (ReplicaRoutingDataSource.Client reader = ReplicaRoutingDataSource.bind(0L, deadline -> {
+        })) {
+            Assertions.assertThat(readNode()).isEqualTo("replica-1");
+        }
+        Assertions.assertThat(readNode()).isEqualTo("replica-2");
+    }
+
+    @Test
+    void testGivenCommittedWrite_WhenReadAfterStickyWindow_ThenUseReplica() {
+        // Given
+        init(Duration.ZERO);
+        try (ReplicaRoutingDataSource.Client client = ReplicaRoutingDataSource.bind(0L, deadline -> {
+        })) {
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE NODE SET WRITES = WRITES + 1"));
+
+            // When / Then
+            Assertions.assertThat(readNode()).isEqualTo("replica-1");
+        }
+    }
+
+    @Test
+    void testGivenRolledBackWrite_WhenRead_ThenUseReplica() {
+        // Given
+        init(Duration.ofMinutes(1));
+        try (ReplicaRoutingDataSource.Client client = ReplicaRoutingDataSource.bind(0L, deadline -> {
+        })) {
+            writeTransaction.executeWithoutResult(status -> {
+                jdbcTemplate.update("UPDATE NODE SET WRITES = WRITES + 1");
+                status.setRollbackOnly();
+            });
+
+            // When / Then
+            Assertions.assertThat(readNode()).isEqualTo("replica-1");
+        }
+    }
+
+    @Test
+    void testGivenWriteRequest_WhenNextRequestCarriesCookie_ThenReadFromPrimaryOnlyForThatClient() throws Exception {
+        // Given
+        init(Duration.ofMinutes(1));
+        ReplicaStickyFilter filter = new ReplicaStickyFilter(Duration.ofMinutes(1));
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("PUT", "/students/1"), writeResponse,
+                (request, response) -> writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE NODE SET WRITES = WRITES + 1")));
+        Cookie cookie = writeResponse.getCookie(ReplicaStickyFilter.COOKIE);
+        List<String> nodes = new ArrayList<>();
+
+        // When
+        MockHttpServletRequest sameClient = new MockHttpServletRequest("GET", "/students/1");
+        sameClient.setCookies(cookie);
+        filter.doFilter(sameClient, new MockHttpServletResponse(), (request, response) -> nodes.add(readNode()));
+        filter.doFilter(new MockHttpServletRequest("GET", "/students/1"), new MockHttpServletResponse(), (request, response) -> nodes.add(readNode()));
+
+        // Then
+        Assertions.assertThat(cookie).isNotNull();
+        Assertions.assertThat(cookie.getMaxAge()).isEqualTo(60);
+        Assertions.assertThat(Long.parseLong(cookie.getValue())).isGreaterThan(System.currentTimeMillis());
+        Assertions.assertThat(nodes).containsExactly("primary", "replica-1");
+    }
+
+    private void init(Duration stickyWindow) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy();
+        // H2 defaults, the proxy would otherwise fetch a connection outside any transaction to look them up
+        routing.setDefaultAutoCommit(true);
+        routing.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        routing.setTargetDataSource(new ReplicaRoutingDataSource(
+                node("primary"), List.of(node("replica-1"), node("replica-2")), stickyWindow));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    private String readNode() {
+        return readTransaction.execute(status -> jdbcTemplate.queryForObject("SELECT NAME FROM NODE", String.class));
+    }
+
+    private static DataSource node(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS NODE (NAME VARCHAR(20), WRITES INT)");
+        jdbcTemplate.update("DELETE FROM NODE");
+        jdbcTemplate.update("INSERT INTO NODE (NAME, WRITES) VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
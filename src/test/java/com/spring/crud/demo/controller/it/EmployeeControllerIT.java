@@ -3,11 +3,14 @@ package com.spring.crud.demo.controller.it;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.spring.crud.demo.controller.BaseControllerTest;
 import com.spring.crud.demo.dto.ResponseDTO;
 import com.spring.crud.demo.dto.emp.EmployeeDTO;
 import com.spring.crud.demo.dto.emp.PhoneNumberDTO;
 import com.spring.crud.demo.model.emp.Employee;
+import com.spring.crud.demo.utils.Constant;
 import com.spring.crud.demo.utils.FileLoader;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomUtils;
@@ -150,6 +153,47 @@ public class EmployeeControllerIT implements BaseControllerTest<EmployeeDTO, Emp
         assertRecord(expectedEmployee, responseEntity.getBody());
     }
 
+    @Test
+    void testGivenCborRecord_WhenInsertRecord_ThenReturnSmileRecord() throws IOException {
+        // Given
+        List<EmployeeDTO> employees = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, EmployeeDTO.class));
+        EmployeeDTO saveEmployee = employees.stream().filter(e -> e.getFirstName().equals("Rahul") && e.getLastName().equals("Ghadage")).findFirst().orElseGet(EmployeeDTO::new);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_CBOR);
+        headers.setAccept(List.of(MediaType.valueOf(Constant.APPLICATION_SMILE_VALUE)));
+
+        // When
+        ResponseEntity<byte[]> responseEntity = restTemplate.exchange(url + "/employees", HttpMethod.POST, new HttpEntity<>(new CBORMapper().writeValueAsBytes(saveEmployee), headers), byte[].class);
+        EmployeeDTO actualEmployee = new SmileMapper().readValue(responseEntity.getBody(), EmployeeDTO.class);
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Assertions.assertThat(responseEntity.getHeaders().getContentType()).isEqualTo(MediaType.valueOf(Constant.APPLICATION_SMILE_VALUE));
+        Assertions.assertThat(actualEmployee.getId()).isNotNull();
+        assertRecord(saveEmployee, actualEmployee);
+    }
+
+    @Test
+    void testGivenId_WhenGetRecordsByIdAsCbor_ThenReturnRecord() throws IOException {
+        // Given
+        List<EmployeeDTO> employees = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, EmployeeDTO.class));
+        EmployeeDTO saveEmployee = employees.stream().filter(e -> e.getFirstName().equals("Rahul") && e.getLastName().equals("Ghadage")).findFirst().orElseGet(EmployeeDTO::new);
+        EmployeeDTO expectedEmployee = restTemplate.postForEntity(url + "/employees", saveEmployee, EmployeeDTO.class).getBody();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_CBOR));
+
+        // When
+        ResponseEntity<byte[]> responseEntity = restTemplate.exchange(url + "/employees/" + expectedEmployee.getId(), HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+        EmployeeDTO actualEmployee = new CBORMapper().readValue(responseEntity.getBody(), EmployeeDTO.class);
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(responseEntity.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        Assertions.assertThat(actualEmployee.getId()).isEqualTo(expectedEmployee.getId());
+        Assertions.assertThat(actualEmployee.getAddress().getId()).isEqualTo(expectedEmployee.getAddress().getId());
+        assertRecord(expectedEmployee, actualEmployee);
+    }
+
     @Test
     @Override
     public void testGivenRandomId_WhenGetRecordsById_ThenThrowException() {
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.spring.crud.demo.controller.BaseControllerTest;
+import com.spring.crud.demo.dto.BulkChunkDTO;
 import com.spring.crud.demo.dto.ResponseDTO;
 import com.spring.crud.demo.dto.StudentDTO;
 import com.spring.crud.demo.model.Student;
@@ -28,6 +29,7 @@ import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -92,6 +94,35 @@ public class StudentControllerIT implements BaseControllerTest<StudentDTO, Stude
                 .containsExactly(expectedStudents);
     }
 
+    @Test
+    void testGivenNon_WhenStreamAllRecords_ThenReturnListRecord() throws IOException {
+        // Given
+        List<StudentDTO> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, StudentDTO.class));
+        students.forEach(s -> restTemplate.postForEntity(url + "/students", s, StudentDTO.class));
+        Tuple[] expectedStudents = students.stream()
+                .map(student -> AssertionsForClassTypes.tuple(student.getRollNo(),
+                        student.getFirstName(),
+                        student.getLastName(),
+                        student.getDateOfBirth(),
+                        student.getMarks()))
+                .toArray(Tuple[]::new);
+
+        // When
+        ResponseEntity<List<StudentDTO>> responseEntity = restTemplate.exchange(url + "/students/stream", HttpMethod.GET, null, new ParameterizedTypeReference<List<StudentDTO>>() {
+        });
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(responseEntity.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        Assertions.assertThat(responseEntity.getBody())
+                .extracting(StudentDTO::getRollNo,
+                        StudentDTO::getFirstName,
+                        StudentDTO::getLastName,
+                        StudentDTO::getDateOfBirth,
+                        StudentDTO::getMarks)
+                .containsExactlyInAnyOrder(expectedStudents);
+    }
+
     @Test
     @Override
     public void testGivenNon_WhenGetAllRecords_ThenThrowException() {
@@ -211,6 +242,102 @@ public class StudentControllerIT implements BaseControllerTest<StudentDTO, Stude
         assertRecord(expectedStudent, responseEntity.getBody());
     }
 
+    @Test
+    void testGivenNdjson_WhenInsertBulkRecords_ThenPersistInChunks() throws IOException {
+        // Given
+        List<StudentDTO> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, StudentDTO.class));
+        StringBuilder ndjson = new StringBuilder();
+        for (StudentDTO student : students) {
+            ndjson.append(objectMapper.writeValueAsString(student)).append('\n');
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+
+        // When
+        ResponseEntity<List<BulkChunkDTO>> responseEntity = restTemplate.exchange(url + "/students/bulk?commitSize=3", HttpMethod.POST, new HttpEntity<>(ndjson.toString(), headers), new ParameterizedTypeReference<List<BulkChunkDTO>>() {
+        });
+        ResponseEntity<List<StudentDTO>> allStudents = restTemplate.exchange(url + "/students", HttpMethod.GET, null, new ParameterizedTypeReference<List<StudentDTO>>() {
+        });
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Assertions.assertThat(responseEntity.getBody())
+                .extracting(BulkChunkDTO::records)
+                .containsExactly(3, 3, 3, 1);
+        Assertions.assertThat(responseEntity.getBody()).extracting(BulkChunkDTO::failed).containsOnly(false);
+        Assertions.assertThat(allStudents.getBody())
+                .extracting(StudentDTO::getRollNo, StudentDTO::getFirstName, StudentDTO::getDateOfBirth)
+                .containsExactlyInAnyOrder(students.stream()
+                        .map(student -> AssertionsForClassTypes.tuple(student.getRollNo(), student.getFirstName(), student.getDateOfBirth()))
+                        .toArray(Tuple[]::new));
+    }
+
+    @Test
+    void testGivenLimit_WhenGetRecordsPage_ThenFollowNextCursorToLastPage() throws IOException {
+        // Given
+        List<StudentDTO> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, StudentDTO.class));
+        students.forEach(s -> restTemplate.postForEntity(url + "/students", s, StudentDTO.class));
+        List<Integer> pageSizes = new ArrayList<>();
+        List<StudentDTO> actualStudents = new ArrayList<>();
+
+        // When
+        String cursor = null;
+        do {
+            ResponseEntity<List<StudentDTO>> responseEntity = restTemplate.exchange(url + "/students?limit=4" + (cursor == null ? "" : "&after=" + cursor), HttpMethod.GET, null, new ParameterizedTypeReference<List<StudentDTO>>() {
+            });
+            Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+            pageSizes.add(responseEntity.getBody().size());
+            actualStudents.addAll(responseEntity.getBody());
+            cursor = responseEntity.getHeaders().getFirst(Constant.NEXT_CURSOR_HEADER);
+        } while (cursor != null);
+
+        // Then
+        Assertions.assertThat(pageSizes).containsExactly(4, 4, 2);
+        Assertions.assertThat(actualStudents).extracting(StudentDTO::getId).isSorted().doesNotHaveDuplicates();
+        Assertions.assertThat(actualStudents).extracting(StudentDTO::getRollNo)
+                .containsExactly(students.stream().map(StudentDTO::getRollNo).toArray(Integer[]::new));
+    }
+
+    @Test
+    void testGivenExampleAndLimit_WhenGetRecordsPageByExample_ThenReturnPageAfterCursor() throws IOException {
+        // Given
+        List<StudentDTO> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, StudentDTO.class));
+        List<StudentDTO> savedStudents = students.stream().map(s -> restTemplate.postForEntity(url + "/students", s, StudentDTO.class).getBody()).toList();
+        StudentDTO example = new StudentDTO();
+        example.setDateOfBirth("01-01-2000");
+        List<Integer> expectedIds = savedStudents.stream()
+                .filter(student -> example.getDateOfBirth().equals(student.getDateOfBirth()))
+                .map(StudentDTO::getId)
+                .skip(1)
+                .limit(2)
+                .toList();
+
+        // When
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<List<StudentDTO>> responseEntity = restTemplate.exchange(url + "/students/search?limit=2&after=" + savedStudents.get(0).getId(), HttpMethod.POST, new HttpEntity<>(example, headers), new ParameterizedTypeReference<List<StudentDTO>>() {
+        });
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(responseEntity.getBody()).extracting(StudentDTO::getId).containsExactlyElementsOf(expectedIds);
+        Assertions.assertThat(responseEntity.getHeaders().getFirst(Constant.NEXT_CURSOR_HEADER)).isEqualTo(String.valueOf(expectedIds.get(1)));
+    }
+
+    @Test
+    void testGivenLimitAboveMaximum_WhenGetRecordsPage_ThenThrowException() {
+        // Given
+        int limit = Constant.MAX_PAGE_SIZE + 1;
+
+        // When
+        ResponseEntity<ResponseDTO> responseEntity = restTemplate.exchange(url + "/students?limit=" + limit, HttpMethod.GET, null, ResponseDTO.class);
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Assertions.assertThat(responseEntity.getBody()).isNotNull();
+        Assertions.assertThat(responseEntity.getBody().message()).isEqualTo("Limit must be between 1 and " + Constant.MAX_PAGE_SIZE + ": " + limit);
+    }
+
     @Test
     @Override
     public void testGivenExistingRecord_WhenInsertRecord_ThenThrowException() throws IOException {
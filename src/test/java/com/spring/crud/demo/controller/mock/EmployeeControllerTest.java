@@ -26,14 +26,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeControllerTest implements BaseControllerTest<Employee, EmployeeDTO> {
@@ -52,6 +56,7 @@ class EmployeeControllerTest implements BaseControllerTest<Employee, EmployeeDTO
         file = FileLoader.getFileFromResource("employees.json");
 
         employeeMapper = Mockito.mock(EmployeeMapper.class);
+        Mockito.when(employeeMapper.convertFromEntitiesToDtos(Mockito.anyList())).thenCallRealMethod();
         employeeService = Mockito.mock(EmployeeService.class);
         employeeController = new EmployeeController(employeeService, employeeMapper, objectMapper);
     }
@@ -82,8 +87,7 @@ class EmployeeControllerTest implements BaseControllerTest<Employee, EmployeeDTO
                 .toArray(Tuple[]::new);
 
         // When
-        Mockito.when(employeeService.getAllRecords()).thenReturn(employeees);
-        employeees.forEach(employee -> Mockito.when(employeeMapper.convertFromEntityToDto(employee)).thenReturn(objectMapper.convertValue(employee, EmployeeDTO.class)));
+        Mockito.when(employeeService.getAllDtos()).thenReturn(employeees.stream().map(employee -> objectMapper.convertValue(employee, EmployeeDTO.class)).toList());
         ResponseEntity<List<EmployeeDTO>> actualEmployees = employeeController.getAllRecords();
 
         // Then
@@ -108,22 +112,58 @@ class EmployeeControllerTest implements BaseControllerTest<Employee, EmployeeDTO
                         employee -> employee.getPhoneNumbers().stream().map(PhoneNumberDTO::getNumber).toArray()
                 )
                 .containsExactly(expectedEmployees);
-        Mockito.verify(employeeService, Mockito.atLeastOnce()).getAllRecords();
-        employeees.forEach(employee -> Mockito.verify(employeeMapper, Mockito.atLeastOnce()).convertFromEntityToDto(employee));
+        Mockito.verify(employeeService, Mockito.atLeastOnce()).getAllDtos();
     }
 
     @Test
     @Override
     public void testGivenNon_WhenGetAllRecords_ThenThrowException() {
         // Given
-        List<Employee> employeeList = new ArrayList<>();
+        List<EmployeeDTO> employeeList = new ArrayList<>();
 
         // When & Then
-        Mockito.when(employeeService.getAllRecords()).thenReturn(employeeList);
+        Mockito.when(employeeService.getAllDtos()).thenReturn(employeeList);
         Assertions.assertThatThrownBy(() -> employeeController.getAllRecords())
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("No record found");
-        Mockito.verify(employeeService, Mockito.atLeastOnce()).getAllRecords();
+        Mockito.verify(employeeService, Mockito.atLeastOnce()).getAllDtos();
+    }
+
+    @Test
+    void testGivenNon_WhenStreamAllRecords_ThenWriteJsonArray() throws IOException {
+        // Given
+        List<Employee> employees = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Employee.class));
+        Tuple[] expectedEmployees = employees.stream()
+                .map(employee -> AssertionsForClassTypes.tuple(
+                        employee.getFirstName(),
+                        employee.getLastName(),
+                        employee.getDateOfJoining().format(DateTimeFormatter.ofPattern(Constant.DATE_TIME_FORMAT)),
+                        employee.getAddress().getCity(),
+                        employee.getPhoneNumbers().stream().map(PhoneNumber::getNumber).toArray()))
+                .toArray(Tuple[]::new);
+
+        // When
+        Mockito.doAnswer(invocation -> {
+            employees.forEach(invocation.<Consumer<Employee>>getArgument(0));
+            return null;
+        }).when(employeeService).streamAllRecords(Mockito.any());
+        employees.forEach(employee -> Mockito.when(employeeMapper.convertFromEntityToDto(employee)).thenReturn(objectMapper.convertValue(employee, EmployeeDTO.class)));
+        ResponseEntity<StreamingResponseBody> responseEntity = employeeController.streamAllRecords();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        responseEntity.getBody().writeTo(outputStream);
+        List<EmployeeDTO> actualEmployees = objectMapper.readValue(outputStream.toByteArray(), typeFactory.constructCollectionType(List.class, EmployeeDTO.class));
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(responseEntity.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        Assertions.assertThat(actualEmployees)
+                .extracting(EmployeeDTO::getFirstName,
+                        EmployeeDTO::getLastName,
+                        EmployeeDTO::getDateOfJoining,
+                        employeeDTO -> employeeDTO.getAddress().getCity(),
+                        employeeDTO -> employeeDTO.getPhoneNumbers().stream().map(PhoneNumberDTO::getNumber).toArray())
+                .containsExactly(expectedEmployees);
+        Mockito.verify(employeeService, Mockito.atLeastOnce()).streamAllRecords(Mockito.any());
     }
 
     @Test
@@ -135,16 +175,14 @@ class EmployeeControllerTest implements BaseControllerTest<Employee, EmployeeDTO
         Employee expectedEmployee = employeees.stream().filter(e -> e.getFirstName().equals("Rahul") && e.getLastName().equals("Ghadage")).findFirst().orElseGet(Employee::new);
 
         // When
-        Mockito.when(employeeService.getRecordsById(id)).thenReturn(Optional.of(expectedEmployee));
-        Mockito.when(employeeMapper.convertFromEntityToDto(expectedEmployee)).thenReturn(objectMapper.convertValue(expectedEmployee, EmployeeDTO.class));
+        Mockito.when(employeeService.getDtoById(id)).thenReturn(Optional.of(objectMapper.convertValue(expectedEmployee, EmployeeDTO.class)));
         ResponseEntity<EmployeeDTO> actualEmployee = employeeController.getRecordsById(id);
 
         // Then
         Assertions.assertThat(actualEmployee.getStatusCode()).isEqualTo(HttpStatus.OK);
         Assertions.assertThat(actualEmployee.getBody()).isNotNull();
         assertRecord(expectedEmployee, actualEmployee.getBody());
-        Mockito.verify(employeeService).getRecordsById(id);
-        Mockito.verify(employeeMapper, Mockito.atLeastOnce()).convertFromEntityToDto(expectedEmployee);
+        Mockito.verify(employeeService).getDtoById(id);
     }
 
     @Test
@@ -154,7 +192,7 @@ class EmployeeControllerTest implements BaseControllerTest<Employee, EmployeeDTO
         int id = RandomUtils.nextInt();
 
         // When & Then
-        Mockito.when(employeeService.getRecordsById(id)).thenReturn(Optional.empty());
+        Mockito.when(employeeService.getDtoById(id)).thenReturn(Optional.empty());
         Assertions.assertThatThrownBy(() -> employeeController.getRecordsById(id))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("No record found with id " + id);
@@ -169,9 +207,8 @@ class EmployeeControllerTest implements BaseControllerTest<Employee, EmployeeDTO
         EmployeeDTO map = new ObjectMapper().convertValue(expectedEmployee, EmployeeDTO.class);
 
         // When
-        Mockito.when(employeeService.getAllRecordsByExample(expectedEmployee)).thenReturn(List.of(expectedEmployee));
+        Mockito.when(employeeService.getAllDtosByExample(expectedEmployee)).thenReturn(List.of(objectMapper.convertValue(expectedEmployee, EmployeeDTO.class)));
         Mockito.when(employeeMapper.convertFromDtoToEntity(Mockito.any())).thenReturn(expectedEmployee);
-        Mockito.when(employeeMapper.convertFromEntityToDto(Mockito.any())).thenReturn(objectMapper.convertValue(map, EmployeeDTO.class));
         ResponseEntity<List<EmployeeDTO>> actualEmployees = employeeController.getAllRecordsByExample(map);
 
         // Then
@@ -179,9 +216,8 @@ class EmployeeControllerTest implements BaseControllerTest<Employee, EmployeeDTO
         Assertions.assertThat(actualEmployees.getBody()).isNotNull();
         Assertions.assertThat(actualEmployees.getBody().size()).isGreaterThan(0);
         assertRecord(expectedEmployee, actualEmployees.getBody().get(0));
-        Mockito.verify(employeeService).getAllRecordsByExample(expectedEmployee);
+        Mockito.verify(employeeService).getAllDtosByExample(expectedEmployee);
         Mockito.verify(employeeMapper, Mockito.atLeastOnce()).convertFromDtoToEntity(Mockito.any());
-        Mockito.verify(employeeMapper, Mockito.atLeastOnce()).convertFromEntityToDto(Mockito.any());
     }
 
     @Test
@@ -195,17 +231,17 @@ class EmployeeControllerTest implements BaseControllerTest<Employee, EmployeeDTO
         expectedEmployee.setAge(28);
         expectedEmployee.setSpouse(true);
         EmployeeDTO map = objectMapper.convertValue(expectedEmployee, EmployeeDTO.class);
-        List<Employee> employeees = new ArrayList<>();
+        List<EmployeeDTO> employeees = new ArrayList<>();
 
         // When & Then
-        Mockito.when(employeeService.getAllRecordsByExample(expectedEmployee)).thenReturn(employeees);
+        Mockito.when(employeeService.getAllDtosByExample(expectedEmployee)).thenReturn(employeees);
         Mockito.when(employeeMapper.convertFromDtoToEntity(Mockito.any())).thenReturn(expectedEmployee);
         Assertions.assertThatThrownBy(() -> employeeController.getAllRecordsByExample(map))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("No record found with map " + objectMapper.writeValueAsString(map));
 
 
-        Mockito.verify(employeeService).getAllRecordsByExample(expectedEmployee);
+        Mockito.verify(employeeService).getAllDtosByExample(expectedEmployee);
         Mockito.verify(employeeMapper, Mockito.atLeastOnce()).convertFromDtoToEntity(Mockito.any());
     }
 
@@ -260,8 +296,10 @@ class EmployeeControllerTest implements BaseControllerTest<Employee, EmployeeDTO
         expectedEmployee.setId(15);
 
         // When
-        Mockito.when(employeeService.updateRecord(expectedEmployee.getId(), expectedEmployee)).thenReturn(Optional.of(expectedEmployee));
-        Mockito.when(employeeMapper.convertFromDtoToEntity(Mockito.any())).thenReturn(expectedEmployee);
+        Mockito.when(employeeService.updateRecord(Mockito.eq(expectedEmployee.getId()), Mockito.eq(expectedEmployee.getId()), Mockito.isNull(), Mockito.any())).thenAnswer(invocation -> {
+            invocation.<Consumer<Employee>>getArgument(3).accept(expectedEmployee);
+            return Optional.of(expectedEmployee);
+        });
         Mockito.when(employeeMapper.convertFromEntityToDto(Mockito.any())).thenReturn(objectMapper.convertValue(expectedEmployee, EmployeeDTO.class));
         ResponseEntity<EmployeeDTO> actualEmployee = employeeController.updateRecord(expectedEmployee.getId(), objectMapper.convertValue(expectedEmployee, EmployeeDTO.class));
 
@@ -269,8 +307,8 @@ class EmployeeControllerTest implements BaseControllerTest<Employee, EmployeeDTO
         Assertions.assertThat(actualEmployee.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
         Assertions.assertThat(actualEmployee.getBody()).isNotNull();
         assertRecord(expectedEmployee, actualEmployee.getBody());
-        Mockito.verify(employeeService).updateRecord(expectedEmployee.getId(), expectedEmployee);
-        Mockito.verify(employeeMapper, Mockito.atLeastOnce()).convertFromDtoToEntity(Mockito.any());
+        Mockito.verify(employeeService).updateRecord(Mockito.eq(expectedEmployee.getId()), Mockito.eq(expectedEmployee.getId()), Mockito.isNull(), Mockito.any());
+        Mockito.verify(employeeMapper, Mockito.atLeastOnce()).applyDtoToEntity(Mockito.any(), Mockito.eq(expectedEmployee));
         Mockito.verify(employeeMapper, Mockito.atLeastOnce()).convertFromEntityToDto(Mockito.any());
     }
 
@@ -281,13 +319,11 @@ class EmployeeControllerTest implements BaseControllerTest<Employee, EmployeeDTO
         int id = RandomUtils.nextInt();
 
         // When & Then
-        Mockito.when(employeeService.updateRecord(id, null)).thenReturn(Optional.empty());
-        Mockito.when(employeeMapper.convertFromDtoToEntity(Mockito.any())).thenReturn(null);
+        Mockito.when(employeeService.updateRecord(Mockito.eq(id), Mockito.isNull(), Mockito.isNull(), Mockito.any())).thenReturn(Optional.empty());
         Assertions.assertThatThrownBy(() -> employeeController.updateRecord(id, null))
                 .isInstanceOf(InternalServerErrorException.class)
                 .hasMessage("Something went wrong");
-        Mockito.verify(employeeService).updateRecord(id, null);
-        Mockito.verify(employeeMapper, Mockito.atLeastOnce()).convertFromDtoToEntity(Mockito.any());
+        Mockito.verify(employeeService).updateRecord(Mockito.eq(id), Mockito.isNull(), Mockito.isNull(), Mockito.any());
     }
 
     @Test
@@ -5,15 +5,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.spring.crud.demo.controller.BaseControllerTest;
 import com.spring.crud.demo.controller.StudentController;
+import com.spring.crud.demo.dto.BulkChunkDTO;
 import com.spring.crud.demo.dto.ResponseDTO;
 import com.spring.crud.demo.dto.StudentDTO;
+import com.spring.crud.demo.exception.BadRequestException;
 import com.spring.crud.demo.exception.InternalServerErrorException;
 import com.spring.crud.demo.exception.NotFoundException;
 import com.spring.crud.demo.mapper.StudentMapper;
 import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.service.IngestPartition;
+import com.spring.crud.demo.service.IngestReport;
 import com.spring.crud.demo.service.StudentService;
 import com.spring.crud.demo.utils.Constant;
 import com.spring.crud.demo.utils.FileLoader;
+import com.spring.crud.demo.xml.DtoXmlCodec;
+import com.spring.crud.demo.xml.StudentDTOXmlCodec;
 import org.apache.commons.lang3.RandomUtils;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForClassTypes;
@@ -22,17 +28,26 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @ExtendWith(MockitoExtension.class)
 class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
@@ -51,6 +66,7 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
         file = FileLoader.getFileFromResource("students.json");
 
         studentMapper = Mockito.mock(StudentMapper.class);
+        Mockito.when(studentMapper.convertFromEntitiesToDtos(Mockito.anyList())).thenCallRealMethod();
         studentService = Mockito.mock(StudentService.class);
         studentController = new StudentController(studentService, studentMapper, objectMapper);
     }
@@ -69,8 +85,7 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
                 .toArray(Tuple[]::new);
 
         // When
-        Mockito.when(studentService.getAllRecords()).thenReturn(students);
-        students.forEach(student -> Mockito.when(studentMapper.convertFromEntityToDto(student)).thenReturn(objectMapper.convertValue(student, StudentDTO.class)));
+        Mockito.when(studentService.getAllDtos()).thenReturn(students.stream().map(student -> objectMapper.convertValue(student, StudentDTO.class)).toList());
         ResponseEntity<List<StudentDTO>> actualStudents = studentController.getAllRecords();
 
         // Then
@@ -84,22 +99,125 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
                         StudentDTO::getDateOfBirth,
                         StudentDTO::getMarks)
                 .containsExactly(expectedStudents);
-        Mockito.verify(studentService, Mockito.atLeastOnce()).getAllRecords();
-        students.forEach(student -> Mockito.verify(studentMapper, Mockito.atLeastOnce()).convertFromEntityToDto(student));
+        Mockito.verify(studentService, Mockito.atLeastOnce()).getAllDtos();
     }
 
     @Test
     @Override
     public void testGivenNon_WhenGetAllRecords_ThenThrowException() {
         // Given
-        List<Student> studentList = new ArrayList<>();
+        List<StudentDTO> studentList = new ArrayList<>();
 
         // When & Then
-        Mockito.when(studentService.getAllRecords()).thenReturn(studentList);
+        Mockito.when(studentService.getAllDtos()).thenReturn(studentList);
         Assertions.assertThatThrownBy(() -> studentController.getAllRecords())
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("No record found");
-        Mockito.verify(studentService, Mockito.atLeastOnce()).getAllRecords();
+        Mockito.verify(studentService, Mockito.atLeastOnce()).getAllDtos();
+    }
+
+    @Test
+    void testGivenNon_WhenStreamAllRecords_ThenWriteJsonArray() throws IOException {
+        // Given
+        List<Student> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Student.class));
+        Tuple[] expectedStudents = students.stream()
+                .map(student -> AssertionsForClassTypes.tuple(student.getRollNo(),
+                        student.getFirstName(),
+                        student.getLastName(),
+                        student.getDateOfBirth().format(DateTimeFormatter.ofPattern(Constant.DATE_FORMAT)),
+                        student.getMarks()))
+                .toArray(Tuple[]::new);
+
+        // When
+        Mockito.doAnswer(invocation -> {
+            students.forEach(invocation.<Consumer<Student>>getArgument(0));
+            return null;
+        }).when(studentService).streamAllRecords(Mockito.any());
+        students.forEach(student -> Mockito.when(studentMapper.convertFromEntityToDto(student)).thenReturn(objectMapper.convertValue(student, StudentDTO.class)));
+        ResponseEntity<StreamingResponseBody> responseEntity = studentController.streamAllRecords();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        responseEntity.getBody().writeTo(outputStream);
+        List<StudentDTO> actualStudents = objectMapper.readValue(outputStream.toByteArray(), typeFactory.constructCollectionType(List.class, StudentDTO.class));
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(responseEntity.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        Assertions.assertThat(actualStudents)
+                .extracting(StudentDTO::getRollNo,
+                        StudentDTO::getFirstName,
+                        StudentDTO::getLastName,
+                        StudentDTO::getDateOfBirth,
+                        StudentDTO::getMarks)
+                .containsExactly(expectedStudents);
+        Mockito.verify(studentService, Mockito.atLeastOnce()).streamAllRecords(Mockito.any());
+        students.forEach(student -> Mockito.verify(studentMapper, Mockito.atLeastOnce()).convertFromEntityToDto(student));
+    }
+
+    @Test
+    void testGivenNon_WhenStreamAllRecordsAsXml_ThenWriteXmlList() throws Exception {
+        // Given
+        List<Student> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Student.class));
+
+        // When
+        Mockito.doAnswer(invocation -> {
+            students.forEach(invocation.<Consumer<Student>>getArgument(0));
+            return null;
+        }).when(studentService).streamAllRecords(Mockito.any());
+        students.forEach(student -> Mockito.when(studentMapper.convertFromEntityToDto(student)).thenReturn(objectMapper.convertValue(student, StudentDTO.class)));
+        ResponseEntity<StreamingResponseBody> responseEntity = studentController.streamAllRecordsAsXml();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        responseEntity.getBody().writeTo(outputStream);
+        List<StudentDTO> actualStudents = new StudentDTOXmlCodec().readList(DtoXmlCodec.createReader(new ByteArrayInputStream(outputStream.toByteArray())));
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(responseEntity.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_XML);
+        Assertions.assertThat(actualStudents)
+                .extracting(StudentDTO::getRollNo, StudentDTO::getFirstName, StudentDTO::getDateOfBirth)
+                .containsExactly(students.stream()
+                        .map(student -> AssertionsForClassTypes.tuple(student.getRollNo(), student.getFirstName(), student.getDateOfBirth().format(DateTimeFormatter.ofPattern(Constant.DATE_FORMAT))))
+                        .toArray(Tuple[]::new));
+    }
+
+    @Test
+    void testGivenNon_WhenStreamAllRecords_ThenWriteEmptyJsonArray() throws IOException {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        Mockito.doNothing().when(studentService).streamAllRecords(Mockito.any());
+        ResponseEntity<StreamingResponseBody> responseEntity = studentController.streamAllRecords();
+        responseEntity.getBody().writeTo(outputStream);
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(outputStream.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void testGivenFullAndPartialPage_WhenGetRecordsPage_ThenSetNextCursorOnlyOnFullPage() throws IOException {
+        // Given
+        List<Student> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Student.class));
+        for (int i = 0; i < students.size(); i++) {
+            students.get(i).setId(i + 1);
+        }
+        students.forEach(student -> Mockito.when(studentMapper.convertFromEntityToDto(student)).thenReturn(objectMapper.convertValue(student, StudentDTO.class)));
+
+        // When
+        Mockito.when(studentService.getRecordsPage(null, 4)).thenReturn(students.subList(0, 4));
+        Mockito.when(studentService.getRecordsPage(8, 4)).thenReturn(students.subList(8, students.size()));
+        ResponseEntity<List<StudentDTO>> firstPage = studentController.getRecordsPage(null, 4);
+        ResponseEntity<List<StudentDTO>> lastPage = studentController.getRecordsPage(8, 4);
+
+        // Then
+        Assertions.assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(firstPage.getBody()).extracting(StudentDTO::getId).containsExactly(1, 2, 3, 4);
+        Assertions.assertThat(firstPage.getHeaders().getFirst(Constant.NEXT_CURSOR_HEADER)).isEqualTo("4");
+        Assertions.assertThat(lastPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(lastPage.getBody()).extracting(StudentDTO::getId).containsExactly(9, 10);
+        Assertions.assertThat(lastPage.getHeaders().containsKey(Constant.NEXT_CURSOR_HEADER)).isFalse();
+        Mockito.verify(studentService).getRecordsPage(null, 4);
+        Mockito.verify(studentService).getRecordsPage(8, 4);
     }
 
     @Test
@@ -111,16 +229,14 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
         Student expectedStudent = students.stream().filter(s -> s.getFirstName().equals("Rahul") && s.getLastName().equals("Ghadage")).findFirst().orElseGet(Student::new);
 
         // When
-        Mockito.when(studentService.getRecordsById(id)).thenReturn(Optional.of(expectedStudent));
-        Mockito.when(studentMapper.convertFromEntityToDto(expectedStudent)).thenReturn(objectMapper.convertValue(expectedStudent, StudentDTO.class));
+        Mockito.when(studentService.getDtoById(id)).thenReturn(Optional.of(objectMapper.convertValue(expectedStudent, StudentDTO.class)));
         ResponseEntity<StudentDTO> actualStudent = studentController.getRecordsById(id);
 
         // Then
         Assertions.assertThat(actualStudent.getStatusCode()).isEqualTo(HttpStatus.OK);
         Assertions.assertThat(actualStudent.getBody()).isNotNull();
         assertRecord(expectedStudent, actualStudent.getBody());
-        Mockito.verify(studentService).getRecordsById(id);
-        Mockito.verify(studentMapper, Mockito.atLeastOnce()).convertFromEntityToDto(expectedStudent);
+        Mockito.verify(studentService).getDtoById(id);
     }
 
     @Test
@@ -130,7 +246,7 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
         int id = RandomUtils.nextInt();
 
         // When & Then
-        Mockito.when(studentService.getRecordsById(id)).thenReturn(Optional.empty());
+        Mockito.when(studentService.getDtoById(id)).thenReturn(Optional.empty());
         Assertions.assertThatThrownBy(() -> studentController.getRecordsById(id))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("No record found with id " + id);
@@ -146,7 +262,6 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
 
         // When
         Mockito.when(studentService.findStudentByRollNo(rollNo)).thenReturn(Optional.of(expectedStudent));
-        Mockito.when(studentMapper.convertFromEntityToDto(expectedStudent)).thenReturn(objectMapper.convertValue(expectedStudent, StudentDTO.class));
         ResponseEntity<StudentDTO> actualStudent = studentController.findStudentByRollNo(rollNo);
 
         // Then
@@ -154,7 +269,6 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
         Assertions.assertThat(actualStudent.getBody()).isNotNull();
         assertStudent(expectedStudent, actualStudent.getBody());
         Mockito.verify(studentService).findStudentByRollNo(rollNo);
-        Mockito.verify(studentMapper, Mockito.atLeastOnce()).convertFromEntityToDto(expectedStudent);
     }
 
     @Test@Override
@@ -179,9 +293,8 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
         StudentDTO map = new ObjectMapper().convertValue(expectedStudent, StudentDTO.class);
 
         // When
-        Mockito.when(studentService.getAllRecordsByExample(expectedStudent)).thenReturn(List.of(expectedStudent));
+        Mockito.when(studentService.getAllDtosByExample(expectedStudent)).thenReturn(List.of(objectMapper.convertValue(expectedStudent, StudentDTO.class)));
         Mockito.when(studentMapper.convertFromDtoToEntity(Mockito.any())).thenReturn(expectedStudent);
-        Mockito.when(studentMapper.convertFromEntityToDto(Mockito.any())).thenReturn(objectMapper.convertValue(map, StudentDTO.class));
         ResponseEntity<List<StudentDTO>> actualStudents = studentController.getAllRecordsByExample(map);
 
         // Then
@@ -189,9 +302,8 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
         Assertions.assertThat(actualStudents.getBody()).isNotNull();
         Assertions.assertThat(actualStudents.getBody().size()).isGreaterThan(0);
         assertRecord(expectedStudent, actualStudents.getBody().get(0));
-        Mockito.verify(studentService).getAllRecordsByExample(expectedStudent);
+        Mockito.verify(studentService).getAllDtosByExample(expectedStudent);
         Mockito.verify(studentMapper, Mockito.atLeastOnce()).convertFromDtoToEntity(Mockito.any());
-        Mockito.verify(studentMapper, Mockito.atLeastOnce()).convertFromEntityToDto(Mockito.any());
     }
 
     @Test
@@ -200,17 +312,17 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
         // Given
         Student expectedStudent = new Student(4, "Salman", "Khan", LocalDate.parse("01-01-2000", DateTimeFormatter.ofPattern(Constant.DATE_FORMAT)), 600.0f);
         StudentDTO map = objectMapper.convertValue(expectedStudent, StudentDTO.class);
-        List<Student> students = new ArrayList<>();
+        List<StudentDTO> students = new ArrayList<>();
 
         // When & Then
-        Mockito.when(studentService.getAllRecordsByExample(expectedStudent)).thenReturn(students);
+        Mockito.when(studentService.getAllDtosByExample(expectedStudent)).thenReturn(students);
         Mockito.when(studentMapper.convertFromDtoToEntity(Mockito.any())).thenReturn(expectedStudent);
         Assertions.assertThatThrownBy(() -> studentController.getAllRecordsByExample(map))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("No record found with map " + objectMapper.writeValueAsString(map));
 
 
-        Mockito.verify(studentService).getAllRecordsByExample(expectedStudent);
+        Mockito.verify(studentService).getAllDtosByExample(expectedStudent);
         Mockito.verify(studentMapper, Mockito.atLeastOnce()).convertFromDtoToEntity(Mockito.any());
     }
 
@@ -256,6 +368,121 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
         Mockito.verify(studentMapper, Mockito.atLeastOnce()).convertFromDtoToEntity(Mockito.any());
     }
 
+    @Test
+    void testGivenNdjson_WhenInsertBulkRecords_ThenReturnChunkSummary() throws IOException {
+        // Given
+        List<Student> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Student.class));
+        StringBuilder ndjson = new StringBuilder();
+        for (Student student : students) {
+            ndjson.append(objectMapper.writeValueAsString(objectMapper.convertValue(student, StudentDTO.class))).append('\n');
+        }
+        List<Student> savedStudents = new ArrayList<>();
+
+        // When
+        Mockito.when(studentMapper.convertFromDtoToEntity(Mockito.any())).thenAnswer(invocation -> objectMapper.convertValue(invocation.getArgument(0), Student.class));
+        Mockito.when(studentService.ingestRecords(Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(invocation -> ingestInOrder(invocation, savedStudents, -1));
+        ResponseEntity<List<BulkChunkDTO>> responseEntity = studentController.insertBulkRecords(4, new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Assertions.assertThat(responseEntity.getBody())
+                .extracting(BulkChunkDTO::chunk, BulkChunkDTO::records, BulkChunkDTO::failed)
+                .containsExactly(AssertionsForClassTypes.tuple(0, 4, false), AssertionsForClassTypes.tuple(1, 4, false), AssertionsForClassTypes.tuple(2, 2, false));
+        Assertions.assertThat(savedStudents)
+                .extracting(Student::getRollNo, Student::getFirstName, Student::getDateOfBirth)
+                .containsExactly(students.stream()
+                        .map(student -> AssertionsForClassTypes.tuple(student.getRollNo(), student.getFirstName(), student.getDateOfBirth()))
+                        .toArray(Tuple[]::new));
+        Mockito.verify(studentService).ingestRecords(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(studentService, Mockito.never()).insertBulkRecords(Mockito.any());
+    }
+
+    @Test
+    void testGivenJsonArray_WhenInsertBulkRecords_ThenReturnSingleChunk() throws IOException {
+        // Given
+        List<Student> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Student.class));
+        byte[] body = objectMapper.writeValueAsBytes(students);
+
+        // When
+        Mockito.when(studentMapper.convertFromDtoToEntity(Mockito.any())).thenAnswer(invocation -> objectMapper.convertValue(invocation.getArgument(0), Student.class));
+        Mockito.when(studentService.ingestRecords(Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(invocation -> ingestInOrder(invocation, new ArrayList<>(), -1));
+        ResponseEntity<List<BulkChunkDTO>> responseEntity = studentController.insertBulkRecords(500, new ByteArrayInputStream(body));
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Assertions.assertThat(responseEntity.getBody())
+                .extracting(BulkChunkDTO::chunk, BulkChunkDTO::records)
+                .containsExactly(AssertionsForClassTypes.tuple(0, students.size()));
+    }
+
+    @Test
+    void testGivenFailedChunk_WhenInsertBulkRecords_ThenReturnMultiStatusWithFailedChunk() throws IOException {
+        // Given
+        List<Student> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Student.class));
+        byte[] body = objectMapper.writeValueAsBytes(students);
+
+        // When
+        Mockito.when(studentMapper.convertFromDtoToEntity(Mockito.any())).thenAnswer(invocation -> objectMapper.convertValue(invocation.getArgument(0), Student.class));
+        Mockito.when(studentService.ingestRecords(Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(invocation -> ingestInOrder(invocation, new ArrayList<>(), 1));
+        ResponseEntity<List<BulkChunkDTO>> responseEntity = studentController.insertBulkRecords(4, new ByteArrayInputStream(body));
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+        Assertions.assertThat(responseEntity.getBody())
+                .extracting(BulkChunkDTO::chunk, BulkChunkDTO::records, BulkChunkDTO::failed)
+                .containsExactly(AssertionsForClassTypes.tuple(0, 4, false), AssertionsForClassTypes.tuple(1, 0, true), AssertionsForClassTypes.tuple(2, 2, false));
+    }
+
+    @Test
+    void testGivenMalformedRecordAfterFirstChunks_WhenInsertBulkRecords_ThenReturnMultiStatusWithFailingPosition() throws IOException {
+        // Given
+        List<Student> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Student.class));
+        StringBuilder ndjson = new StringBuilder();
+        for (Student student : students.subList(0, 9)) {
+            ndjson.append(objectMapper.writeValueAsString(objectMapper.convertValue(student, StudentDTO.class))).append('\n');
+        }
+        ndjson.append("{\"firstName\": }\n");
+        List<Student> savedStudents = new ArrayList<>();
+
+        // When
+        Mockito.when(studentMapper.convertFromDtoToEntity(Mockito.any())).thenAnswer(invocation -> objectMapper.convertValue(invocation.getArgument(0), Student.class));
+        Mockito.when(studentService.ingestRecords(Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(invocation -> ingestInOrder(invocation, savedStudents, -1));
+        ResponseEntity<List<BulkChunkDTO>> responseEntity = studentController.insertBulkRecords(4, new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+        Assertions.assertThat(responseEntity.getBody())
+                .extracting(BulkChunkDTO::chunk, BulkChunkDTO::records, BulkChunkDTO::failed)
+                .containsExactly(AssertionsForClassTypes.tuple(0, 4, false), AssertionsForClassTypes.tuple(1, 4, false), AssertionsForClassTypes.tuple(2, 0, true));
+        Assertions.assertThat(responseEntity.getBody().get(2).error()).startsWith("Malformed record 10 at line 10");
+        Assertions.assertThat(savedStudents).hasSize(8);
+    }
+
+    @Test
+    void testGivenMalformedFirstRecord_WhenInsertBulkRecords_ThenThrowException() {
+        // Given
+        ByteArrayInputStream body = new ByteArrayInputStream("{\"firstName\": }\n".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        Mockito.when(studentService.ingestRecords(Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(invocation -> ingestInOrder(invocation, new ArrayList<>(), -1));
+
+        // Then
+        Assertions.assertThatThrownBy(() -> studentController.insertBulkRecords(4, body))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageStartingWith("Malformed record 1 at line 1");
+    }
+
+    @Test
+    void testGivenZeroCommitSize_WhenInsertBulkRecords_ThenThrowException() {
+        // Given
+        ByteArrayInputStream body = new ByteArrayInputStream(new byte[0]);
+
+        // When & Then
+        Assertions.assertThatThrownBy(() -> studentController.insertBulkRecords(0, body))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Commit size must be greater than 0: 0");
+    }
+
     @Test
     @Override
     public void testGivenExistingRecordAndExistingRecordId_WhenUpdateRecord_ThenReturnUpdateRecord() throws IOException {
@@ -265,8 +492,10 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
         expectedStudent.setId(15);
 
         // When
-        Mockito.when(studentService.updateRecord(expectedStudent.getId(), expectedStudent)).thenReturn(Optional.of(expectedStudent));
-        Mockito.when(studentMapper.convertFromDtoToEntity(Mockito.any())).thenReturn(expectedStudent);
+        Mockito.when(studentService.updateRecord(Mockito.eq(expectedStudent.getId()), Mockito.eq(expectedStudent.getId()), Mockito.isNull(), Mockito.any())).thenAnswer(invocation -> {
+            invocation.<Consumer<Student>>getArgument(3).accept(expectedStudent);
+            return Optional.of(expectedStudent);
+        });
         Mockito.when(studentMapper.convertFromEntityToDto(Mockito.any())).thenReturn(objectMapper.convertValue(expectedStudent, StudentDTO.class));
         ResponseEntity<StudentDTO> actualStudent = studentController.updateRecord(expectedStudent.getId(), objectMapper.convertValue(expectedStudent, StudentDTO.class));
 
@@ -274,8 +503,8 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
         Assertions.assertThat(actualStudent.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
         Assertions.assertThat(actualStudent.getBody()).isNotNull();
         assertRecord(expectedStudent, actualStudent.getBody());
-        Mockito.verify(studentService).updateRecord(expectedStudent.getId(), expectedStudent);
-        Mockito.verify(studentMapper, Mockito.atLeastOnce()).convertFromDtoToEntity(Mockito.any());
+        Mockito.verify(studentService).updateRecord(Mockito.eq(expectedStudent.getId()), Mockito.eq(expectedStudent.getId()), Mockito.isNull(), Mockito.any());
+        Mockito.verify(studentMapper, Mockito.atLeastOnce()).applyDtoToEntity(Mockito.any(), Mockito.eq(expectedStudent));
         Mockito.verify(studentMapper, Mockito.atLeastOnce()).convertFromEntityToDto(Mockito.any());
     }
 
@@ -286,12 +515,11 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
         int id = RandomUtils.nextInt();
 
         // When & Then
-        Mockito.when(studentService.updateRecord(id, null)).thenReturn(Optional.empty());
-        Mockito.when(studentMapper.convertFromDtoToEntity(Mockito.any())).thenReturn(null);
+        Mockito.when(studentService.updateRecord(Mockito.eq(id), Mockito.isNull(), Mockito.isNull(), Mockito.any())).thenReturn(Optional.empty());
         Assertions.assertThatThrownBy(() -> studentController.updateRecord(id, null))
                 .isInstanceOf(InternalServerErrorException.class)
                 .hasMessage("Something went wrong");
-        Mockito.verify(studentService).updateRecord(id, null);
+        Mockito.verify(studentService).updateRecord(Mockito.eq(id), Mockito.isNull(), Mockito.isNull(), Mockito.any());
     }
 
     @Test
@@ -351,4 +579,25 @@ class StudentControllerTest implements BaseControllerTest<Student, StudentDTO> {
         Assertions.assertThat(actualRecord.getDateOfBirth()).isEqualTo(expectedRecord.getDateOfBirth().format(DateTimeFormatter.ofPattern(Constant.DATE_FORMAT)));
         Assertions.assertThat(actualRecord.getMarks()).isEqualTo(expectedRecord.getMarks());
     }
-}
\ No newline at end of file
+
+    private static IngestReport ingestInOrder(InvocationOnMock invocation, List<Student> savedStudents, int failedPartition) {
+        Iterator<List<StudentDTO>> partitions = invocation.getArgument(0);
+        Function<StudentDTO, Student> mapping = invocation.getArgument(1);
+        Consumer<IngestPartition> progress = invocation.getArgument(2);
+        List<Integer> failedPartitions = new ArrayList<>();
+        int partition = 0;
+        long records = 0;
+        for (; partitions.hasNext(); partition++) {
+            List<Student> chunk = partitions.next().stream().map(mapping).toList();
+            boolean failed = partition == failedPartition;
+            if (failed) {
+                failedPartitions.add(partition);
+            } else {
+                savedStudents.addAll(chunk);
+                records += chunk.size();
+            }
+            progress.accept(new IngestPartition(partition, failed ? 0 : chunk.size(), 1, failed, 0L));
+        }
+        return new IngestReport(partition, partition, failedPartitions, records, 0, 0L);
+    }
+}
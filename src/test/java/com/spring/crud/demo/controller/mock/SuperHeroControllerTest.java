@@ -23,13 +23,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @ExtendWith(MockitoExtension.class)
 class SuperHeroControllerTest implements BaseControllerTest<SuperHero, SuperHeroDTO> {
@@ -48,6 +52,7 @@ class SuperHeroControllerTest implements BaseControllerTest<SuperHero, SuperHero
         file = FileLoader.getFileFromResource("superheroes.json");
 
         superHeroMapper = Mockito.mock(SuperHeroMapper.class);
+        Mockito.when(superHeroMapper.convertFromEntitiesToDtos(Mockito.anyList())).thenCallRealMethod();
         superHeroService = Mockito.mock(SuperHeroService.class);
         superHeroController = new SuperHeroController(superHeroService, superHeroMapper, objectMapper);
     }
@@ -67,8 +72,7 @@ class SuperHeroControllerTest implements BaseControllerTest<SuperHero, SuperHero
                 .toArray(Tuple[]::new);
 
         // When
-        Mockito.when(superHeroService.getAllRecords()).thenReturn(superHeroes);
-        superHeroes.forEach(superHero -> Mockito.when(superHeroMapper.convertFromEntityToDto(superHero)).thenReturn(objectMapper.convertValue(superHero, SuperHeroDTO.class)));
+        Mockito.when(superHeroService.getAllDtos()).thenReturn(superHeroes.stream().map(superHero -> objectMapper.convertValue(superHero, SuperHeroDTO.class)).toList());
         ResponseEntity<List<SuperHeroDTO>> actualSuperHeroes = superHeroController.getAllRecords();
 
         // Then
@@ -82,22 +86,59 @@ class SuperHeroControllerTest implements BaseControllerTest<SuperHero, SuperHero
                         SuperHeroDTO::getAge,
                         SuperHeroDTO::getCanFly)
                 .containsExactly(expectedSuperHeroes);
-        Mockito.verify(superHeroService, Mockito.atLeastOnce()).getAllRecords();
-        superHeroes.forEach(superHero -> Mockito.verify(superHeroMapper, Mockito.atLeastOnce()).convertFromEntityToDto(superHero));
+        Mockito.verify(superHeroService, Mockito.atLeastOnce()).getAllDtos();
     }
 
     @Test
     @Override
     public void testGivenNon_WhenGetAllRecords_ThenThrowException() {
         // Given
-        List<SuperHero> superHeroList = new ArrayList<>();
+        List<SuperHeroDTO> superHeroList = new ArrayList<>();
 
         // When & Then
-        Mockito.when(superHeroService.getAllRecords()).thenReturn(superHeroList);
+        Mockito.when(superHeroService.getAllDtos()).thenReturn(superHeroList);
         Assertions.assertThatThrownBy(() -> superHeroController.getAllRecords())
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("No record found");
-        Mockito.verify(superHeroService, Mockito.atLeastOnce()).getAllRecords();
+        Mockito.verify(superHeroService, Mockito.atLeastOnce()).getAllDtos();
+    }
+
+    @Test
+    void testGivenNon_WhenStreamAllRecords_ThenWriteJsonArray() throws IOException {
+        // Given
+        List<SuperHero> superHeroes = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, SuperHero.class));
+        Tuple[] expectedSuperHeroes = superHeroes.stream()
+                .map(superHero -> AssertionsForClassTypes.tuple(
+                        superHero.getName(),
+                        superHero.getSuperName(),
+                        superHero.getProfession(),
+                        superHero.getAge(),
+                        superHero.getCanFly()))
+                .toArray(Tuple[]::new);
+
+        // When
+        Mockito.doAnswer(invocation -> {
+            superHeroes.forEach(invocation.<Consumer<SuperHero>>getArgument(0));
+            return null;
+        }).when(superHeroService).streamAllRecords(Mockito.any());
+        superHeroes.forEach(superHero -> Mockito.when(superHeroMapper.convertFromEntityToDto(superHero)).thenReturn(objectMapper.convertValue(superHero, SuperHeroDTO.class)));
+        ResponseEntity<StreamingResponseBody> responseEntity = superHeroController.streamAllRecords();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        responseEntity.getBody().writeTo(outputStream);
+        List<SuperHeroDTO> actualSuperHeroes = objectMapper.readValue(outputStream.toByteArray(), typeFactory.constructCollectionType(List.class, SuperHeroDTO.class));
+
+        // Then
+        Assertions.assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(responseEntity.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        Assertions.assertThat(actualSuperHeroes)
+                .extracting(SuperHeroDTO::getName,
+                        SuperHeroDTO::getSuperName,
+                        SuperHeroDTO::getProfession,
+                        SuperHeroDTO::getAge,
+                        SuperHeroDTO::getCanFly)
+                .containsExactly(expectedSuperHeroes);
+        Mockito.verify(superHeroService, Mockito.atLeastOnce()).streamAllRecords(Mockito.any());
+        superHeroes.forEach(superHero -> Mockito.verify(superHeroMapper, Mockito.atLeastOnce()).convertFromEntityToDto(superHero));
     }
 
     @Test
@@ -109,16 +150,14 @@ class SuperHeroControllerTest implements BaseControllerTest<SuperHero, SuperHero
         SuperHero expectedSuperHero = superHeroes.stream().filter(superHero -> superHero.getSuperName().equals("Spider Man")).findFirst().orElseGet(SuperHero::new);
 
         // When
-        Mockito.when(superHeroService.getRecordsById(id)).thenReturn(Optional.of(expectedSuperHero));
-        Mockito.when(superHeroMapper.convertFromEntityToDto(expectedSuperHero)).thenReturn(objectMapper.convertValue(expectedSuperHero, SuperHeroDTO.class));
+        Mockito.when(superHeroService.getDtoById(id)).thenReturn(Optional.of(objectMapper.convertValue(expectedSuperHero, SuperHeroDTO.class)));
         ResponseEntity<SuperHeroDTO> actualSuperHero = superHeroController.getRecordsById(id);
 
         // Then
         Assertions.assertThat(actualSuperHero.getStatusCode()).isEqualTo(HttpStatus.OK);
         Assertions.assertThat(actualSuperHero.getBody()).isNotNull();
         assertRecord(expectedSuperHero, actualSuperHero.getBody());
-        Mockito.verify(superHeroService).getRecordsById(id);
-        Mockito.verify(superHeroMapper, Mockito.atLeastOnce()).convertFromEntityToDto(expectedSuperHero);
+        Mockito.verify(superHeroService).getDtoById(id);
     }
 
     @Test
@@ -126,14 +165,14 @@ class SuperHeroControllerTest implements BaseControllerTest<SuperHero, SuperHero
     public void testGivenRandomId_WhenGetRecordsById_ThenThrowException() {
         // Given
         int id = RandomUtils.nextInt();
-        Optional<SuperHero> superHeroList = Optional.empty();
+        Optional<SuperHeroDTO> superHeroList = Optional.empty();
 
         // When & Then
-        Mockito.when(superHeroService.getRecordsById(id)).thenReturn(superHeroList);
+        Mockito.when(superHeroService.getDtoById(id)).thenReturn(superHeroList);
         Assertions.assertThatThrownBy(() -> superHeroController.getRecordsById(id))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("No record found with id " + id);
-        Mockito.verify(superHeroService).getRecordsById(id);
+        Mockito.verify(superHeroService).getDtoById(id);
     }
 
     @Test
@@ -145,9 +184,8 @@ class SuperHeroControllerTest implements BaseControllerTest<SuperHero, SuperHero
         SuperHeroDTO map = new ObjectMapper().convertValue(expectedSuperHero, SuperHeroDTO.class);
 
         // When
-        Mockito.when(superHeroService.getAllRecordsByExample(expectedSuperHero)).thenReturn(List.of(expectedSuperHero));
+        Mockito.when(superHeroService.getAllDtosByExample(expectedSuperHero)).thenReturn(List.of(objectMapper.convertValue(expectedSuperHero, SuperHeroDTO.class)));
         Mockito.when(superHeroMapper.convertFromDtoToEntity(Mockito.any())).thenReturn(expectedSuperHero);
-        Mockito.when(superHeroMapper.convertFromEntityToDto(Mockito.any())).thenReturn(objectMapper.convertValue(map, SuperHeroDTO.class));
         ResponseEntity<List<SuperHeroDTO>> actualSuperHeroes = superHeroController.getAllRecordsByExample(map);
 
         // Then
@@ -155,9 +193,8 @@ class SuperHeroControllerTest implements BaseControllerTest<SuperHero, SuperHero
         Assertions.assertThat(actualSuperHeroes.getBody()).isNotNull();
         Assertions.assertThat(actualSuperHeroes.getBody().size()).isGreaterThan(0);
         assertRecord(expectedSuperHero, actualSuperHeroes.getBody().get(0));
-        Mockito.verify(superHeroService).getAllRecordsByExample(expectedSuperHero);
+        Mockito.verify(superHeroService).getAllDtosByExample(expectedSuperHero);
         Mockito.verify(superHeroMapper, Mockito.atLeastOnce()).convertFromDtoToEntity(Mockito.any());
-        Mockito.verify(superHeroMapper, Mockito.atLeastOnce()).convertFromEntityToDto(Mockito.any());
     }
 
     @Test
@@ -166,17 +203,17 @@ class SuperHeroControllerTest implements BaseControllerTest<SuperHero, SuperHero
         // Given
         SuperHero expectedSuperHero = new SuperHero("Bruce Wayne", "Batman", "Business man", 35, true);
         SuperHeroDTO map = objectMapper.convertValue(expectedSuperHero, SuperHeroDTO.class);
-        List<SuperHero> superHeroes = new ArrayList<>();
+        List<SuperHeroDTO> superHeroes = new ArrayList<>();
 
         // When & Then
-        Mockito.when(superHeroService.getAllRecordsByExample(expectedSuperHero)).thenReturn(superHeroes);
+        Mockito.when(superHeroService.getAllDtosByExample(expectedSuperHero)).thenReturn(superHeroes);
         Mockito.when(superHeroMapper.convertFromDtoToEntity(Mockito.any())).thenReturn(expectedSuperHero);
         Assertions.assertThatThrownBy(() -> superHeroController.getAllRecordsByExample(map))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("No record found with map " + objectMapper.writeValueAsString(map));
 
 
-        Mockito.verify(superHeroService).getAllRecordsByExample(expectedSuperHero);
+        Mockito.verify(superHeroService).getAllDtosByExample(expectedSuperHero);
         Mockito.verify(superHeroMapper, Mockito.atLeastOnce()).convertFromDtoToEntity(Mockito.any());
     }
 
@@ -231,8 +268,10 @@ class SuperHeroControllerTest implements BaseControllerTest<SuperHero, SuperHero
         expectedSuperHero.setId(15);
 
         // When
-        Mockito.when(superHeroService.updateRecord(expectedSuperHero.getId(), expectedSuperHero)).thenReturn(Optional.of(expectedSuperHero));
-        Mockito.when(superHeroMapper.convertFromDtoToEntity(Mockito.any())).thenReturn(expectedSuperHero);
+        Mockito.when(superHeroService.updateRecord(Mockito.eq(expectedSuperHero.getId()), Mockito.eq(expectedSuperHero.getId()), Mockito.isNull(), Mockito.any())).thenAnswer(invocation -> {
+            invocation.<Consumer<SuperHero>>getArgument(3).accept(expectedSuperHero);
+            return Optional.of(expectedSuperHero);
+        });
         Mockito.when(superHeroMapper.convertFromEntityToDto(Mockito.any())).thenReturn(objectMapper.convertValue(expectedSuperHero, SuperHeroDTO.class));
         ResponseEntity<SuperHeroDTO> actualSuperHero = superHeroController.updateRecord(expectedSuperHero.getId(), objectMapper.convertValue(expectedSuperHero, SuperHeroDTO.class));
 
@@ -240,8 +279,8 @@ class SuperHeroControllerTest implements BaseControllerTest<SuperHero, SuperHero
         Assertions.assertThat(actualSuperHero.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
         Assertions.assertThat(actualSuperHero.getBody()).isNotNull();
         assertRecord(expectedSuperHero, actualSuperHero.getBody());
-        Mockito.verify(superHeroService).updateRecord(expectedSuperHero.getId(), expectedSuperHero);
-        Mockito.verify(superHeroMapper, Mockito.atLeastOnce()).convertFromDtoToEntity(Mockito.any());
+        Mockito.verify(superHeroService).updateRecord(Mockito.eq(expectedSuperHero.getId()), Mockito.eq(expectedSuperHero.getId()), Mockito.isNull(), Mockito.any());
+        Mockito.verify(superHeroMapper, Mockito.atLeastOnce()).applyDtoToEntity(Mockito.any(), Mockito.eq(expectedSuperHero));
         Mockito.verify(superHeroMapper, Mockito.atLeastOnce()).convertFromEntityToDto(Mockito.any());
     }
 
@@ -252,13 +291,11 @@ class SuperHeroControllerTest implements BaseControllerTest<SuperHero, SuperHero
         int id = RandomUtils.nextInt();
 
         // When & Then
-        Mockito.when(superHeroService.updateRecord(id, null)).thenReturn(Optional.empty());
-        Mockito.when(superHeroMapper.convertFromDtoToEntity(Mockito.any())).thenReturn(null);
+        Mockito.when(superHeroService.updateRecord(Mockito.eq(id), Mockito.isNull(), Mockito.isNull(), Mockito.any())).thenReturn(Optional.empty());
         Assertions.assertThatThrownBy(() -> superHeroController.updateRecord(id, null))
                 .isInstanceOf(InternalServerErrorException.class)
                 .hasMessage("Something went wrong");
-        Mockito.verify(superHeroService).updateRecord(id, null);
-        Mockito.verify(superHeroMapper, Mockito.atLeastOnce()).convertFromDtoToEntity(Mockito.any());
+        Mockito.verify(superHeroService).updateRecord(Mockito.eq(id), Mockito.isNull(), Mockito.isNull(), Mockito.any());
     }
 
     @Test
@@ -0,0 +1,105 @@
+package com.spring.crud.demo.controller.mockmvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.spring.crud.demo.controller.BaseSetUp;
+import com.spring.crud.demo.dto.StudentDTO;
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.utils.FileLoader;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=classpath:ehcache.xml",
+        "spring.jpa.properties.hibernate.cache.auto_evict_collection_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class SecondLevelCacheMockMVCTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TypeFactory typeFactory = objectMapper.getTypeFactory();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete("/students").accept(MediaType.APPLICATION_JSON));
+        mockMvc.perform(MockMvcRequestBuilders.delete("/employees").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testGivenLoadedStudent_WhenGetRecordsById_ThenServeFromCacheWithoutStatements() throws Exception {
+        // Given
+        List<StudentDTO> students = objectMapper.readValue(FileLoader.getFileFromResource("students.json"), typeFactory.constructCollectionType(List.class, StudentDTO.class));
+        StudentDTO expectedStudent = new BaseSetUp<StudentDTO, StudentDTO>("/students", mockMvc, objectMapper).apply(students.get(0));
+        getById("/students/{id}", expectedStudent.getId());
+        Statistics statistics = clearStatistics();
+
+        // When
+        ResultActions resultActions = getById("/students/{id}", expectedStudent.getId());
+
+        // Then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.id").value(expectedStudent.getId()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.firstName").value(expectedStudent.getFirstName()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.version").value(0));
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isZero();
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics("student").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testGivenLoadedEmployee_WhenGetRecordsById_ThenServeEmployeeAndCollectionsFromCache() throws Exception {
+        // Given
+        List<EmployeeDTO> employees = objectMapper.readValue(FileLoader.getFileFromResource("employees.json"), typeFactory.constructCollectionType(List.class, EmployeeDTO.class));
+        EmployeeDTO expectedEmployee = new BaseSetUp<EmployeeDTO, EmployeeDTO>("/employees", mockMvc, objectMapper).apply(employees.get(0));
+        getById("/employees/{id}", expectedEmployee.getId());
+        Statistics statistics = clearStatistics();
+
+        // When
+        ResultActions resultActions = getById("/employees/{id}", expectedEmployee.getId());
+
+        // Then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.id").value(expectedEmployee.getId()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.address.city").value(expectedEmployee.getAddress().getCity()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.phoneNumbers.length()").value(expectedEmployee.getPhoneNumbers().size()));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.hobbies.length()").value(expectedEmployee.getHobbies().size()));
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics("employee").getHitCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics("employee.hobbies").getHitCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics("employee.phoneNumbers").getHitCount()).isEqualTo(1);
+    }
+
+    private ResultActions getById(String url, Integer id) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get(url, id).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.log());
+    }
+
+    private Statistics clearStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -113,6 +113,68 @@ public class StudentControllerMockMVCTest implements BaseControllerTest<Student,
         resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.message", "No record found").exists());
     }
 
+    @Test
+    void testGivenZeroCommitSize_WhenInsertBulkRecords_ThenReturnBadRequest() throws Exception {
+        // When
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders
+                        .post("/students/bulk")
+                        .param("commitSize", "0")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.log());
+
+        // Then
+        resultActions.andExpect(MockMvcResultMatchers.status().isBadRequest());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(400));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Commit size must be greater than 0: 0"));
+    }
+
+    @Test
+    void testGivenXmlAccept_WhenInsertBulkRecords_ThenReturnNotAcceptable() throws Exception {
+        // When
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders
+                        .post("/students/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("")
+                        .accept(MediaType.APPLICATION_XML))
+                .andDo(MockMvcResultHandlers.log());
+
+        // Then
+        resultActions.andExpect(MockMvcResultMatchers.status().isNotAcceptable());
+    }
+
+    @Test
+    void testGivenCursorWithoutLimit_WhenGetAllRecords_ThenReturnBadRequest() throws Exception {
+        // When
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders
+                        .get("/students")
+                        .param("after", "5")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.log());
+
+        // Then
+        resultActions.andExpect(MockMvcResultMatchers.status().isBadRequest());
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(400));
+        resultActions.andExpect(MockMvcResultMatchers.header().string("Access-Control-Expose-Headers", "Location, " + Constant.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void testGivenZeroLimit_WhenGetRecordsPage_ThenReturnBadRequest() throws Exception {
+        // When
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders
+                        .get("/students")
+                        .param("limit", "0")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.log());
+
+        // Then
+        resultActions.andExpect(MockMvcResultMatchers.status().isBadRequest());
+        resultActions.andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(400));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Limit must be between 1 and " + Constant.MAX_PAGE_SIZE + ": 0"));
+    }
+
     @Test
     @Override
     public void testGivenId_WhenGetRecordsById_ThenReturnRecord() throws Exception {
@@ -252,6 +314,31 @@ public class StudentControllerMockMVCTest implements BaseControllerTest<Student,
         resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.message", "No record found").exists());
     }
 
+    @Test
+    void testGivenExistingRollNo_WhenInsertRecord_ThenReturnConflict() throws Exception {
+        // Given
+        List<StudentDTO> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, StudentDTO.class));
+        StudentDTO insertRecord = students.stream().filter(s -> s.getFirstName().equals("Rahul") && s.getLastName().equals("Ghadage")).findFirst().orElseGet(StudentDTO::new);
+        StudentDTO duplicateStudent = new BaseSetUp<StudentDTO,StudentDTO>("/students", mockMvc,objectMapper).apply(insertRecord);
+        duplicateStudent.setId(null);
+        duplicateStudent.setVersion(null);
+        duplicateStudent.setFirstName("Rohit");
+
+        // When
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders
+                        .post("/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(duplicateStudent))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.log());
+
+        // Then
+        resultActions.andExpect(MockMvcResultMatchers.status().isConflict());
+        resultActions.andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(409));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Record conflicts with a stored record, a unique or referential constraint is violated"));
+    }
+
     @Test
     @Override
     public void testGivenExistingRecordAndExistingRecordId_WhenUpdateRecord_ThenReturnUpdateRecord() throws Exception {
@@ -280,6 +367,64 @@ public class StudentControllerMockMVCTest implements BaseControllerTest<Student,
         resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.marks").value(expectedStudent.getMarks()));
     }
 
+    @Test
+    void testGivenStaleVersion_WhenUpdateRecord_ThenReturnConflict() throws Exception {
+        // Given
+        List<StudentDTO> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, StudentDTO.class));
+        StudentDTO insertRecord = students.stream().filter(s -> s.getFirstName().equals("Rahul") && s.getLastName().equals("Ghadage")).findFirst().orElseGet(StudentDTO::new);
+        StudentDTO expectedStudent = new BaseSetUp<StudentDTO,StudentDTO>("/students", mockMvc,objectMapper).apply(insertRecord);
+        expectedStudent.setMarks(800.f);
+        mockMvc.perform(MockMvcRequestBuilders
+                        .put("/students/{id}", expectedStudent.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(expectedStudent))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isAccepted())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version").value(expectedStudent.getVersion() + 1));
+
+        // When
+        expectedStudent.setMarks(700.f);
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders
+                        .put("/students/{id}", expectedStudent.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(expectedStudent))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.log());
+
+        // Then
+        resultActions.andExpect(MockMvcResultMatchers.status().isConflict());
+        resultActions.andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(409));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Record with id " + expectedStudent.getId()
+                + " is at version " + (expectedStudent.getVersion() + 1) + ", payload has version " + expectedStudent.getVersion()));
+    }
+
+    @Test
+    void testGivenMissingVersion_WhenUpdateRecord_ThenReturnPreconditionRequired() throws Exception {
+        // Given
+        List<StudentDTO> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, StudentDTO.class));
+        StudentDTO insertRecord = students.stream().filter(s -> s.getFirstName().equals("Rahul") && s.getLastName().equals("Ghadage")).findFirst().orElseGet(StudentDTO::new);
+        StudentDTO expectedStudent = new BaseSetUp<StudentDTO,StudentDTO>("/students", mockMvc,objectMapper).apply(insertRecord);
+        Integer storedVersion = expectedStudent.getVersion();
+
+        // When
+        expectedStudent.setMarks(800.f);
+        expectedStudent.setVersion(null);
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders
+                        .put("/students/{id}", expectedStudent.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(expectedStudent))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.log());
+
+        // Then
+        resultActions.andExpect(MockMvcResultMatchers.status().isPreconditionRequired());
+        resultActions.andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.status").value(428));
+        resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Record with id " + expectedStudent.getId()
+                + " is at version " + storedVersion + ", payload has no version"));
+    }
+
     @Test
     @Override
     public void testGivenRandomIdAndNullRecord_WhenUpdateRecord_ThenThrowException() throws Exception {
@@ -0,0 +1,46 @@
+package com.spring.crud.demo.jakson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class TemporalCodecModuleTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().registerModule(new TemporalCodecModule());
+
+    @Test
+    void testGivenDates_WhenWriteAndRead_ThenRoundTripInConstantFormat() throws IOException {
+        // Given
+        List<LocalDate> dates = List.of(LocalDate.of(2000, 1, 31), LocalDate.of(9999, 12, 31));
+        List<LocalDateTime> dateTimes = List.of(LocalDateTime.of(2024, 2, 29, 7, 5, 9));
+
+        // When
+        String datesJson = objectMapper.writeValueAsString(dates);
+        String dateTimesJson = objectMapper.writeValueAsString(dateTimes);
+
+        // Then
+        Assertions.assertThat(datesJson).startsWith("[\"31-01-2000\",");
+        Assertions.assertThat(dateTimesJson).isEqualTo("[\"29-02-2024 07:05:09\"]");
+        Assertions.assertThat(objectMapper.readValue(datesJson, new TypeReference<List<LocalDate>>() {})).isEqualTo(dates);
+        Assertions.assertThat(objectMapper.readValue(objectMapper.getFactory().createParser(dateTimesJson.getBytes()), new TypeReference<List<LocalDateTime>>() {})).isEqualTo(dateTimes);
+    }
+
+    @Test
+    void testGivenMalformedDate_WhenRead_ThenThrowInvalidFormatException() {
+        // Given & When & Then
+        Assertions.assertThatThrownBy(() -> objectMapper.readValue("\"2000-01-31\"", LocalDate.class))
+                .isInstanceOf(InvalidFormatException.class);
+        Assertions.assertThatThrownBy(() -> objectMapper.readValue("\"31-01-2000 25:00:00\"", LocalDateTime.class))
+                .isInstanceOf(InvalidFormatException.class);
+        Assertions.assertThatThrownBy(() -> objectMapper.readValue("20000131", LocalDate.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+}
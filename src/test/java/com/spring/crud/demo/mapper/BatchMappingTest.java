@@ -0,0 +1,47 @@
+package com.spring.crud.demo.mapper;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+class BatchMappingTest {
+
+    @Test
+    void testGivenSmallList_WhenMap_ThenReturnMappedListInOrder() {
+        // Given
+        List<Integer> sources = IntStream.range(0, 10).boxed().toList();
+
+        // When
+        List<String> targets = BatchMapping.map(sources, String::valueOf);
+
+        // Then
+        Assertions.assertThat(targets).containsExactlyElementsOf(sources.stream().map(String::valueOf).toList());
+    }
+
+    @Test
+    void testGivenLinkedList_WhenMap_ThenReturnMutableArrayListInOrder() {
+        // Given
+        List<Integer> sources = new LinkedList<>(IntStream.range(0, 5000).boxed().toList());
+
+        // When
+        List<String> targets = BatchMapping.map(sources, String::valueOf);
+        targets.add("extra");
+
+        // Then
+        Assertions.assertThat(targets).isInstanceOf(ArrayList.class);
+        Assertions.assertThat(targets.subList(0, sources.size())).containsExactlyElementsOf(sources.stream().map(String::valueOf).toList());
+    }
+
+    @Test
+    void testGivenEmptyList_WhenMap_ThenReturnEmptyList() {
+        // Given & When
+        List<String> targets = BatchMapping.map(List.<Integer>of(), String::valueOf);
+
+        // Then
+        Assertions.assertThat(targets).isEmpty();
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.spring.crud.demo.dto.emp.EmployeeDTO;
 import com.spring.crud.demo.dto.emp.PhoneNumberDTO;
+import com.spring.crud.demo.model.emp.Address;
 import com.spring.crud.demo.model.emp.Employee;
 import com.spring.crud.demo.model.emp.PhoneNumber;
 import com.spring.crud.demo.utils.Constant;
@@ -91,4 +92,46 @@ class EmployeeMapperTest {
         Assertions.assertThat(actualEmployeeDTO.getAddress().getCountry()).isEqualTo(employee.getAddress().getCountry());
         Assertions.assertThat(actualEmployeeDTO.getAddress().getPostalCode()).isEqualTo(employee.getAddress().getPostalCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void applyDtoToEntity() {
+        // Given
+        Employee managedEmployee = employeeMapper.convertFromDtoToEntity(employeeDTO);
+        managedEmployee.setId(1);
+        managedEmployee.getAddress().setId(2);
+        for (int i = 0; i < managedEmployee.getPhoneNumbers().size(); i++) {
+            managedEmployee.getPhoneNumbers().get(i).setId(10 + i);
+        }
+        Address address = managedEmployee.getAddress();
+        PhoneNumber phoneNumber = managedEmployee.getPhoneNumbers().get(0);
+        List<String> hobbies = managedEmployee.getHobbies();
+        List<PhoneNumber> phoneNumbers = managedEmployee.getPhoneNumbers();
+        int phoneNumberCount = phoneNumbers.size();
+
+        EmployeeDTO updateDTO = employeeMapper.convertFromEntityToDto(managedEmployee);
+        updateDTO.setAge(managedEmployee.getAge() + 1);
+        updateDTO.getAddress().setCity("Pune");
+        updateDTO.getPhoneNumbers().get(0).setNumber("0000000000");
+        PhoneNumberDTO newPhoneNumberDTO = new PhoneNumberDTO();
+        newPhoneNumberDTO.setType("office");
+        newPhoneNumberDTO.setNumber("1111111111");
+        updateDTO.getPhoneNumbers().add(newPhoneNumberDTO);
+
+        // When
+        employeeMapper.applyDtoToEntity(updateDTO, managedEmployee);
+
+        // Then
+        Assertions.assertThat(managedEmployee.getId()).isEqualTo(1);
+        Assertions.assertThat(managedEmployee.getAge()).isEqualTo(updateDTO.getAge());
+        Assertions.assertThat(managedEmployee.getHobbies()).isSameAs(hobbies);
+        Assertions.assertThat(managedEmployee.getAddress()).isSameAs(address);
+        Assertions.assertThat(address.getCity()).isEqualTo("Pune");
+        Assertions.assertThat(managedEmployee.getPhoneNumbers()).isSameAs(phoneNumbers).hasSize(phoneNumberCount + 1);
+        Assertions.assertThat(managedEmployee.getPhoneNumbers().get(0)).isSameAs(phoneNumber);
+        Assertions.assertThat(phoneNumber.getNumber()).isEqualTo("0000000000");
+        PhoneNumber newPhoneNumber = managedEmployee.getPhoneNumbers().get(phoneNumberCount);
+        Assertions.assertThat(newPhoneNumber.getId()).isNull();
+        Assertions.assertThat(newPhoneNumber.getNumber()).isEqualTo("1111111111");
+        Assertions.assertThat(newPhoneNumber.getEmployee()).isSameAs(managedEmployee);
+    }
+}
@@ -0,0 +1,52 @@
+package com.spring.crud.demo.mapper;
+
+import com.spring.crud.demo.dto.SuperHeroDTO;
+import com.spring.crud.demo.model.SuperHero;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+class ShardedDozerMapperTest {
+
+    @Test
+    void testGivenSuperHeroes_WhenMapOnManyThreads_ThenEveryThreadGetsSameResult() throws Exception {
+        // Given
+        ShardedDozerMapper shardedDozerMapper = new ShardedDozerMapper(4);
+        SuperHeroMapper superHeroMapper = new SuperHeroMapper(shardedDozerMapper);
+        SuperHero superHero = new SuperHero("Peter Parker", "Spider Man", "Photographer", 28, false);
+        superHero.setId(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<SuperHeroDTO>> futures;
+        try {
+            futures = executor.invokeAll(IntStream.range(0, 64)
+                    .<Callable<SuperHeroDTO>>mapToObj(i -> () -> superHeroMapper.convertFromEntityToDto(superHero))
+                    .toList());
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        Assertions.assertThat(shardedDozerMapper.getShardCount()).isEqualTo(4);
+        for (Future<SuperHeroDTO> future : futures) {
+            SuperHeroDTO superHeroDTO = future.get();
+            Assertions.assertThat(superHeroDTO.getId()).isEqualTo(superHero.getId());
+            Assertions.assertThat(superHeroDTO.getName()).isEqualTo(superHero.getName());
+            Assertions.assertThat(superHeroDTO.getSuperName()).isEqualTo(superHero.getSuperName());
+        }
+    }
+
+    @Test
+    void testGivenZeroShards_WhenCreate_ThenThrowIllegalArgumentException() {
+        // Given & When & Then
+        Assertions.assertThatThrownBy(() -> new ShardedDozerMapper(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
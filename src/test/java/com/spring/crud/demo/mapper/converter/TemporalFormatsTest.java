@@ -0,0 +1,52 @@
+package com.spring.crud.demo.mapper.converter;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+class TemporalFormatsTest {
+
+    @Test
+    void testGivenTemporalValues_WhenFormat_ThenMatchDateTimeFormatter() {
+        // Given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 2, 29, 7, 5, 9);
+
+        // When & Then
+        Assertions.assertThat(TemporalFormats.formatDateTime(dateTime)).isEqualTo(dateTime.format(TemporalFormats.DATE_TIME_FORMATTER));
+        Assertions.assertThat(TemporalFormats.formatDate(dateTime.toLocalDate())).isEqualTo("29-02-2024");
+        Assertions.assertThat(TemporalFormats.formatTime(dateTime.toLocalTime())).isEqualTo("07:05:09");
+        Assertions.assertThat(TemporalFormats.formatDate(LocalDate.of(12024, 1, 1))).isEqualTo(LocalDate.of(12024, 1, 1).format(TemporalFormats.DATE_FORMATTER));
+    }
+
+    @Test
+    void testGivenFormattedText_WhenParse_ThenMatchDateTimeFormatter() {
+        // Given & When & Then
+        Assertions.assertThat(TemporalFormats.parseDateTime("29-02-2024 07:05:09")).isEqualTo(LocalDateTime.of(2024, 2, 29, 7, 5, 9));
+        Assertions.assertThat(TemporalFormats.parseDate("01-12-1999")).isEqualTo(LocalDate.of(1999, 12, 1));
+        Assertions.assertThat(TemporalFormats.parseTime("23:59:59")).isEqualTo(LocalTime.of(23, 59, 59));
+        Assertions.assertThat(TemporalFormats.parseDate("31-04-2023")).isEqualTo(LocalDate.parse("31-04-2023", TemporalFormats.DATE_FORMATTER));
+    }
+
+    @Test
+    void testGivenNull_WhenFormatOrParse_ThenReturnNull() {
+        // Given & When & Then
+        Assertions.assertThat(TemporalFormats.formatDate(null)).isNull();
+        Assertions.assertThat(TemporalFormats.formatDateTime(null)).isNull();
+        Assertions.assertThat(TemporalFormats.formatTime(null)).isNull();
+        Assertions.assertThat(TemporalFormats.parseDate(null)).isNull();
+        Assertions.assertThat(TemporalFormats.parseDateTime(null)).isNull();
+        Assertions.assertThat(TemporalFormats.parseTime(null)).isNull();
+    }
+
+    @Test
+    void testGivenMalformedText_WhenParse_ThenThrowDateTimeParseException() {
+        // Given & When & Then
+        Assertions.assertThatThrownBy(() -> TemporalFormats.parseDate("2023-04-01")).isInstanceOf(DateTimeParseException.class);
+        Assertions.assertThatThrownBy(() -> TemporalFormats.parseDateTime("01-04-2023 25:00:00")).isInstanceOf(DateTimeParseException.class);
+        Assertions.assertThatThrownBy(() -> TemporalFormats.parseTime("ab:cd:ef")).isInstanceOf(DateTimeParseException.class);
+    }
+}
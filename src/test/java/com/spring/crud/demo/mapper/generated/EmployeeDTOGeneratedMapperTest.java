@@ -0,0 +1,139 @@
+package com.spring.crud.demo.mapper.generated;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.dto.emp.PhoneNumberDTO;
+import com.spring.crud.demo.model.emp.Address;
+import com.spring.crud.demo.model.emp.Employee;
+import com.spring.crud.demo.model.emp.PhoneNumber;
+import com.spring.crud.demo.utils.Constant;
+import com.spring.crud.demo.utils.FileLoader;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@SpringBootTest(properties = "mapper.engine=generated")
+class EmployeeDTOGeneratedMapperTest {
+
+    @Autowired
+    private EmployeeDTOGeneratedMapper employeeMapper;
+    private static final File file = FileLoader.getFileFromResource("employees.json");
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeFactory typeFactory = objectMapper.getTypeFactory();
+    private static Employee employee;
+    private static EmployeeDTO employeeDTO;
+
+
+    @BeforeAll
+    static void init() throws IOException {
+        List<Employee> employees = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Employee.class));
+        employee = employees.stream().filter(e -> e.getFirstName().equals("Rahul") && e.getLastName().equals("Ghadage")).findFirst().orElseGet(Employee::new);
+
+        List<EmployeeDTO> employeeDTOs = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, EmployeeDTO.class));
+        employeeDTO = employeeDTOs.stream().filter(e -> e.getFirstName().equals("Rahul") && e.getLastName().equals("Ghadage")).findFirst().orElseGet(EmployeeDTO::new);
+    }
+
+    @Test
+    void convertFromDtoToEntity() {
+        // Given
+
+        // When
+        Employee actualEmployee = employeeMapper.convertFromDtoToEntity(employeeDTO);
+
+        // Then
+        Assertions.assertThat(actualEmployee).isNotNull();
+        Assertions.assertThat(actualEmployee.getFirstName()).isEqualTo(employeeDTO.getFirstName());
+        Assertions.assertThat(actualEmployee.getLastName()).isEqualTo(employeeDTO.getLastName());
+        Assertions.assertThat(actualEmployee.getAge()).isEqualTo(employeeDTO.getAge());
+        Assertions.assertThat(actualEmployee.getNoOfChildrens()).isEqualTo(employeeDTO.getNoOfChildrens());
+        Assertions.assertThat(actualEmployee.getSpouse()).isEqualTo(employeeDTO.getSpouse());
+        Assertions.assertThat(actualEmployee.getDateOfJoining().format(DateTimeFormatter.ofPattern(Constant.DATE_TIME_FORMAT))).isEqualTo(employeeDTO.getDateOfJoining());
+        Assertions.assertThat(actualEmployee.getHobbies().toArray()).isEqualTo(employeeDTO.getHobbies().toArray());
+        Assertions.assertThat(actualEmployee.getPhoneNumbers().stream().map(PhoneNumber::getId).toArray()).isEqualTo(employeeDTO.getPhoneNumbers().stream().map(PhoneNumberDTO::getId).toArray());
+        Assertions.assertThat(actualEmployee.getPhoneNumbers().stream().map(PhoneNumber::getType).toArray()).isEqualTo(employeeDTO.getPhoneNumbers().stream().map(PhoneNumberDTO::getType).toArray());
+        Assertions.assertThat(actualEmployee.getPhoneNumbers().stream().map(PhoneNumber::getNumber).toArray()).isEqualTo(employeeDTO.getPhoneNumbers().stream().map(PhoneNumberDTO::getNumber).toArray());
+        Assertions.assertThat(actualEmployee.getAddress().getStreetAddress()).isEqualTo(employeeDTO.getAddress().getStreetAddress());
+        Assertions.assertThat(actualEmployee.getAddress().getCity()).isEqualTo(employeeDTO.getAddress().getCity());
+        Assertions.assertThat(actualEmployee.getAddress().getState()).isEqualTo(employeeDTO.getAddress().getState());
+        Assertions.assertThat(actualEmployee.getAddress().getCountry()).isEqualTo(employeeDTO.getAddress().getCountry());
+        Assertions.assertThat(actualEmployee.getAddress().getPostalCode()).isEqualTo(employeeDTO.getAddress().getPostalCode());
+        Assertions.assertThat(actualEmployee.getAddress().getEmployee()).isSameAs(actualEmployee);
+        Assertions.assertThat(actualEmployee.getPhoneNumbers()).allMatch(phoneNumber -> phoneNumber.getEmployee() == actualEmployee);
+    }
+
+    @Test
+    void convertFromEntityToDto() {
+        // Given
+
+        // When
+        EmployeeDTO actualEmployeeDTO = employeeMapper.convertFromEntityToDto(employee);
+
+        // Then
+        Assertions.assertThat(actualEmployeeDTO).isNotNull();
+        Assertions.assertThat(actualEmployeeDTO.getFirstName()).isEqualTo(employee.getFirstName());
+        Assertions.assertThat(actualEmployeeDTO.getLastName()).isEqualTo(employee.getLastName());
+        Assertions.assertThat(actualEmployeeDTO.getAge()).isEqualTo(employee.getAge());
+        Assertions.assertThat(actualEmployeeDTO.getNoOfChildrens()).isEqualTo(employee.getNoOfChildrens());
+        Assertions.assertThat(actualEmployeeDTO.getSpouse()).isEqualTo(employee.getSpouse());
+        Assertions.assertThat(actualEmployeeDTO.getDateOfJoining()).isEqualTo(employee.getDateOfJoining().format(DateTimeFormatter.ofPattern(Constant.DATE_TIME_FORMAT)));
+        Assertions.assertThat(actualEmployeeDTO.getHobbies().toArray()).isEqualTo(employee.getHobbies().toArray());
+        Assertions.assertThat(actualEmployeeDTO.getPhoneNumbers().stream().map(PhoneNumberDTO::getId).toArray()).isEqualTo(employee.getPhoneNumbers().stream().map(PhoneNumber::getId).toArray());
+        Assertions.assertThat(actualEmployeeDTO.getPhoneNumbers().stream().map(PhoneNumberDTO::getType).toArray()).isEqualTo(employee.getPhoneNumbers().stream().map(PhoneNumber::getType).toArray());
+        Assertions.assertThat(actualEmployeeDTO.getPhoneNumbers().stream().map(PhoneNumberDTO::getNumber).toArray()).isEqualTo(employee.getPhoneNumbers().stream().map(PhoneNumber::getNumber).toArray());
+        Assertions.assertThat(actualEmployeeDTO.getAddress().getStreetAddress()).isEqualTo(employee.getAddress().getStreetAddress());
+        Assertions.assertThat(actualEmployeeDTO.getAddress().getCity()).isEqualTo(employee.getAddress().getCity());
+        Assertions.assertThat(actualEmployeeDTO.getAddress().getState()).isEqualTo(employee.getAddress().getState());
+        Assertions.assertThat(actualEmployeeDTO.getAddress().getCountry()).isEqualTo(employee.getAddress().getCountry());
+        Assertions.assertThat(actualEmployeeDTO.getAddress().getPostalCode()).isEqualTo(employee.getAddress().getPostalCode());
+    }
+
+    @Test
+    void applyDtoToEntity() {
+        // Given
+        Employee managedEmployee = employeeMapper.convertFromDtoToEntity(employeeDTO);
+        managedEmployee.setId(1);
+        managedEmployee.getAddress().setId(2);
+        for (int i = 0; i < managedEmployee.getPhoneNumbers().size(); i++) {
+            managedEmployee.getPhoneNumbers().get(i).setId(10 + i);
+        }
+        Address address = managedEmployee.getAddress();
+        PhoneNumber phoneNumber = managedEmployee.getPhoneNumbers().get(0);
+        List<String> hobbies = managedEmployee.getHobbies();
+        List<PhoneNumber> phoneNumbers = managedEmployee.getPhoneNumbers();
+        int phoneNumberCount = phoneNumbers.size();
+
+        EmployeeDTO updateDTO = employeeMapper.convertFromEntityToDto(managedEmployee);
+        updateDTO.setAge(managedEmployee.getAge() + 1);
+        updateDTO.getAddress().setCity("Pune");
+        updateDTO.getPhoneNumbers().get(0).setNumber("0000000000");
+        PhoneNumberDTO newPhoneNumberDTO = new PhoneNumberDTO();
+        newPhoneNumberDTO.setType("office");
+        newPhoneNumberDTO.setNumber("1111111111");
+        updateDTO.getPhoneNumbers().add(newPhoneNumberDTO);
+
+        // When
+        employeeMapper.applyDtoToEntity(updateDTO, managedEmployee);
+
+        // Then
+        Assertions.assertThat(managedEmployee.getId()).isEqualTo(1);
+        Assertions.assertThat(managedEmployee.getAge()).isEqualTo(updateDTO.getAge());
+        Assertions.assertThat(managedEmployee.getHobbies()).isSameAs(hobbies);
+        Assertions.assertThat(managedEmployee.getAddress()).isSameAs(address);
+        Assertions.assertThat(address.getCity()).isEqualTo("Pune");
+        Assertions.assertThat(managedEmployee.getPhoneNumbers()).isSameAs(phoneNumbers).hasSize(phoneNumberCount + 1);
+        Assertions.assertThat(managedEmployee.getPhoneNumbers().get(0)).isSameAs(phoneNumber);
+        Assertions.assertThat(phoneNumber.getNumber()).isEqualTo("0000000000");
+        PhoneNumber newPhoneNumber = managedEmployee.getPhoneNumbers().get(phoneNumberCount);
+        Assertions.assertThat(newPhoneNumber.getId()).isNull();
+        Assertions.assertThat(newPhoneNumber.getNumber()).isEqualTo("1111111111");
+        Assertions.assertThat(newPhoneNumber.getEmployee()).isSameAs(managedEmployee);
+    }
+}
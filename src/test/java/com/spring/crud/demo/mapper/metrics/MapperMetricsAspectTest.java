@@ -0,0 +1,76 @@
+package com.spring.crud.demo.mapper.metrics;
+
+import com.spring.crud.demo.dto.SuperHeroDTO;
+import com.spring.crud.demo.mapper.BaseMapper;
+import com.spring.crud.demo.mapper.ShardedDozerMapper;
+import com.spring.crud.demo.mapper.SuperHeroMapper;
+import com.spring.crud.demo.model.SuperHero;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+class MapperMetricsAspectTest {
+
+    private static BaseMapper<SuperHero, SuperHeroDTO> metered(MeterRegistry meterRegistry, boolean allocationEnabled) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SuperHeroMapper(ShardedDozerMapper.preInitialized()));
+        proxyFactory.addAspect(new MapperMetricsAspect(meterRegistry, allocationEnabled, 1));
+        return proxyFactory.getProxy();
+    }
+
+    private static SuperHero superHero() {
+        SuperHero superHero = new SuperHero("Peter Parker", "Spider Man", "Photographer", 28, false);
+        superHero.setId(1);
+        return superHero;
+    }
+
+    @Test
+    void testGivenMeteredMapper_WhenConvert_ThenRecordTimerPerDirectionAndCardinality() {
+        // Given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BaseMapper<SuperHero, SuperHeroDTO> superHeroMapper = metered(meterRegistry, false);
+
+        // When
+        SuperHeroDTO superHeroDTO = superHeroMapper.convertFromEntityToDto(superHero());
+        superHeroMapper.convertFromDtoToEntity(superHeroDTO);
+        superHeroMapper.convertFromEntitiesToDtos(List.of(superHero(), superHero(), superHero()));
+
+        // Then
+        Timer toDto = meterRegistry.find(MapperMetricsAspect.CONVERSION_TIMER)
+                .tags("mapper", "SuperHeroMapper", "direction", "toDto", "cardinality", "single").timer();
+        Timer toEntity = meterRegistry.find(MapperMetricsAspect.CONVERSION_TIMER)
+                .tags("mapper", "SuperHeroMapper", "direction", "toEntity", "cardinality", "single").timer();
+        Timer toDtoList = meterRegistry.find(MapperMetricsAspect.CONVERSION_TIMER)
+                .tags("mapper", "SuperHeroMapper", "direction", "toDto", "cardinality", "list").timer();
+        Assertions.assertThat(toDto).isNotNull();
+        Assertions.assertThat(toDto.count()).isEqualTo(1);
+        Assertions.assertThat(toEntity).isNotNull();
+        Assertions.assertThat(toEntity.count()).isEqualTo(1);
+        Assertions.assertThat(toDtoList).isNotNull();
+        Assertions.assertThat(toDtoList.count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.find(MapperMetricsAspect.ELEMENT_COUNTER).tags("cardinality", "list").counter().count()).isEqualTo(3);
+        Assertions.assertThat(meterRegistry.find(MapperMetricsAspect.ALLOCATION_SUMMARY).summary()).isNull();
+    }
+
+    @Test
+    void testGivenAllocationSampling_WhenConvert_ThenRecordAllocatedBytes() {
+        // Given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BaseMapper<SuperHero, SuperHeroDTO> superHeroMapper = metered(meterRegistry, true);
+
+        // When
+        superHeroMapper.convertFromEntityToDto(superHero());
+
+        // Then
+        DistributionSummary allocation = meterRegistry.find(MapperMetricsAspect.ALLOCATION_SUMMARY)
+                .tags("mapper", "SuperHeroMapper", "direction", "toDto").summary();
+        Assertions.assertThat(allocation).isNotNull();
+        Assertions.assertThat(allocation.count()).isEqualTo(1);
+        Assertions.assertThat(allocation.totalAmount()).isPositive();
+    }
+}
@@ -0,0 +1,143 @@
+package com.spring.crud.demo.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.dto.emp.PhoneNumberDTO;
+import com.spring.crud.demo.mapper.converter.TemporalFormats;
+import com.spring.crud.demo.model.emp.Employee;
+import com.spring.crud.demo.model.emp.PhoneNumber;
+import com.spring.crud.demo.utils.FileLoader;
+import jakarta.persistence.EntityManager;
+import org.apache.commons.lang3.RandomUtils;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.AssertionsForClassTypes;
+import org.assertj.core.groups.Tuple;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+@DataJpaTest
+@Import(EmployeeDtoRepository.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EmployeeDtoRepositoryTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private EmployeeDtoRepository employeeDtoRepository;
+    @Autowired
+    private EntityManager entityManager;
+    private static final File file = FileLoader.getFileFromResource("employees.json");
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeFactory typeFactory = objectMapper.getTypeFactory();
+
+    @BeforeEach
+    void init() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void testGivenEmployees_WhenFindAll_ThenReturnDtosWithChildrenInThreeStatements() throws IOException {
+        // Given
+        List<Employee> employees = employeeRepository.saveAll(objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Employee.class)));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Tuple[] expectedEmployees = employees.stream()
+                .map(employee -> AssertionsForClassTypes.tuple(employee.getId(),
+                        employee.getFirstName(),
+                        employee.getLastName(),
+                        employee.getAge(),
+                        employee.getNoOfChildrens(),
+                        employee.getSpouse(),
+                        TemporalFormats.formatDateTime(employee.getDateOfJoining()),
+                        List.copyOf(employee.getHobbies()),
+                        employee.getAddress().getId(),
+                        employee.getAddress().getStreetAddress(),
+                        employee.getAddress().getPostalCode(),
+                        employee.getPhoneNumbers().stream().map(PhoneNumber::getId).toList(),
+                        employee.getPhoneNumbers().stream().map(PhoneNumber::getNumber).toList()))
+                .toArray(Tuple[]::new);
+
+        // When
+        List<EmployeeDTO> actualEmployees = employeeDtoRepository.findAll();
+
+        // Then
+        Assertions.assertThat(actualEmployees)
+                .extracting(EmployeeDTO::getId,
+                        EmployeeDTO::getFirstName,
+                        EmployeeDTO::getLastName,
+                        EmployeeDTO::getAge,
+                        EmployeeDTO::getNoOfChildrens,
+                        EmployeeDTO::getSpouse,
+                        EmployeeDTO::getDateOfJoining,
+                        EmployeeDTO::getHobbies,
+                        employee -> employee.getAddress().getId(),
+                        employee -> employee.getAddress().getStreetAddress(),
+                        employee -> employee.getAddress().getPostalCode(),
+                        employee -> employee.getPhoneNumbers().stream().map(PhoneNumberDTO::getId).toList(),
+                        employee -> employee.getPhoneNumbers().stream().map(PhoneNumberDTO::getNumber).toList())
+                .containsExactly(expectedEmployees);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        Assertions.assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void testGivenId_WhenFindById_ThenReturnDto() throws IOException {
+        // Given
+        List<Employee> employees = employeeRepository.saveAll(objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Employee.class)));
+        Employee expectedEmployee = employees.get(1);
+
+        // When
+        Optional<EmployeeDTO> actualEmployee = employeeDtoRepository.findById(expectedEmployee.getId());
+
+        // Then
+        Assertions.assertThat(actualEmployee).isPresent();
+        Assertions.assertThat(actualEmployee.get().getFirstName()).isEqualTo(expectedEmployee.getFirstName());
+        Assertions.assertThat(actualEmployee.get().getAddress().getStreetAddress()).isEqualTo(expectedEmployee.getAddress().getStreetAddress());
+        Assertions.assertThat(actualEmployee.get().getHobbies()).containsExactlyInAnyOrderElementsOf(expectedEmployee.getHobbies());
+        Assertions.assertThat(actualEmployee.get().getPhoneNumbers()).extracting(PhoneNumberDTO::getNumber)
+                .containsExactlyElementsOf(expectedEmployee.getPhoneNumbers().stream().map(PhoneNumber::getNumber).toList());
+    }
+
+    @Test
+    void testGivenRandomId_WhenFindById_ThenReturnEmpty() {
+        // Given
+        int id = RandomUtils.nextInt();
+
+        // When
+        Optional<EmployeeDTO> actualEmployee = employeeDtoRepository.findById(id);
+
+        // Then
+        Assertions.assertThat(actualEmployee).isEmpty();
+    }
+
+    @Test
+    void testGivenExample_WhenFindAllByExample_ThenReturnMatchingDtos() throws IOException {
+        // Given
+        employeeRepository.saveAll(objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Employee.class)));
+        Employee example = new Employee();
+        example.setFirstName("ARYAN");
+
+        // When
+        List<EmployeeDTO> actualEmployees = employeeDtoRepository.findAll(Example.of(example, ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING)));
+
+        // Then
+        Assertions.assertThat(actualEmployees).extracting(EmployeeDTO::getFirstName).containsExactly("Aryan");
+        Assertions.assertThat(actualEmployees.get(0).getHobbies()).containsExactlyInAnyOrder("Dancing", "Cooking");
+    }
+}
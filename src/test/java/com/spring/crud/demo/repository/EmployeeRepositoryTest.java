@@ -7,7 +7,10 @@ import com.spring.crud.demo.model.emp.Employee;
 import com.spring.crud.demo.model.emp.PhoneNumber;
 import com.spring.crud.demo.utils.Constant;
 import com.spring.crud.demo.utils.FileLoader;
+import jakarta.persistence.EntityManager;
 import org.apache.commons.lang3.RandomUtils;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.assertj.core.groups.Tuple;
@@ -16,10 +19,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.TestPropertySource;
 
 import java.io.File;
 import java.io.IOException;
@@ -28,14 +36,18 @@ import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 @DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 //@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
 class EmployeeRepositoryTest implements BaseRepositoryTest<Employee> {
 
     @Autowired
     private EmployeeRepository employeeRepository;
+    @Autowired
+    private EntityManager entityManager;
     public static File file = FileLoader.getFileFromResource("employees.json");
     public static ObjectMapper objectMapper = new ObjectMapper();
     public static TypeFactory typeFactory = objectMapper.getTypeFactory();
@@ -252,6 +264,76 @@ class EmployeeRepositoryTest implements BaseRepositoryTest<Employee> {
                 .containsExactly(expectedTupleEmployees);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10000})
+    public void testGivenEmployees_WhenGetAllRecords_ThenLoadAssociationsInConstantStatements(int count) {
+        // Given
+        employeeRepository.saveAll(IntStream.range(0, count).mapToObj(EmployeeRepositoryTest::generateEmployee).toList());
+        Statistics statistics = clearAndCountStatements();
+
+        // When
+        List<Employee> actualEmployees = employeeRepository.findAll();
+
+        // Then
+        Assertions.assertThat(actualEmployees).hasSize(count);
+        Assertions.assertThat(actualEmployees).allSatisfy(EmployeeRepositoryTest::assertGeneratedEmployee);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, Constant.MAX_PAGE_SIZE})
+    public void testGivenEmployees_WhenGetRecordsPage_ThenLoadAssociationsInConstantStatements(int limit) {
+        // Given
+        employeeRepository.saveAll(IntStream.range(0, Constant.MAX_PAGE_SIZE + 500).mapToObj(EmployeeRepositoryTest::generateEmployee).toList());
+        Statistics statistics = clearAndCountStatements();
+
+        // When
+        List<Employee> actualEmployees = employeeRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(limit));
+
+        // Then
+        Assertions.assertThat(actualEmployees).hasSize(limit);
+        Assertions.assertThat(actualEmployees).allSatisfy(EmployeeRepositoryTest::assertGeneratedEmployee);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, Constant.MAX_PAGE_SIZE})
+    public void testGivenEmployees_WhenGetRecordsPageBySpecification_ThenLoadAssociationsInConstantStatements(int limit) {
+        // Given
+        employeeRepository.saveAll(IntStream.range(0, Constant.MAX_PAGE_SIZE + 500).mapToObj(EmployeeRepositoryTest::generateEmployee).toList());
+        Specification<Employee> page = (root, query, builder) -> builder.and(
+                builder.like(builder.lower(root.get("firstName")), "%employee%"),
+                builder.greaterThan(root.get("id"), 0));
+        Statistics statistics = clearAndCountStatements();
+
+        // When
+        List<Employee> actualEmployees = employeeRepository.findBy(page, query -> query.sortBy(Sort.by("id")).limit(limit).all());
+
+        // Then
+        Assertions.assertThat(actualEmployees).hasSize(limit);
+        Assertions.assertThat(actualEmployees).allSatisfy(EmployeeRepositoryTest::assertGeneratedEmployee);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10000})
+    public void testGivenEmployees_WhenGetAllRecordsByExample_ThenLoadAssociationsInConstantStatements(int count) {
+        // Given
+        employeeRepository.saveAll(IntStream.range(0, count).mapToObj(EmployeeRepositoryTest::generateEmployee).toList());
+        Employee example = new Employee();
+        example.setFirstName("employee");
+        Statistics statistics = clearAndCountStatements();
+
+        // When
+        Example<Employee> employeeExample = Example.of(example, ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING));
+        List<Employee> actualEmployees = employeeRepository.findAll(employeeExample);
+
+        // Then
+        Assertions.assertThat(actualEmployees).hasSize(count);
+        Assertions.assertThat(actualEmployees).allSatisfy(EmployeeRepositoryTest::assertGeneratedEmployee);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
     @Override
     @Test
     public void testGivenRecord_WhenInsertRecord_ThenReturnInsertRecord() {
@@ -378,6 +460,51 @@ class EmployeeRepositoryTest implements BaseRepositoryTest<Employee> {
         );
     }
 
+    private Statistics clearAndCountStatements() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static Employee generateEmployee(int index) {
+        Address address = new Address();
+        address.setStreetAddress("Street " + index);
+        address.setCity("Mumbai");
+        address.setState("Maharashtra");
+        address.setCountry("India");
+        address.setPostalCode("400001");
+
+        PhoneNumber mobile = new PhoneNumber();
+        mobile.setType("Mobile");
+        mobile.setNumber(String.valueOf(9000000000L + index));
+        PhoneNumber home = new PhoneNumber();
+        home.setType("Home");
+        home.setNumber(String.valueOf(2200000000L + index));
+
+        Employee employee = new Employee();
+        employee.setFirstName("Employee");
+        employee.setLastName(String.valueOf(index));
+        employee.setAge(30);
+        employee.setNoOfChildrens(0);
+        employee.setSpouse(false);
+        employee.setHobbies(List.of("Reading", "Running"));
+        employee.setAddress(address);
+        employee.setPhoneNumbers(List.of(mobile, home));
+
+        address.setEmployee(employee);
+        mobile.setEmployee(employee);
+        home.setEmployee(employee);
+        return employee;
+    }
+
+    private static void assertGeneratedEmployee(Employee employee) {
+        Assertions.assertThat(employee.getAddress().getStreetAddress()).isEqualTo("Street " + employee.getLastName());
+        Assertions.assertThat(employee.getHobbies()).containsExactlyInAnyOrder("Reading", "Running");
+        Assertions.assertThat(employee.getPhoneNumbers()).extracting(PhoneNumber::getType).containsExactlyInAnyOrder("Mobile", "Home");
+    }
+
     public void assertRecord(Employee expectedRecord, Employee actualRecord) {
         Assertions.assertThat(actualRecord).isNotNull();
         Assertions.assertThat(actualRecord.getFirstName()).isEqualTo(expectedRecord.getFirstName());
@@ -0,0 +1,81 @@
+package com.spring.crud.demo.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.spring.crud.demo.dto.StudentDTO;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.utils.FileLoader;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.AssertionsForClassTypes;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+@DataJpaTest
+@Import(StudentDtoRepository.class)
+class StudentDtoRepositoryTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private StudentDtoRepository studentDtoRepository;
+    private static final File file = FileLoader.getFileFromResource("students.json");
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeFactory typeFactory = objectMapper.getTypeFactory();
+
+    @BeforeEach
+    void init() {
+        studentRepository.deleteAll();
+    }
+
+    @Test
+    void testGivenStudents_WhenFindAll_ThenReturnDtos() throws IOException {
+        // Given
+        List<StudentDTO> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, StudentDTO.class));
+        studentRepository.saveAll(objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Student.class)));
+        Tuple[] expectedStudents = students.stream()
+                .map(student -> AssertionsForClassTypes.tuple(student.getRollNo(),
+                        student.getFirstName(),
+                        student.getLastName(),
+                        student.getDateOfBirth(),
+                        student.getMarks()))
+                .toArray(Tuple[]::new);
+
+        // When
+        List<StudentDTO> actualStudents = studentDtoRepository.findAll();
+
+        // Then
+        Assertions.assertThat(actualStudents).extracting(StudentDTO::getId).doesNotContainNull().isSorted();
+        Assertions.assertThat(actualStudents)
+                .extracting(StudentDTO::getRollNo,
+                        StudentDTO::getFirstName,
+                        StudentDTO::getLastName,
+                        StudentDTO::getDateOfBirth,
+                        StudentDTO::getMarks)
+                .containsExactly(expectedStudents);
+    }
+
+    @Test
+    void testGivenExample_WhenFindAllByExample_ThenReturnMatchingDtos() throws IOException {
+        // Given
+        studentRepository.saveAll(objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Student.class)));
+        Student example = new Student();
+        example.setFirstName("rahul");
+
+        // When
+        List<StudentDTO> actualStudents = studentDtoRepository.findAll(Example.of(example, ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING)));
+
+        // Then
+        Assertions.assertThat(actualStudents).extracting(StudentDTO::getFirstName, StudentDTO::getLastName)
+                .containsExactly(AssertionsForClassTypes.tuple("Rahul", "Ghadage"));
+    }
+}
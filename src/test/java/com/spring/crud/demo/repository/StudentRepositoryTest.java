@@ -17,8 +17,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Limit;
 
 import java.io.File;
 import java.io.IOException;
@@ -126,6 +128,21 @@ class StudentRepositoryTest implements BaseRepositoryTest<Student> {
         Assertions.assertThat(actualStudent).isEmpty();
     }
 
+    @Test
+    void testGivenExistingRollNo_WhenSaveRecord_ThenThrowException() throws IOException {
+        // Given
+        List<Student> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Student.class));
+        Student student = students.get(0);
+        studentRepository.saveAndFlush(student);
+        Student duplicate = new Student(student.getRollNo(), "Duplicate", "Student", student.getDateOfBirth(), student.getMarks());
+
+        // When
+        Assertions.assertThatThrownBy(() -> studentRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        // Then
+    }
+
     @Test
     public void testGivenFirstName_WhenGetRecordByFirstName_ThenReturnRecord() throws IOException {
         // Given
@@ -265,6 +282,45 @@ class StudentRepositoryTest implements BaseRepositoryTest<Student> {
                 .containsExactly(expectedTupleStudents);
     }
 
+    @Test
+    public void testGivenMarksAndCursor_WhenGetRecordPageByMarksGreaterThanEqual_ThenReturnNextPage() throws IOException {
+        // Given
+        List<Student> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Student.class));
+        List<Integer> expectedIds = studentRepository.saveAll(students).stream()
+                .filter(student -> student.getMarks() >= 800.0f)
+                .map(Student::getId)
+                .sorted()
+                .toList();
+
+        // When
+        List<Student> firstPage = studentRepository.findByMarksGreaterThanEqualAndIdGreaterThanOrderByIdAsc(800.0f, 0, Limit.of(4));
+        List<Student> lastPage = studentRepository.findByMarksGreaterThanEqualAndIdGreaterThanOrderByIdAsc(800.0f, firstPage.get(firstPage.size() - 1).getId(), Limit.of(4));
+
+        // Then
+        Assertions.assertThat(firstPage).extracting(Student::getId).containsExactlyElementsOf(expectedIds.subList(0, 4));
+        Assertions.assertThat(lastPage).extracting(Student::getId).containsExactlyElementsOf(expectedIds.subList(4, expectedIds.size()));
+    }
+
+    @Test
+    public void testGivenFirstNameAndCursor_WhenGetRecordPageByFirstNameLike_ThenReturnRecordsAfterCursor() throws IOException {
+        // Given
+        List<Student> students = objectMapper.readValue(file, typeFactory.constructCollectionType(List.class, Student.class));
+        List<Student> savedStudents = studentRepository.saveAll(students);
+        int after = savedStudents.get(0).getId();
+        List<Integer> expectedIds = savedStudents.stream()
+                .filter(student -> student.getFirstName().contains("a") && student.getId() > after)
+                .map(Student::getId)
+                .sorted()
+                .limit(2)
+                .toList();
+
+        // When
+        List<Student> actualStudents = studentRepository.findByFirstNameLikeAndIdGreaterThanOrderByIdAsc("%a%", after, Limit.of(2));
+
+        // Then
+        Assertions.assertThat(actualStudents).extracting(Student::getId).containsExactlyElementsOf(expectedIds);
+    }
+
     @Test
     public void testGivenGreaterMarks_WhenGetRecordByMarksGreaterThanEqual_ThenReturnEmptyListRecords() {
         // Given
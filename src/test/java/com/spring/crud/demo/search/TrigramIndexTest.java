@@ -0,0 +1,128 @@
+package com.spring.crud.demo.search;
+
+import com.spring.crud.demo.model.Student;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+class TrigramIndexTest {
+
+    private TrigramIndex<Student> studentSearchIndex;
+
+    @BeforeEach
+    void init() {
+        Map<String, Function<Student, String>> fields = new LinkedHashMap<>();
+        fields.put("firstName", Student::getFirstName);
+        fields.put("lastName", Student::getLastName);
+        studentSearchIndex = new TrigramIndex<>(Student.class, Student::getId, fields, 2);
+        studentSearchIndex.put(student(1, "Rahul", "Ghadage"));
+        studentSearchIndex.put(student(2, "Raheem", "Sterling"));
+        studentSearchIndex.put(student(3, "Salman", "Khan"));
+        studentSearchIndex.markLoaded();
+    }
+
+    @Test
+    void testGivenIndexNotLoaded_WhenCandidates_ThenReturnEmpty() {
+        // Given
+        TrigramIndex<Student> loadingIndex = new TrigramIndex<>(Student.class, Student::getId, Map.of("firstName", Student::getFirstName), 2);
+        loadingIndex.put(student(1, "Rahul", "Ghadage"));
+
+        // When / Then
+        Assertions.assertThat(loadingIndex.candidates(student(null, "rahul", null))).isEmpty();
+        Assertions.assertThat(loadingIndex.candidates(student(null, "xyz", null))).isEmpty();
+    }
+
+    @Test
+    void testGivenContainedValues_WhenCandidates_ThenReturnIntersection() {
+        // Given
+        Student probe = student(null, "AHU", "gha");
+
+        // When
+        Optional<Set<Integer>> actualCandidates = studentSearchIndex.candidates(probe);
+
+        // Then
+        Assertions.assertThat(actualCandidates).contains(Set.of(1));
+    }
+
+    @Test
+    void testGivenUnknownTrigram_WhenCandidates_ThenReturnNoCandidates() {
+        // Given
+        Student probe = student(null, "xyz", null);
+
+        // When / Then
+        Assertions.assertThat(studentSearchIndex.candidates(probe)).contains(Set.of());
+    }
+
+    @Test
+    void testGivenShortOrMissingValues_WhenCandidates_ThenReturnEmpty() {
+        // Given
+        Student probe = student(null, "ra", null);
+
+        // When / Then
+        Assertions.assertThat(studentSearchIndex.candidates(probe)).isEmpty();
+        Assertions.assertThat(studentSearchIndex.candidates(new Student())).isEmpty();
+    }
+
+    @Test
+    void testGivenMoreCandidatesThanMaximum_WhenCandidates_ThenReturnEmpty() {
+        // Given
+        studentSearchIndex.put(student(4, "Rahim", "Khan"));
+        studentSearchIndex.put(student(5, "Rakesh", "Roshan"));
+        Student probe = student(null, "rah", null);
+
+        // When / Then
+        Assertions.assertThat(studentSearchIndex.candidates(probe)).isEmpty();
+    }
+
+    @Test
+    void testGivenUpdatedValue_WhenPrune_ThenDropOldTrigramsOnly() {
+        // Given
+        Map<String, String> previous = studentSearchIndex.put(student(1, "Sunny", "Ghadage"));
+
+        Assertions.assertThat(previous).containsEntry("firstName", "rahul");
+        Assertions.assertThat(studentSearchIndex.candidates(student(null, "rahul", null))).contains(Set.of(1));
+
+        // When
+        studentSearchIndex.prune(1, previous);
+
+        // Then
+        Assertions.assertThat(studentSearchIndex.candidates(student(null, "rahul", null))).contains(Set.of());
+        Assertions.assertThat(studentSearchIndex.candidates(student(null, "sunny", "ghadage"))).contains(Set.of(1));
+    }
+
+    @Test
+    void testGivenRolledBackUpdate_WhenRevert_ThenRestorePreviousValues() {
+        // Given
+        Map<String, String> previous = studentSearchIndex.put(student(1, "Sunny", "Ghadage"));
+
+        // When
+        studentSearchIndex.revert(1, previous);
+
+        // Then
+        Assertions.assertThat(studentSearchIndex.candidates(student(null, "sunny", null))).contains(Set.of());
+        Assertions.assertThat(studentSearchIndex.candidates(student(null, "rahul", null))).contains(Set.of(1));
+    }
+
+    @Test
+    void testGivenIndexedRecord_WhenRemove_ThenDropAllTrigrams() {
+        // When
+        studentSearchIndex.remove(3);
+
+        // Then
+        Assertions.assertThat(studentSearchIndex.size()).isEqualTo(2);
+        Assertions.assertThat(studentSearchIndex.candidates(student(null, "salman", null))).contains(Set.of());
+    }
+
+    private static Student student(Integer id, String firstName, String lastName) {
+        Student student = new Student(null, firstName, lastName, LocalDate.of(2000, 1, 1), 500f);
+        student.setId(id);
+        return student;
+    }
+}
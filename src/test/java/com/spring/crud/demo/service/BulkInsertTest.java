@@ -0,0 +1,90 @@
+package com.spring.crud.demo.service;
+
+import com.spring.crud.demo.model.Student;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@ExtendWith(MockitoExtension.class)
+class BulkInsertTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Test
+    void testGivenMoreRecordsThanFlushInterval_WhenPersistAll_ThenFlushAndClearPerInterval() {
+        // Given
+        BulkInsert bulkInsert = new BulkInsert(entityManager, 2);
+        List<Student> students = IntStream.range(0, 5).mapToObj(i -> new Student()).toList();
+        List<Student> reset = new ArrayList<>();
+
+        // When
+        int actualCount = bulkInsert.persistAll(students, reset::add);
+
+        // Then
+        Assertions.assertThat(actualCount).isEqualTo(students.size());
+        Assertions.assertThat(reset).containsExactlyElementsOf(students);
+        InOrder inOrder = Mockito.inOrder(entityManager);
+        for (int i = 0; i < 2; i++) {
+            inOrder.verify(entityManager).persist(students.get(2 * i));
+            inOrder.verify(entityManager).persist(students.get(2 * i + 1));
+            inOrder.verify(entityManager).flush();
+            inOrder.verify(entityManager).clear();
+        }
+        inOrder.verify(entityManager).persist(students.get(4));
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
+        Mockito.verifyNoMoreInteractions(entityManager);
+    }
+
+    @Test
+    void testGivenRecordWithId_WhenPersistAll_ThenResetBeforePersist() {
+        // Given
+        BulkInsert bulkInsert = new BulkInsert(entityManager, 50);
+        Student student = new Student();
+        student.setId(15);
+        student.setVersion(3);
+
+        // When
+        bulkInsert.persistAll(List.of(student), record -> {
+            record.setId(null);
+            record.setVersion(null);
+        });
+
+        // Then
+        Mockito.verify(entityManager).persist(Mockito.argThat((Student persisted) -> persisted.getId() == null && persisted.getVersion() == null));
+    }
+
+    @Test
+    void testGivenNoRecords_WhenPersistAll_ThenReturnZero() {
+        // Given
+        BulkInsert bulkInsert = new BulkInsert(entityManager, 50);
+        List<Student> students = List.of();
+
+        // When
+        int actualCount = bulkInsert.persistAll(students, student -> {
+        });
+
+        // Then
+        Assertions.assertThat(actualCount).isZero();
+        Mockito.verify(entityManager).flush();
+        Mockito.verify(entityManager).clear();
+    }
+
+    @Test
+    void testGivenZeroFlushInterval_WhenCreate_ThenThrowException() {
+        // When & Then
+        Assertions.assertThatThrownBy(() -> new BulkInsert(entityManager, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Flush interval must be greater than 0");
+    }
+}
@@ -0,0 +1,163 @@
+package com.spring.crud.demo.service;
+
+import jakarta.persistence.PersistenceException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@ExtendWith(MockitoExtension.class)
+class IngestEngineTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private IngestEngine ingestEngine;
+
+    @BeforeEach
+    void setUp() {
+        ingestEngine = new IngestEngine(transactionManager, 4, 2, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingestEngine.shutdown();
+    }
+
+    @Test
+    void testGivenSources_WhenIngest_ThenWriteEveryPartitionInNewTransaction() {
+        // Given
+        List<Integer> sources = IntStream.range(0, 95).boxed().toList();
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<IngestPartition> progress = new ArrayList<>();
+
+        // When
+        IngestReport report = ingestEngine.ingest(partitions(sources, 10), String::valueOf, partition -> {
+            threads.add(Thread.currentThread().getName());
+            written.addAll(partition);
+            return partition.size();
+        }, progress::add);
+
+        // Then
+        Assertions.assertThat(report.partitions()).isEqualTo(10);
+        Assertions.assertThat(report.completedPartitions()).isEqualTo(10);
+        Assertions.assertThat(report.records()).isEqualTo(95L);
+        Assertions.assertThat(report.retries()).isZero();
+        Assertions.assertThat(report.failedPartitions()).isEmpty();
+        Assertions.assertThat(written).containsExactlyInAnyOrderElementsOf(sources.stream().map(String::valueOf).toList());
+        Assertions.assertThat(threads).allMatch(name -> name.startsWith("ingest-"));
+        Assertions.assertThat(progress).extracting(IngestPartition::partition).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        Assertions.assertThat(progress).extracting(IngestPartition::records).containsOnly(10, 5);
+        Mockito.verify(transactionManager, Mockito.times(10)).getTransaction(Mockito.argThat(definition -> definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        Mockito.verify(transactionManager, Mockito.times(10)).commit(Mockito.any());
+    }
+
+    @Test
+    void testGivenFailingPartitions_WhenIngest_ThenRetryTransientFailureOnlyAndReportFailedPartitions() {
+        // Given
+        List<Integer> sources = IntStream.range(0, 40).boxed().toList();
+        AtomicInteger firstPartitionAttempts = new AtomicInteger();
+        AtomicInteger thirdPartitionAttempts = new AtomicInteger();
+        AtomicInteger fourthPartitionAttempts = new AtomicInteger();
+
+        // When
+        IngestReport report = ingestEngine.ingest(partitions(sources, 10), source -> source, partition -> {
+            if (partition.getFirst() == 0 && firstPartitionAttempts.incrementAndGet() == 1) {
+                throw new PessimisticLockingFailureException("Lock wait timeout");
+            }
+            if (partition.getFirst() == 20) {
+                thirdPartitionAttempts.incrementAndGet();
+                throw new DataIntegrityViolationException("Unique index violation");
+            }
+            if (partition.getFirst() == 30) {
+                fourthPartitionAttempts.incrementAndGet();
+                throw new CannotGetJdbcConnectionException("Connection refused");
+            }
+            return partition.size();
+        }, progressPartition -> {
+        });
+
+        // Then
+        Assertions.assertThat(report.records()).isEqualTo(20L);
+        Assertions.assertThat(report.retries()).isEqualTo(2);
+        Assertions.assertThat(report.failedPartitions()).containsExactlyInAnyOrder(2, 3);
+        Assertions.assertThat(firstPartitionAttempts).hasValue(2);
+        Assertions.assertThat(thirdPartitionAttempts).hasValue(1);
+        Assertions.assertThat(fourthPartitionAttempts).hasValue(2);
+        Mockito.verify(transactionManager, Mockito.times(4)).rollback(Mockito.any());
+    }
+
+    @Test
+    void testGivenWrappedJdbcFailures_WhenIsTransient_ThenRetryTransientCausesOnly() {
+        // When & Then
+        Assertions.assertThat(IngestEngine.isTransient(new PersistenceException(new SQLTransientConnectionException("Connection reset")))).isTrue();
+        Assertions.assertThat(IngestEngine.isTransient(new PersistenceException(new SQLIntegrityConstraintViolationException("Duplicate key")))).isFalse();
+        Assertions.assertThat(IngestEngine.isTransient(new IllegalStateException("Mapping failed"))).isFalse();
+    }
+
+    @Test
+    void testGivenLazyPartitions_WhenIngest_ThenReadNoMorePartitionsThanParallelismAhead() {
+        // Given
+        AtomicInteger read = new AtomicInteger();
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger maxAhead = new AtomicInteger();
+        Iterator<List<Integer>> partitions = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return read.get() < 20;
+            }
+
+            @Override
+            public List<Integer> next() {
+                maxAhead.accumulateAndGet(read.incrementAndGet() - written.get(), Math::max);
+                return List.of(read.get());
+            }
+        };
+
+        // When
+        IngestReport report = ingestEngine.ingest(partitions, source -> source, partition -> {
+            written.incrementAndGet();
+            return partition.size();
+        }, progressPartition -> {
+        });
+
+        // Then
+        Assertions.assertThat(report.partitions()).isEqualTo(20);
+        Assertions.assertThat(report.records()).isEqualTo(20L);
+        Assertions.assertThat(maxAhead.get()).isLessThanOrEqualTo(ingestEngine.getParallelism() + 1);
+    }
+
+    @Test
+    void testGivenZeroMaxAttempts_WhenCreate_ThenThrowException() {
+        // Given & When & Then
+        Assertions.assertThatThrownBy(() -> new IngestEngine(transactionManager, 1, 0, 8))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Max attempts must be greater than 0");
+    }
+
+    private static <S> Iterator<List<S>> partitions(List<S> sources, int size) {
+        return IntStream.range(0, (sources.size() + size - 1) / size)
+                .mapToObj(partition -> sources.subList(partition * size, Math.min((partition + 1) * size, sources.size())))
+                .iterator();
+    }
+}
@@ -0,0 +1,71 @@
+package com.spring.crud.demo.service;
+
+import com.spring.crud.demo.exception.ConflictException;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.repository.StudentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateConflictAspectTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+    private MeterRegistry meterRegistry;
+    private BaseService<Student> studentService;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new StudentService(studentRepository, null, null, null, null, null, null));
+        proxyFactory.addAspect(new UpdateConflictAspect(meterRegistry));
+        studentService = proxyFactory.getProxy();
+        student = new Student(1, "Rahul", "Ghadage", LocalDate.of(2000, 1, 1), 950f);
+        student.setId(25);
+        student.setVersion(2);
+    }
+
+    @Test
+    void testGivenConcurrentWrite_WhenUpdateRecord_ThenThrowConflictWithoutRetry() {
+        // Given
+        Mockito.when(studentRepository.findById(student.getId())).thenReturn(Optional.of(student));
+        Mockito.doThrow(new ObjectOptimisticLockingFailureException(Student.class, student.getId())).when(studentRepository).flush();
+
+        // When & Then
+        Assertions.assertThatThrownBy(() -> studentService.updateRecord(student.getId(), student.getId(), student.getVersion(), s -> s.setMarks(500f)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        Mockito.verify(studentRepository).findById(student.getId());
+        Mockito.verify(studentRepository).flush();
+        Assertions.assertThat(meterRegistry.find(UpdateConflictAspect.CONFLICT_COUNTER)
+                .tags("service", "StudentService", "cause", "concurrent-write").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testGivenStaleVersion_WhenUpdateRecord_ThenThrowConflictWithoutRetry() {
+        // Given
+        Mockito.when(studentRepository.findById(student.getId())).thenReturn(Optional.of(student));
+
+        // When & Then
+        Assertions.assertThatThrownBy(() -> studentService.updateRecord(student.getId(), student.getId(), 1, s -> s.setMarks(500f)))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("Record with id 25 is at version 2, payload has version 1");
+        Assertions.assertThat(student.getMarks()).isEqualTo(950f);
+        Mockito.verify(studentRepository).findById(student.getId());
+        Mockito.verify(studentRepository, Mockito.never()).flush();
+        Assertions.assertThat(meterRegistry.find(UpdateConflictAspect.CONFLICT_COUNTER)
+                .tags("service", "StudentService", "cause", "stale-version").counter().count()).isEqualTo(1);
+    }
+}
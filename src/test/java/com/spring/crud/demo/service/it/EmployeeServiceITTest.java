@@ -2,44 +2,63 @@ package com.spring.crud.demo.service.it;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.spring.crud.demo.dto.emp.AddressDTO;
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.dto.emp.PhoneNumberDTO;
 import com.spring.crud.demo.exception.InternalServerErrorException;
 import com.spring.crud.demo.exception.NotFoundException;
 import com.spring.crud.demo.exception.RecordFoundException;
 import com.spring.crud.demo.model.emp.Address;
 import com.spring.crud.demo.model.emp.Employee;
+import com.spring.crud.demo.mapper.EmployeeMapper;
 import com.spring.crud.demo.model.emp.PhoneNumber;
 import com.spring.crud.demo.service.BaseServiceTest;
 import com.spring.crud.demo.service.EmployeeService;
 import com.spring.crud.demo.utils.Constant;
 import com.spring.crud.demo.utils.FileLoader;
+import jakarta.persistence.EntityManagerFactory;
 import org.apache.commons.lang3.RandomUtils;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.assertj.core.groups.Tuple;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
 
 import java.io.File;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 @SpringBootTest(value = "EmployeeServiceITTest")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class EmployeeServiceITTest implements BaseServiceTest<Employee> {
 
     @Autowired
     private EmployeeService employeeService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private EmployeeMapper employeeMapper;
     private static Tuple[] expectedEmployees = null;
     private static List<Employee> employees;
 
@@ -310,6 +329,62 @@ class EmployeeServiceITTest implements BaseServiceTest<Employee> {
         // Then
     }
 
+    @Test
+    void testGivenRecordWithUnknownIdsAndNoVersion_WhenInsertRecord_ThenInsertWithGeneratedIds() {
+        // Given
+        Employee employee = employees.stream().filter(e -> e.getFirstName().equals("Aryan")).findFirst().orElseGet(Employee::new);
+        employee.setId(987654);
+        employee.setVersion(null);
+        employee.getAddress().setId(987654);
+        employee.getPhoneNumbers().forEach(phoneNumber -> phoneNumber.setId(987654 + phoneNumber.getNumber().length()));
+
+        // When
+        Employee actualEmployee = employeeService.insertRecord(employee).orElseGet(Employee::new);
+
+        // Then
+        Assertions.assertThat(actualEmployee.getId()).isNotNull().isNotEqualTo(987654);
+        Assertions.assertThat(actualEmployee.getVersion()).isZero();
+        Assertions.assertThat(employeeService.existRecordById(987654)).isFalse();
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ADDRESS WHERE EMPLOYEE_ID = ?", Integer.class, actualEmployee.getId())).isEqualTo(1);
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PHONE_NUMBER WHERE EMPLOYEE_ID = ?", Integer.class, actualEmployee.getId()))
+                .isEqualTo(employee.getPhoneNumbers().size());
+    }
+
+    @Test
+    void testGivenDtoDroppingPhoneAndReplacingAddress_WhenUpdateRecordWithMapper_ThenDatabaseHoldsMergedChildren() {
+        // Given
+        Employee savedEmployee = employeeService.insertRecord(generateEmployee(1)).orElseGet(Employee::new);
+        EmployeeDTO employeeDTO = employeeMapper.convertFromEntityToDto(savedEmployee);
+        AddressDTO addressDTO = new AddressDTO();
+        addressDTO.setId(987654);
+        addressDTO.setStreetAddress("New Street");
+        addressDTO.setCity("Pune");
+        employeeDTO.setAddress(addressDTO);
+        PhoneNumberDTO keptPhoneNumber = employeeDTO.getPhoneNumbers().get(0);
+        PhoneNumberDTO newPhoneNumber = new PhoneNumberDTO();
+        newPhoneNumber.setId(987654);
+        newPhoneNumber.setType("Office");
+        newPhoneNumber.setNumber("2211111111");
+        employeeDTO.setPhoneNumbers(Arrays.asList(keptPhoneNumber, null, newPhoneNumber));
+
+        // When
+        employeeService.updateRecord(savedEmployee.getId(), employeeDTO.getId(), employeeDTO.getVersion(),
+                employee -> employeeMapper.applyDtoToEntity(employeeDTO, employee));
+
+        // Then
+        Employee actualEmployee = employeeService.getRecordsById(savedEmployee.getId()).orElseGet(Employee::new);
+        Assertions.assertThat(actualEmployee.getAddress().getCity()).isEqualTo("Pune");
+        Assertions.assertThat(actualEmployee.getAddress().getId()).isNotEqualTo(987654);
+        Assertions.assertThat(actualEmployee.getPhoneNumbers())
+                .extracting(PhoneNumber::getId, PhoneNumber::getNumber)
+                .hasSize(2)
+                .contains(AssertionsForClassTypes.tuple(keptPhoneNumber.getId(), keptPhoneNumber.getNumber()))
+                .doesNotContain(AssertionsForClassTypes.tuple(987654, "2211111111"));
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ADDRESS", Integer.class)).isEqualTo(1);
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PHONE_NUMBER", Integer.class)).isEqualTo(2);
+        Assertions.assertThat(employeeService.getAllDtos()).hasSize(1);
+    }
+
     @Test
     @Override
     public void testGivenExistingRecordAndExistingRecordId_WhenUpdateRecord_ThenReturnUpdateRecord() {
@@ -320,7 +395,7 @@ class EmployeeServiceITTest implements BaseServiceTest<Employee> {
         // When
         Employee expectedEmployee = employeeService.getRecordsById(savedEmployee.getId()).orElseGet(Employee::new);
         expectedEmployee.setAge(18);
-        Employee actualEmployee = employeeService.updateRecord(savedEmployee.getId(), expectedEmployee).orElseGet(Employee::new);
+        Employee actualEmployee = employeeService.updateRecord(savedEmployee.getId(), expectedEmployee.getId(), expectedEmployee.getVersion(), managed -> managed.setAge(expectedEmployee.getAge())).orElseGet(Employee::new);
 
         // Then
         assertRecord(expectedEmployee, actualEmployee);
@@ -333,7 +408,7 @@ class EmployeeServiceITTest implements BaseServiceTest<Employee> {
         int id = RandomUtils.nextInt();
 
         // When & Then
-        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(id, null))
+        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(id, null, null, managed -> {}))
                 .isInstanceOf(NullPointerException.class)
                 .hasMessage("Payload record id is null");
     }
@@ -349,7 +424,7 @@ class EmployeeServiceITTest implements BaseServiceTest<Employee> {
         // When & Then
         Employee expectedEmployee = employeeService.getRecordsById(savedEmployee.getId()).orElseGet(Employee::new);
         expectedEmployee.setAge(18);
-        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(id, expectedEmployee))
+        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(id, expectedEmployee.getId(), expectedEmployee.getVersion(), managed -> {}))
                 .isInstanceOf(InternalServerErrorException.class)
                 .hasMessage("Update Record id: " + id + " not equal to payload id: " + expectedEmployee.getId());
     }
@@ -362,7 +437,7 @@ class EmployeeServiceITTest implements BaseServiceTest<Employee> {
         expectedEmployee.setId(25);
 
         // When & Then
-        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(expectedEmployee.getId(), expectedEmployee))
+        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(expectedEmployee.getId(), expectedEmployee.getId(), expectedEmployee.getVersion(), managed -> {}))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("No record found with id " + expectedEmployee.getId());
     }
@@ -394,6 +469,25 @@ class EmployeeServiceITTest implements BaseServiceTest<Employee> {
         Assertions.assertThat(flag).isFalse();
     }
 
+    @Test
+    void testGivenEmployeesWithChildRows_WhenDeleteRecord_ThenDeleteChildRowsOfThatEmployeeOnly() {
+        // Given
+        Employee employee = employees.get(0);
+        Employee otherEmployee = employees.get(1);
+        Employee savedEmployee = employeeService.insertRecord(employee).orElseGet(Employee::new);
+        employeeService.insertRecord(otherEmployee);
+
+        // When
+        Boolean flag = employeeService.deleteRecordById(savedEmployee.getId());
+
+        // Then
+        Assertions.assertThat(flag).isTrue();
+        Assertions.assertThat(employeeService.existRecordById(savedEmployee.getId())).isFalse();
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ADDRESS", Integer.class)).isEqualTo(1);
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PHONE_NUMBER", Integer.class)).isEqualTo(otherEmployee.getPhoneNumbers().size());
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM HOBBIES", Integer.class)).isEqualTo(otherEmployee.getHobbies().size());
+    }
+
     @Test
     @Override
     public void testGivenNon_WhenGetAllRecords_ThenReturnEmptyListRecord() {
@@ -419,6 +513,61 @@ class EmployeeServiceITTest implements BaseServiceTest<Employee> {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 300})
+    void testGivenEmployees_WhenStreamAllRecords_ThenLoadCollectionsPerBatch(int count) {
+        // Given
+        employeeService.insertBulkRecords(IntStream.range(0, count).mapToObj(EmployeeServiceITTest::generateEmployee).toList());
+        int batches = (count + Integer.parseInt(Constant.STREAM_FETCH_SIZE) - 1) / Integer.parseInt(Constant.STREAM_FETCH_SIZE);
+        List<Employee> visited = new ArrayList<>();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        employeeService.streamAllRecords(visited::add);
+
+        // Then
+        Assertions.assertThat(visited).hasSize(count);
+        Assertions.assertThat(visited).allSatisfy(employee -> {
+            Assertions.assertThat(employee.getAddress().getStreetAddress()).isEqualTo("Street " + employee.getLastName());
+            Assertions.assertThat(employee.getHobbies()).containsExactlyInAnyOrder("Reading", "Running");
+            Assertions.assertThat(employee.getPhoneNumbers()).extracting(PhoneNumber::getType).containsExactlyInAnyOrder("Mobile", "Home");
+        });
+        // per batch: the ids, the employees joined with their address, one subselect for hobbies and one for phone numbers
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(4L * batches);
+    }
+
+    private static Employee generateEmployee(int index) {
+        Address address = new Address();
+        address.setStreetAddress("Street " + index);
+        address.setCity("Mumbai");
+        address.setState("Maharashtra");
+        address.setCountry("India");
+        address.setPostalCode("400001");
+
+        PhoneNumber mobile = new PhoneNumber();
+        mobile.setType("Mobile");
+        mobile.setNumber(String.valueOf(9000000000L + index));
+        PhoneNumber home = new PhoneNumber();
+        home.setType("Home");
+        home.setNumber(String.valueOf(2200000000L + index));
+
+        Employee employee = new Employee();
+        employee.setFirstName("Employee");
+        employee.setLastName(String.valueOf(index));
+        employee.setAge(30);
+        employee.setNoOfChildrens(0);
+        employee.setSpouse(false);
+        employee.setHobbies(new ArrayList<>(List.of("Reading", "Running")));
+        employee.setAddress(address);
+        employee.setPhoneNumbers(new ArrayList<>(List.of(mobile, home)));
+
+        address.setEmployee(employee);
+        mobile.setEmployee(employee);
+        home.setEmployee(employee);
+        return employee;
+    }
+
     public void assertRecord(Employee expectedRecord, Employee actualRecord) {
         Assertions.assertThat(actualRecord).isNotNull();
         Assertions.assertThat(actualRecord.getFirstName()).isEqualTo(expectedRecord.getFirstName());
@@ -0,0 +1,137 @@
+package com.spring.crud.demo.service.it;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.spring.crud.demo.exception.NotFoundException;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.model.emp.Employee;
+import com.spring.crud.demo.service.EmployeeService;
+import com.spring.crud.demo.service.StudentService;
+import com.spring.crud.demo.utils.FileLoader;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.util.List;
+
+@SpringBootTest(value = "SecondLevelCacheITTest")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=classpath:ehcache.xml",
+        "spring.jpa.properties.hibernate.cache.auto_evict_collection_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class SecondLevelCacheITTest {
+
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private EmployeeService employeeService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TypeFactory typeFactory = objectMapper.getTypeFactory();
+
+    @BeforeEach
+    void init() {
+        studentService.deleteAllRecords();
+        employeeService.deleteAllRecords();
+    }
+
+    @Test
+    void testGivenLoadedStudent_WhenGetRecordsById_ThenServeFromCacheWithoutStatements() throws IOException {
+        // Given
+        Student student = studentService.insertRecord(readStudents().get(0)).orElseThrow();
+        studentService.getRecordsById(student.getId());
+        Statistics statistics = clearStatistics();
+
+        // When
+        Student actualStudent = studentService.getRecordsById(student.getId()).orElseThrow();
+
+        // Then
+        Assertions.assertThat(actualStudent.getFirstName()).isEqualTo(student.getFirstName());
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isZero();
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics("student").getHitCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics("student").getMissCount()).isZero();
+    }
+
+    @Test
+    void testGivenLoadedEmployee_WhenGetRecordsById_ThenServeEmployeeAndCollectionsFromCache() throws IOException {
+        // Given
+        Employee employee = employeeService.insertRecord(readEmployees().get(0)).orElseThrow();
+        employeeService.getRecordsById(employee.getId());
+        Statistics statistics = clearStatistics();
+
+        // When
+        Employee actualEmployee = employeeService.getRecordsById(employee.getId()).orElseThrow();
+
+        // Then
+        Assertions.assertThat(actualEmployee.getHobbies()).containsExactlyElementsOf(employee.getHobbies());
+        Assertions.assertThat(actualEmployee.getPhoneNumbers()).hasSameSizeAs(employee.getPhoneNumbers());
+        Assertions.assertThat(actualEmployee.getAddress().getCity()).isEqualTo(employee.getAddress().getCity());
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics("employee").getHitCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics("employee.hobbies").getHitCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics("employee.phoneNumbers").getHitCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics("phoneNumber").getHitCount()).isEqualTo(employee.getPhoneNumbers().size());
+    }
+
+    @Test
+    void testGivenCachedStudent_WhenUpdateRecord_ThenGetRecordsByIdReturnUpdatedRecord() throws IOException {
+        // Given
+        Student student = studentService.insertRecord(readStudents().get(0)).orElseThrow();
+        Student cachedStudent = studentService.getRecordsById(student.getId()).orElseThrow();
+
+        // When
+        studentService.updateRecord(student.getId(), cachedStudent.getId(), cachedStudent.getVersion(), managed -> managed.setMarks(999.0f));
+        Student actualStudent = studentService.getRecordsById(student.getId()).orElseThrow();
+
+        // Then
+        Assertions.assertThat(actualStudent.getMarks()).isEqualTo(999.0f);
+    }
+
+    @Test
+    void testGivenCachedRecords_WhenDeleteAllRecords_ThenEvictFromCache() throws IOException {
+        // Given
+        Student student = studentService.insertRecord(readStudents().get(0)).orElseThrow();
+        Employee employee = employeeService.insertRecord(readEmployees().get(0)).orElseThrow();
+        studentService.getRecordsById(student.getId());
+        employeeService.getRecordsById(employee.getId());
+
+        // When
+        studentService.deleteAllRecords();
+        employeeService.deleteAllRecords();
+
+        // Then
+        Assertions.assertThat(entityManagerFactory.getCache().contains(Student.class, student.getId())).isFalse();
+        Assertions.assertThat(entityManagerFactory.getCache().contains(Employee.class, employee.getId())).isFalse();
+        Assertions.assertThatThrownBy(() -> studentService.getRecordsById(student.getId()))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("No record found with id " + student.getId());
+        Assertions.assertThatThrownBy(() -> employeeService.getRecordsById(employee.getId()))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("No record found with id " + employee.getId());
+    }
+
+    private Statistics clearStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private List<Student> readStudents() throws IOException {
+        return objectMapper.readValue(FileLoader.getFileFromResource("students.json"), typeFactory.constructCollectionType(List.class, Student.class));
+    }
+
+    private List<Employee> readEmployees() throws IOException {
+        return objectMapper.readValue(FileLoader.getFileFromResource("employees.json"), typeFactory.constructCollectionType(List.class, Employee.class));
+    }
+}
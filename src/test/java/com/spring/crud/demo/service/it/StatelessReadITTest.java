@@ -0,0 +1,109 @@
+package com.spring.crud.demo.service.it;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.spring.crud.demo.model.Student;
+import com.spring.crud.demo.service.StudentService;
+import com.spring.crud.demo.utils.Constant;
+import com.spring.crud.demo.utils.FileLoader;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+@SpringBootTest(value = "StatelessReadITTest")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "read.stateless.enabled=true")
+class StatelessReadITTest {
+
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MockMvc mockMvc;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TypeFactory typeFactory = objectMapper.getTypeFactory();
+
+    @BeforeEach
+    void init() {
+        studentService.deleteAllRecords();
+    }
+
+    @Test
+    void testGivenStatelessReads_WhenGetAllRecords_ThenReturnRecordsOutsidePersistenceContext() throws IOException {
+        // Given
+        List<Student> students = readStudents();
+        students.forEach(studentService::insertRecord);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        // When
+        List<Boolean> managed = transactionTemplate.execute(status -> studentService.getAllRecords().stream().map(entityManager::contains).toList());
+        List<Student> actualStudents = studentService.getAllRecords();
+
+        // Then
+        Assertions.assertThat(managed).hasSize(students.size()).containsOnly(false);
+        Assertions.assertThat(actualStudents)
+                .extracting(Student::getRollNo, Student::getFirstName, Student::getLastName, Student::getVersion)
+                .containsExactlyInAnyOrderElementsOf(students.stream()
+                        .map(student -> Assertions.tuple(student.getRollNo(), student.getFirstName(), student.getLastName(), 0))
+                        .toList());
+    }
+
+    @Test
+    void testGivenStatelessReads_WhenGetRecordsPage_ThenReturnRecordsAfterId() throws IOException {
+        // Given
+        readStudents().forEach(studentService::insertRecord);
+        List<Student> firstPage = studentService.getRecordsPage(null, 2);
+
+        // When
+        List<Student> secondPage = studentService.getRecordsPage(firstPage.get(1).getId(), 2);
+
+        // Then
+        Assertions.assertThat(firstPage).hasSize(2);
+        Assertions.assertThat(secondPage).hasSize(2);
+        Assertions.assertThat(secondPage.get(0).getId()).isGreaterThan(firstPage.get(1).getId());
+        Assertions.assertThat(secondPage.get(0).getId()).isLessThan(secondPage.get(1).getId());
+    }
+
+    @Test
+    void testGivenStatelessReads_WhenGetRecordsPageThroughEndpoint_ThenReturnPagesWithCursor() throws Exception {
+        // Given
+        readStudents().forEach(studentService::insertRecord);
+        List<Integer> expectedIds = studentService.getAllRecords().stream().map(Student::getId).sorted().toList();
+
+        // When
+        ResultActions firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/students").param("limit", "2").accept(MediaType.APPLICATION_JSON));
+        ResultActions secondPage = mockMvc.perform(MockMvcRequestBuilders.get("/students")
+                .param("after", String.valueOf(expectedIds.get(1))).param("limit", "2").accept(MediaType.APPLICATION_JSON));
+
+        // Then
+        firstPage.andExpect(MockMvcResultMatchers.status().isOk());
+        firstPage.andExpect(MockMvcResultMatchers.jsonPath("$[*].id").value(Matchers.contains(expectedIds.get(0), expectedIds.get(1))));
+        firstPage.andExpect(MockMvcResultMatchers.header().string(Constant.NEXT_CURSOR_HEADER, String.valueOf(expectedIds.get(1))));
+        secondPage.andExpect(MockMvcResultMatchers.status().isOk());
+        secondPage.andExpect(MockMvcResultMatchers.jsonPath("$[*].id").value(Matchers.contains(expectedIds.get(2), expectedIds.get(3))));
+    }
+
+    private List<Student> readStudents() throws IOException {
+        return objectMapper.readValue(FileLoader.getFileFromResource("students.json"), typeFactory.constructCollectionType(List.class, Student.class));
+    }
+}
@@ -170,6 +170,27 @@ class StudentServiceITTest implements BaseServiceTest<Student> {
         Assertions.assertThat(actualStudents).isEmpty();
     }
 
+    @Test
+    void testGivenUpdatedFirstName_WhenGetAllRecordsByExample_ThenMatchNewFirstNameOnly() {
+        // Given
+        Student student = studentes.stream().filter(s -> s.getFirstName().equals("Rahul") && s.getLastName().equals("Ghadage")).findFirst().orElseGet(Student::new);
+        Student savedStudent = studentService.insertRecord(student).orElseGet(Student::new);
+        Student updatedStudent = studentService.getRecordsById(savedStudent.getId()).orElseGet(Student::new);
+        studentService.updateRecord(savedStudent.getId(), updatedStudent.getId(), updatedStudent.getVersion(), managed -> managed.setFirstName("Rohit"));
+        Student oldFirstName = new Student();
+        oldFirstName.setFirstName("ahu");
+        Student newFirstName = new Student();
+        newFirstName.setFirstName("ohi");
+
+        // When
+        List<Student> actualOldFirstNameStudents = studentService.getAllRecordsByExample(oldFirstName);
+        List<Student> actualNewFirstNameStudents = studentService.getAllRecordsByExample(newFirstName);
+
+        // Then
+        Assertions.assertThat(actualOldFirstNameStudents).isEmpty();
+        Assertions.assertThat(actualNewFirstNameStudents).extracting(Student::getId).containsExactly(savedStudent.getId());
+    }
+
     @ParameterizedTest
     @MethodSource(value = "generateExample")
     @Override
@@ -229,6 +250,40 @@ class StudentServiceITTest implements BaseServiceTest<Student> {
         // Then
     }
 
+    @Test
+    void testGivenRecordWithUnknownIdAndNoVersion_WhenInsertRecord_ThenInsertWithGeneratedIdAndVersion() {
+        // Given
+        Student student = new Student(99, "Kiran", "Rao", LocalDate.of(2000, 1, 1), 700f);
+        student.setId(987654);
+
+        // When
+        Student actualStudent = studentService.insertRecord(student).orElseGet(Student::new);
+
+        // Then
+        Assertions.assertThat(actualStudent.getId()).isNotNull().isNotEqualTo(987654);
+        Assertions.assertThat(actualStudent.getVersion()).isZero();
+        Assertions.assertThat(studentService.existRecordById(987654)).isFalse();
+        Assertions.assertThat(studentService.getRecordsById(actualStudent.getId()).orElseThrow().getFirstName()).isEqualTo("Kiran");
+    }
+
+    @Test
+    void testGivenRecordWithExistingIdAndVersion_WhenInsertBulkRecords_ThenInsertNewRowAndKeepExistingOne() {
+        // Given
+        Student savedStudent = studentService.insertRecord(new Student(98, "Kiran", "Rao", LocalDate.of(2000, 1, 1), 700f)).orElseGet(Student::new);
+        Student student = new Student(99, "Meera", "Nair", LocalDate.of(2001, 1, 1), 650f);
+        student.setId(savedStudent.getId());
+        student.setVersion(savedStudent.getVersion());
+
+        // When
+        int actualCount = studentService.insertBulkRecords(List.of(student));
+
+        // Then
+        Assertions.assertThat(actualCount).isEqualTo(1);
+        Assertions.assertThat(student.getId()).isNotNull().isNotEqualTo(savedStudent.getId());
+        Assertions.assertThat(studentService.getRecordsById(savedStudent.getId()).orElseThrow().getFirstName()).isEqualTo("Kiran");
+        Assertions.assertThat(studentService.getRecordsById(student.getId()).orElseThrow().getFirstName()).isEqualTo("Meera");
+    }
+
     @Test
     @Override
     public void testGivenExistingRecordAndExistingRecordId_WhenUpdateRecord_ThenReturnUpdateRecord() {
@@ -239,7 +294,7 @@ class StudentServiceITTest implements BaseServiceTest<Student> {
         // When
         Student expectedStudent = studentService.getRecordsById(savedStudent.getId()).orElseGet(Student::new);
         expectedStudent.setMarks(999.0f);
-        Student actualStudent = studentService.updateRecord(savedStudent.getId(), expectedStudent).orElseGet(Student::new);
+        Student actualStudent = studentService.updateRecord(savedStudent.getId(), expectedStudent.getId(), expectedStudent.getVersion(), managed -> managed.setMarks(expectedStudent.getMarks())).orElseGet(Student::new);
 
         // Then
         assertRecord(expectedStudent, actualStudent);
@@ -252,7 +307,7 @@ class StudentServiceITTest implements BaseServiceTest<Student> {
         int id = RandomUtils.nextInt();
 
         // When & Then
-        Assertions.assertThatThrownBy(() -> studentService.updateRecord(id, null))
+        Assertions.assertThatThrownBy(() -> studentService.updateRecord(id, null, null, managed -> {}))
                 .isInstanceOf(NullPointerException.class)
                 .hasMessage("Payload record id is null");
     }
@@ -268,7 +323,7 @@ class StudentServiceITTest implements BaseServiceTest<Student> {
         // When & Then
         Student expectedStudent = studentService.getRecordsById(savedStudent.getId()).orElseGet(Student::new);
         expectedStudent.setMarks(999.0f);
-        Assertions.assertThatThrownBy(() -> studentService.updateRecord(id, expectedStudent))
+        Assertions.assertThatThrownBy(() -> studentService.updateRecord(id, expectedStudent.getId(), expectedStudent.getVersion(), managed -> {}))
                 .isInstanceOf(InternalServerErrorException.class)
                 .hasMessage("Update Record id: " + id + " not equal to payload id: " + expectedStudent.getId());
     }
@@ -281,7 +336,7 @@ class StudentServiceITTest implements BaseServiceTest<Student> {
         expectedStudent.setId(25);
 
         // When & Then
-        Assertions.assertThatThrownBy(() -> studentService.updateRecord(expectedStudent.getId(), expectedStudent))
+        Assertions.assertThatThrownBy(() -> studentService.updateRecord(expectedStudent.getId(), expectedStudent.getId(), expectedStudent.getVersion(), managed -> {}))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("No record found with id " + expectedStudent.getId());
     }
@@ -236,7 +236,7 @@ class SuperHeroServiceITTest implements BaseServiceTest<SuperHero> {
         // When
         SuperHero expectedSuperHero = superHeroService.getRecordsById(savedSuperHero.getId()).orElseGet(SuperHero::new);
         expectedSuperHero.setAge(18);
-        SuperHero actualSuperHero = superHeroService.updateRecord(savedSuperHero.getId(), expectedSuperHero).orElseGet(SuperHero::new);
+        SuperHero actualSuperHero = superHeroService.updateRecord(savedSuperHero.getId(), expectedSuperHero.getId(), expectedSuperHero.getVersion(), managed -> managed.setAge(expectedSuperHero.getAge())).orElseGet(SuperHero::new);
 
         // Then
         assertRecord(expectedSuperHero, actualSuperHero);
@@ -249,7 +249,7 @@ class SuperHeroServiceITTest implements BaseServiceTest<SuperHero> {
         int id = RandomUtils.nextInt();
 
         // When & Then
-        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(id, null))
+        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(id, null, null, managed -> {}))
                 .isInstanceOf(NullPointerException.class)
                 .hasMessage("Payload record id is null");
     }
@@ -265,7 +265,7 @@ class SuperHeroServiceITTest implements BaseServiceTest<SuperHero> {
         // When & Then
         SuperHero expectedSuperHero = superHeroService.getRecordsById(savedSuperHero.getId()).orElseGet(SuperHero::new);
         expectedSuperHero.setAge(18);
-        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(id, expectedSuperHero))
+        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(id, expectedSuperHero.getId(), expectedSuperHero.getVersion(), managed -> {}))
                 .isInstanceOf(InternalServerErrorException.class)
                 .hasMessage("Update Record id: " + id + " not equal to payload id: " + expectedSuperHero.getId());
     }
@@ -278,7 +278,7 @@ class SuperHeroServiceITTest implements BaseServiceTest<SuperHero> {
         expectedSuperHero.setId(25);
 
         // When & Then
-        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(expectedSuperHero.getId(), expectedSuperHero))
+        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(expectedSuperHero.getId(), expectedSuperHero.getId(), expectedSuperHero.getVersion(), managed -> {}))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("No record found with id " + expectedSuperHero.getId());
     }
@@ -4,13 +4,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.spring.crud.demo.exception.InternalServerErrorException;
 import com.spring.crud.demo.exception.NotFoundException;
+import com.spring.crud.demo.exception.PreconditionRequiredException;
 import com.spring.crud.demo.exception.RecordFoundException;
 import com.spring.crud.demo.model.emp.Employee;
 import com.spring.crud.demo.model.emp.PhoneNumber;
 import com.spring.crud.demo.repository.EmployeeRepository;
+import com.spring.crud.demo.search.TrigramIndex;
 import com.spring.crud.demo.service.BaseServiceTest;
 import com.spring.crud.demo.service.EmployeeService;
+import com.spring.crud.demo.utils.Constant;
 import com.spring.crud.demo.utils.FileLoader;
+import jakarta.persistence.EntityManager;
 import org.apache.commons.lang3.RandomUtils;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForClassTypes;
@@ -27,6 +31,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Limit;
 
 import java.io.File;
 import java.io.IOException;
@@ -40,6 +45,10 @@ class EmployeeServiceMockTest implements BaseServiceTest<Employee> {
 
     @Mock
     private EmployeeRepository employeeRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TrigramIndex<Employee> employeeSearchIndex;
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -105,6 +114,24 @@ class EmployeeServiceMockTest implements BaseServiceTest<Employee> {
         Mockito.verify(employeeRepository).findAll();
     }
 
+    @Test
+    void testGivenNon_WhenStreamAllRecords_ThenVisitEachBatchAndClear() {
+        // Given
+        List<Employee> visited = new ArrayList<>();
+        List<Integer> ids = employees.stream().map(Employee::getId).toList();
+
+        // When
+        Mockito.when(employeeRepository.findIdsByIdGreaterThan(0, Limit.of(Integer.parseInt(Constant.STREAM_FETCH_SIZE)))).thenReturn(ids);
+        Mockito.when(employeeRepository.findByIdInOrderByIdAsc(ids)).thenReturn(employees);
+        employeeService.streamAllRecords(visited::add);
+
+        // Then
+        Assertions.assertThat(visited).containsExactlyElementsOf(employees);
+        Mockito.verify(employeeRepository).findIdsByIdGreaterThan(Mockito.anyInt(), Mockito.any());
+        Mockito.verify(employeeRepository).findByIdInOrderByIdAsc(ids);
+        Mockito.verify(entityManager).clear();
+    }
+
     @Test
     @Override
     public void testGivenId_WhenGetRecordsById_ThenReturnRecord() {
@@ -296,61 +323,77 @@ class EmployeeServiceMockTest implements BaseServiceTest<Employee> {
     @Override
     public void testGivenExistingRecordAndExistingRecordId_WhenUpdateRecord_ThenReturnUpdateRecord() {
         // Given
-        Employee expectedEmployee = employees.stream().filter(e -> e.getFirstName().equals("Rahul") && e.getLastName().equals("Ghadage")).findFirst().orElseGet(Employee::new);
-        expectedEmployee.setId(15);
+        Employee expectedEmployee = new Employee();
+        expectedEmployee.setId(25);
+        expectedEmployee.setVersion(0);
 
         // When
-        Mockito.when(employeeRepository.existsById(expectedEmployee.getId())).thenReturn(true);
-        Mockito.when(employeeRepository.save(expectedEmployee)).thenReturn(expectedEmployee);
-        Employee actualEmployee = employeeService.updateRecord(expectedEmployee.getId(), expectedEmployee).orElseGet(Employee::new);
+        Mockito.when(employeeRepository.findById(expectedEmployee.getId())).thenReturn(Optional.of(expectedEmployee));
+        Employee actualEmployee = employeeService.updateRecord(expectedEmployee.getId(), expectedEmployee.getId(), expectedEmployee.getVersion(), employee -> employee.setAge(45)).orElseGet(Employee::new);
 
         // Then
-        assertRecord(expectedEmployee, actualEmployee);
-        Mockito.verify(employeeRepository).existsById(expectedEmployee.getId());
-        Mockito.verify(employeeRepository).save(expectedEmployee);
+        Assertions.assertThat(actualEmployee).isSameAs(expectedEmployee);
+        Assertions.assertThat(actualEmployee.getAge()).isEqualTo(45);
+        Mockito.verify(employeeRepository).findById(expectedEmployee.getId());
+        Mockito.verify(employeeRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void testGivenExistingRecordAndMissingVersion_WhenUpdateRecord_ThenThrowPreconditionRequired() {
+        // Given
+        Employee expectedEmployee = new Employee();
+        expectedEmployee.setId(25);
+        expectedEmployee.setVersion(3);
+
+        // When
+        Mockito.when(employeeRepository.findById(expectedEmployee.getId())).thenReturn(Optional.of(expectedEmployee));
+
+        // Then
+        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(expectedEmployee.getId(), expectedEmployee.getId(), null, employee -> employee.setAge(45)))
+                .isInstanceOf(PreconditionRequiredException.class)
+                .hasMessage("Record with id 25 is at version 3, payload has no version");
+        Mockito.verify(employeeRepository, Mockito.never()).flush();
     }
 
     @Test
     @Override
-    public void testGivenRandomIdAndNullRecord_WhenUpdateRecord_ThenThrowException() {
+    public void testGivenExistingRecordAndRandomId_WhenUpdateRecord_ThenThrowException() {
         // Given
         int id = RandomUtils.nextInt();
 
         // When & Then
-        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(id, null))
-                .isInstanceOf(NullPointerException.class)
-                .hasMessage("Payload record id is null");
+        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(id, 25, null, employee -> {}))
+                .isInstanceOf(InternalServerErrorException.class)
+                .hasMessage("Update Record id: " + id + " not equal to payload id: 25");
+        Mockito.verify(employeeRepository, Mockito.never()).findById(Mockito.anyInt());
     }
 
     @Test
     @Override
-    public void testGivenExistingRecordAndRandomId_WhenUpdateRecord_ThenThrowException() {
+    public void testGivenRandomIdAndNullRecord_WhenUpdateRecord_ThenThrowException() {
         // Given
         int id = RandomUtils.nextInt();
-        Employee expectedEmployee = employees.stream().filter(e -> e.getFirstName().equals("Rahul") && e.getLastName().equals("Ghadage")).findFirst().orElseGet(Employee::new);
-        expectedEmployee.setId(15);
 
         // When & Then
-        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(id, expectedEmployee))
-                .isInstanceOf(InternalServerErrorException.class)
-                .hasMessage("Update Record id: " + id + " not equal to payload id: " + expectedEmployee.getId());
+        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(id, null, null, employee -> {}))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Payload record id is null");
+        Mockito.verify(employeeRepository, Mockito.never()).findById(Mockito.anyInt());
     }
 
     @Test
     @Override
     public void testGivenRecordIdAndRecord_WhenUpdateRecord_ThenThrowException() {
         // Given
-        Employee expectedEmployee = employees.stream().filter(e -> e.getFirstName().equals("Rahul") && e.getLastName().equals("Ghadage")).findFirst().orElseGet(Employee::new);
-        expectedEmployee.setId(15);
+        int id = 25;
 
         // When
-        Mockito.when(employeeRepository.existsById(expectedEmployee.getId())).thenReturn(false);
+        Mockito.when(employeeRepository.findById(id)).thenReturn(Optional.empty());
 
         // Then
-        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(expectedEmployee.getId(), expectedEmployee))
+        Assertions.assertThatThrownBy(() -> employeeService.updateRecord(id, id, null, employee -> {}))
                 .isInstanceOf(NotFoundException.class)
-                .hasMessage("No record found with id " + expectedEmployee.getId());
-        Mockito.verify(employeeRepository).existsById(expectedEmployee.getId());
+                .hasMessage("No record found with id " + id);
     }
 
     @Test
@@ -361,12 +404,15 @@ class EmployeeServiceMockTest implements BaseServiceTest<Employee> {
         expectedEmployee.setId(15);
 
         // When
-        Mockito.when(employeeRepository.existsById(expectedEmployee.getId())).thenReturn(true);
+        Mockito.when(employeeRepository.bulkDeleteById(expectedEmployee.getId())).thenReturn(1);
         Boolean flag = employeeService.deleteRecordById(expectedEmployee.getId());
 
         // Then
         Assertions.assertThat(flag).isTrue();
-        Mockito.verify(employeeRepository).existsById(expectedEmployee.getId());
+        Mockito.verify(employeeRepository).bulkDeletePhoneNumbersByEmployeeId(expectedEmployee.getId());
+        Mockito.verify(employeeRepository).bulkDeleteAddressByEmployeeId(expectedEmployee.getId());
+        Mockito.verify(employeeRepository).bulkDeleteById(expectedEmployee.getId());
+        Mockito.verify(employeeSearchIndex).remove(expectedEmployee.getId());
     }
 
     @Test
@@ -376,12 +422,13 @@ class EmployeeServiceMockTest implements BaseServiceTest<Employee> {
         int id = RandomUtils.nextInt();
 
         // When
-        Mockito.when(employeeRepository.existsById(id)).thenReturn(false);
+        Mockito.when(employeeRepository.bulkDeleteById(id)).thenReturn(0);
         Boolean flag = employeeService.deleteRecordById(id);
 
         // Then
         Assertions.assertThat(flag).isFalse();
-        Mockito.verify(employeeRepository).existsById(id);
+        Mockito.verify(employeeRepository).bulkDeleteById(id);
+        Mockito.verifyNoInteractions(employeeSearchIndex);
     }
 
     @Test
@@ -390,11 +437,14 @@ class EmployeeServiceMockTest implements BaseServiceTest<Employee> {
         // Given
 
         // When
-        Mockito.doNothing().when(employeeRepository).deleteAll();
+        Mockito.when(employeeRepository.bulkDeleteAll()).thenReturn(10);
         employeeService.deleteAllRecords();
 
         // Then
-        Mockito.verify(employeeRepository).deleteAll();
+        Mockito.verify(employeeRepository).bulkDeleteAllPhoneNumbers();
+        Mockito.verify(employeeRepository).bulkDeleteAllAddresses();
+        Mockito.verify(employeeRepository).bulkDeleteAll();
+        Mockito.verify(employeeSearchIndex).clear();
     }
 
     private static Stream<Arguments> generateExample() {
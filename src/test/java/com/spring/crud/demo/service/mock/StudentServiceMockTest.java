@@ -4,13 +4,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.spring.crud.demo.exception.InternalServerErrorException;
 import com.spring.crud.demo.exception.NotFoundException;
+import com.spring.crud.demo.exception.PreconditionRequiredException;
 import com.spring.crud.demo.exception.RecordFoundException;
 import com.spring.crud.demo.model.Student;
 import com.spring.crud.demo.repository.StudentRepository;
+import com.spring.crud.demo.search.TrigramIndex;
 import com.spring.crud.demo.service.BaseServiceTest;
+import com.spring.crud.demo.service.StatelessReader;
 import com.spring.crud.demo.service.StudentService;
 import com.spring.crud.demo.utils.Constant;
 import com.spring.crud.demo.utils.FileLoader;
+import jakarta.persistence.EntityManager;
 import org.apache.commons.lang3.RandomUtils;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForClassTypes;
@@ -27,6 +31,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Limit;
 
 import java.io.File;
 import java.io.IOException;
@@ -34,6 +39,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -42,6 +48,12 @@ class StudentServiceMockTest implements BaseServiceTest<Student> {
 
     @Mock
     private StudentRepository studentRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TrigramIndex<Student> studentSearchIndex;
+    @Mock
+    private StatelessReader statelessReader;
     @InjectMocks
     private StudentService studentService;
     private static Tuple[] expectedStudents = null;
@@ -85,6 +97,36 @@ class StudentServiceMockTest implements BaseServiceTest<Student> {
         Mockito.verify(studentRepository).findAll();
     }
 
+    @Test
+    void testGivenNon_WhenStreamAllRecords_ThenVisitAndDetachEachRecord() {
+        // Given
+        List<Student> visited = new ArrayList<>();
+
+        // When
+        Mockito.when(studentRepository.streamAll()).thenReturn(students.stream());
+        studentService.streamAllRecords(visited::add);
+
+        // Then
+        Assertions.assertThat(visited).containsExactlyElementsOf(students);
+        Mockito.verify(studentRepository).streamAll();
+        students.forEach(student -> Mockito.verify(entityManager).detach(student));
+    }
+
+    @Test
+    void testGivenStatelessReads_WhenGetRecordsPage_ThenReadWithoutRepository() {
+        // Given
+        Mockito.when(statelessReader.isEnabled()).thenReturn(true);
+        Mockito.when(statelessReader.list("select s from Student s where s.id > :after order by s.id", Student.class, Map.of("after", 5), Limit.of(2)))
+                .thenReturn(students.subList(0, 2));
+
+        // When
+        List<Student> page = studentService.getRecordsPage(5, 2);
+
+        // Then
+        Assertions.assertThat(page).containsExactlyElementsOf(students.subList(0, 2));
+        Mockito.verifyNoInteractions(studentRepository);
+    }
+
     @Test
     @Override
     public void testGivenId_WhenGetRecordsById_ThenReturnRecord() {
@@ -227,6 +269,24 @@ class StudentServiceMockTest implements BaseServiceTest<Student> {
         Mockito.verify(studentRepository).save(expectedStudent);
     }
 
+    @Test
+    void testGivenRecordWithUnknownIdAndNoVersion_WhenInsertRecord_ThenSaveAsNewRecord() {
+        // Given
+        Student student = new Student(99, "Kiran", "Rao", LocalDate.of(2000, 1, 1), 700f);
+        student.setId(987654);
+
+        // When
+        Mockito.when(studentRepository.existsById(987654)).thenReturn(false);
+        Mockito.when(studentRepository.save(student)).thenReturn(student);
+        studentService.insertRecord(student);
+
+        // Then
+        Assertions.assertThat(student.getId()).isNull();
+        Assertions.assertThat(student.getVersion()).isNull();
+        Mockito.verify(studentRepository).existsById(987654);
+        Mockito.verify(studentRepository).save(student);
+    }
+
     @Test
     @Override
     public void testGivenExistingRecord_WhenInsertRecord_ThenThrowException() {
@@ -248,61 +308,77 @@ class StudentServiceMockTest implements BaseServiceTest<Student> {
     @Override
     public void testGivenExistingRecordAndExistingRecordId_WhenUpdateRecord_ThenReturnUpdateRecord() {
         // Given
-        Student expectedStudent = students.stream().filter(s -> s.getFirstName().equals("Rahul") && s.getLastName().equals("Ghadage")).findFirst().orElseGet(Student::new);
+        Student expectedStudent = new Student(1, "Rahul", "Ghadage", LocalDate.of(2000, 1, 1), 950f);
         expectedStudent.setId(25);
+        expectedStudent.setVersion(0);
 
         // When
-        Mockito.when(studentRepository.existsById(expectedStudent.getId())).thenReturn(true);
-        Mockito.when(studentRepository.save(expectedStudent)).thenReturn(expectedStudent);
-        Student actualStudent = studentService.updateRecord(expectedStudent.getId(), expectedStudent).orElseGet(Student::new);
+        Mockito.when(studentRepository.findById(expectedStudent.getId())).thenReturn(Optional.of(expectedStudent));
+        Student actualStudent = studentService.updateRecord(expectedStudent.getId(), expectedStudent.getId(), expectedStudent.getVersion(), student -> student.setMarks(500f)).orElseGet(Student::new);
 
         // Then
-        assertRecord(expectedStudent, actualStudent);
-        Mockito.verify(studentRepository).existsById(expectedStudent.getId());
-        Mockito.verify(studentRepository).save(expectedStudent);
+        Assertions.assertThat(actualStudent).isSameAs(expectedStudent);
+        Assertions.assertThat(actualStudent.getMarks()).isEqualTo(500f);
+        Mockito.verify(studentRepository).findById(expectedStudent.getId());
+        Mockito.verify(studentRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void testGivenExistingRecordAndMissingVersion_WhenUpdateRecord_ThenThrowPreconditionRequired() {
+        // Given
+        Student expectedStudent = new Student(1, "Rahul", "Ghadage", LocalDate.of(2000, 1, 1), 950f);
+        expectedStudent.setId(25);
+        expectedStudent.setVersion(3);
+
+        // When
+        Mockito.when(studentRepository.findById(expectedStudent.getId())).thenReturn(Optional.of(expectedStudent));
+
+        // Then
+        Assertions.assertThatThrownBy(() -> studentService.updateRecord(expectedStudent.getId(), expectedStudent.getId(), null, student -> student.setMarks(500f)))
+                .isInstanceOf(PreconditionRequiredException.class)
+                .hasMessage("Record with id 25 is at version 3, payload has no version");
+        Mockito.verify(studentRepository, Mockito.never()).flush();
     }
 
     @Test
     @Override
-    public void testGivenRandomIdAndNullRecord_WhenUpdateRecord_ThenThrowException() {
+    public void testGivenExistingRecordAndRandomId_WhenUpdateRecord_ThenThrowException() {
         // Given
         int id = RandomUtils.nextInt();
 
         // When & Then
-        Assertions.assertThatThrownBy(() -> studentService.updateRecord(id, null))
-                .isInstanceOf(NullPointerException.class)
-                .hasMessage("Payload record id is null");
+        Assertions.assertThatThrownBy(() -> studentService.updateRecord(id, 25, null, student -> {}))
+                .isInstanceOf(InternalServerErrorException.class)
+                .hasMessage("Update Record id: " + id + " not equal to payload id: 25");
+        Mockito.verify(studentRepository, Mockito.never()).findById(Mockito.anyInt());
     }
 
     @Test
     @Override
-    public void testGivenExistingRecordAndRandomId_WhenUpdateRecord_ThenThrowException() {
+    public void testGivenRandomIdAndNullRecord_WhenUpdateRecord_ThenThrowException() {
         // Given
         int id = RandomUtils.nextInt();
-        Student expectedStudent = students.stream().filter(s -> s.getFirstName().equals("Rahul") && s.getLastName().equals("Ghadage")).findFirst().orElseGet(Student::new);
-        expectedStudent.setId(25);
 
         // When & Then
-        Assertions.assertThatThrownBy(() -> studentService.updateRecord(id, expectedStudent))
-                .isInstanceOf(InternalServerErrorException.class)
-                .hasMessage("Update Record id: " + id + " not equal to payload id: " + expectedStudent.getId());
+        Assertions.assertThatThrownBy(() -> studentService.updateRecord(id, null, null, student -> {}))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Payload record id is null");
+        Mockito.verify(studentRepository, Mockito.never()).findById(Mockito.anyInt());
     }
 
     @Test
     @Override
     public void testGivenRecordIdAndRecord_WhenUpdateRecord_ThenThrowException() {
         // Given
-        Student expectedStudent = students.stream().filter(s -> s.getFirstName().equals("Rahul") && s.getLastName().equals("Ghadage")).findFirst().orElseGet(Student::new);
-        expectedStudent.setId(25);
+        int id = 25;
 
         // When
-        Mockito.when(studentRepository.existsById(expectedStudent.getId())).thenReturn(false);
+        Mockito.when(studentRepository.findById(id)).thenReturn(Optional.empty());
 
         // Then
-        Assertions.assertThatThrownBy(() -> studentService.updateRecord(expectedStudent.getId(), expectedStudent))
+        Assertions.assertThatThrownBy(() -> studentService.updateRecord(id, id, null, student -> {}))
                 .isInstanceOf(NotFoundException.class)
-                .hasMessage("No record found with id " + expectedStudent.getId());
-        Mockito.verify(studentRepository).existsById(expectedStudent.getId());
+                .hasMessage("No record found with id " + id);
     }
 
     @Test
@@ -313,12 +389,13 @@ class StudentServiceMockTest implements BaseServiceTest<Student> {
         expectedStudent.setId(25);
 
         // When
-        Mockito.when(studentRepository.existsById(expectedStudent.getId())).thenReturn(true);
+        Mockito.when(studentRepository.bulkDeleteById(expectedStudent.getId())).thenReturn(1);
         Boolean flag = studentService.deleteRecordById(expectedStudent.getId());
 
         // Then
         Assertions.assertThat(flag).isTrue();
-        Mockito.verify(studentRepository).existsById(expectedStudent.getId());
+        Mockito.verify(studentRepository).bulkDeleteById(expectedStudent.getId());
+        Mockito.verify(studentSearchIndex).remove(expectedStudent.getId());
     }
 
     @Test
@@ -328,12 +405,13 @@ class StudentServiceMockTest implements BaseServiceTest<Student> {
         int id = RandomUtils.nextInt();
 
         // When
-        Mockito.when(studentRepository.existsById(id)).thenReturn(false);
+        Mockito.when(studentRepository.bulkDeleteById(id)).thenReturn(0);
         Boolean flag = studentService.deleteRecordById(id);
 
         // Then
         Assertions.assertThat(flag).isFalse();
-        Mockito.verify(studentRepository).existsById(id);
+        Mockito.verify(studentRepository).bulkDeleteById(id);
+        Mockito.verifyNoInteractions(studentSearchIndex);
     }
 
     @Test
@@ -342,11 +420,12 @@ class StudentServiceMockTest implements BaseServiceTest<Student> {
         // Given
 
         // When
-        Mockito.doNothing().when(studentRepository).deleteAll();
+        Mockito.when(studentRepository.bulkDeleteAll()).thenReturn(10);
         studentService.deleteAllRecords();
 
         // Then
-        Mockito.verify(studentRepository).deleteAll();
+        Mockito.verify(studentRepository).bulkDeleteAll();
+        Mockito.verify(studentSearchIndex).clear();
     }
 
     private static Stream<Arguments> generateExample() {
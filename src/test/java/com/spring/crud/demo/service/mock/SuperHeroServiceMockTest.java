@@ -4,12 +4,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.spring.crud.demo.exception.InternalServerErrorException;
 import com.spring.crud.demo.exception.NotFoundException;
+import com.spring.crud.demo.exception.PreconditionRequiredException;
 import com.spring.crud.demo.exception.RecordFoundException;
 import com.spring.crud.demo.model.SuperHero;
 import com.spring.crud.demo.repository.SuperHeroRepository;
+import com.spring.crud.demo.search.TrigramIndex;
 import com.spring.crud.demo.service.BaseServiceTest;
+import com.spring.crud.demo.service.StatelessReader;
 import com.spring.crud.demo.service.SuperHeroService;
 import com.spring.crud.demo.utils.FileLoader;
+import jakarta.persistence.EntityManager;
 import org.apache.commons.lang3.RandomUtils;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForClassTypes;
@@ -39,6 +43,12 @@ class SuperHeroServiceMockTest implements BaseServiceTest<SuperHero> {
 
     @Mock
     private SuperHeroRepository superHeroRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TrigramIndex<SuperHero> superHeroSearchIndex;
+    @Mock
+    private StatelessReader statelessReader;
     @InjectMocks
     private SuperHeroService superHeroService;
     private static Tuple[] expectedSuperHeros = null;
@@ -82,6 +92,21 @@ class SuperHeroServiceMockTest implements BaseServiceTest<SuperHero> {
         Mockito.verify(superHeroRepository).findAll();
     }
 
+    @Test
+    void testGivenNon_WhenStreamAllRecords_ThenVisitAndDetachEachRecord() {
+        // Given
+        List<SuperHero> visited = new ArrayList<>();
+
+        // When
+        Mockito.when(superHeroRepository.streamAll()).thenReturn(superHeroes.stream());
+        superHeroService.streamAllRecords(visited::add);
+
+        // Then
+        Assertions.assertThat(visited).containsExactlyElementsOf(superHeroes);
+        Mockito.verify(superHeroRepository).streamAll();
+        superHeroes.forEach(superHero -> Mockito.verify(entityManager).detach(superHero));
+    }
+
     @Test
     @Override
     public void testGivenId_WhenGetRecordsById_ThenReturnRecord() {
@@ -245,61 +270,77 @@ class SuperHeroServiceMockTest implements BaseServiceTest<SuperHero> {
     @Override
     public void testGivenExistingRecordAndExistingRecordId_WhenUpdateRecord_ThenReturnUpdateRecord() {
         // Given
-        SuperHero expectedSuperHero = superHeroes.stream().filter(superHero -> superHero.getSuperName().equals("Deadpool")).findFirst().orElseGet(SuperHero::new);
-        expectedSuperHero.setId(15);
+        SuperHero expectedSuperHero = new SuperHero("Wade", "Deadpool", "Street fighter", 28, false);
+        expectedSuperHero.setId(25);
+        expectedSuperHero.setVersion(0);
 
         // When
-        Mockito.when(superHeroRepository.existsById(expectedSuperHero.getId())).thenReturn(true);
-        Mockito.when(superHeroRepository.save(expectedSuperHero)).thenReturn(expectedSuperHero);
-        SuperHero actualSuperHero = superHeroService.updateRecord(expectedSuperHero.getId(), expectedSuperHero).orElseGet(SuperHero::new);
+        Mockito.when(superHeroRepository.findById(expectedSuperHero.getId())).thenReturn(Optional.of(expectedSuperHero));
+        SuperHero actualSuperHero = superHeroService.updateRecord(expectedSuperHero.getId(), expectedSuperHero.getId(), expectedSuperHero.getVersion(), superHero -> superHero.setAge(30)).orElseGet(SuperHero::new);
 
         // Then
-        assertRecord(expectedSuperHero, actualSuperHero);
-        Mockito.verify(superHeroRepository).existsById(expectedSuperHero.getId());
-        Mockito.verify(superHeroRepository).save(expectedSuperHero);
+        Assertions.assertThat(actualSuperHero).isSameAs(expectedSuperHero);
+        Assertions.assertThat(actualSuperHero.getAge()).isEqualTo(30);
+        Mockito.verify(superHeroRepository).findById(expectedSuperHero.getId());
+        Mockito.verify(superHeroRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void testGivenExistingRecordAndMissingVersion_WhenUpdateRecord_ThenThrowPreconditionRequired() {
+        // Given
+        SuperHero expectedSuperHero = new SuperHero("Wade", "Deadpool", "Street fighter", 28, false);
+        expectedSuperHero.setId(25);
+        expectedSuperHero.setVersion(3);
+
+        // When
+        Mockito.when(superHeroRepository.findById(expectedSuperHero.getId())).thenReturn(Optional.of(expectedSuperHero));
+
+        // Then
+        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(expectedSuperHero.getId(), expectedSuperHero.getId(), null, superHero -> superHero.setAge(30)))
+                .isInstanceOf(PreconditionRequiredException.class)
+                .hasMessage("Record with id 25 is at version 3, payload has no version");
+        Mockito.verify(superHeroRepository, Mockito.never()).flush();
     }
 
     @Test
     @Override
-    public void testGivenRandomIdAndNullRecord_WhenUpdateRecord_ThenThrowException() {
+    public void testGivenExistingRecordAndRandomId_WhenUpdateRecord_ThenThrowException() {
         // Given
         int id = RandomUtils.nextInt();
 
         // When & Then
-        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(id, null))
-                .isInstanceOf(NullPointerException.class)
-                .hasMessage("Payload record id is null");
+        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(id, 25, null, superHero -> {}))
+                .isInstanceOf(InternalServerErrorException.class)
+                .hasMessage("Update Record id: " + id + " not equal to payload id: 25");
+        Mockito.verify(superHeroRepository, Mockito.never()).findById(Mockito.anyInt());
     }
 
     @Test
     @Override
-    public void testGivenExistingRecordAndRandomId_WhenUpdateRecord_ThenThrowException() {
+    public void testGivenRandomIdAndNullRecord_WhenUpdateRecord_ThenThrowException() {
         // Given
         int id = RandomUtils.nextInt();
-        SuperHero expectedSuperHero = superHeroes.stream().filter(superHero -> superHero.getSuperName().equals("Deadpool")).findFirst().orElseGet(SuperHero::new);
-        expectedSuperHero.setId(15);
 
         // When & Then
-        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(id, expectedSuperHero))
-                .isInstanceOf(InternalServerErrorException.class)
-                .hasMessage("Update Record id: " + id + " not equal to payload id: " + expectedSuperHero.getId());
+        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(id, null, null, superHero -> {}))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Payload record id is null");
+        Mockito.verify(superHeroRepository, Mockito.never()).findById(Mockito.anyInt());
     }
 
     @Test
     @Override
     public void testGivenRecordIdAndRecord_WhenUpdateRecord_ThenThrowException() {
         // Given
-        SuperHero expectedSuperHero = superHeroes.stream().filter(superHero -> superHero.getSuperName().equals("Deadpool")).findFirst().orElseGet(SuperHero::new);
-        expectedSuperHero.setId(15);
+        int id = 25;
 
         // When
-        Mockito.when(superHeroRepository.existsById(expectedSuperHero.getId())).thenReturn(false);
+        Mockito.when(superHeroRepository.findById(id)).thenReturn(Optional.empty());
 
         // Then
-        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(expectedSuperHero.getId(), expectedSuperHero))
+        Assertions.assertThatThrownBy(() -> superHeroService.updateRecord(id, id, null, superHero -> {}))
                 .isInstanceOf(NotFoundException.class)
-                .hasMessage("No record found with id " + expectedSuperHero.getId());
-        Mockito.verify(superHeroRepository).existsById(expectedSuperHero.getId());
+                .hasMessage("No record found with id " + id);
     }
 
     @Test
@@ -310,12 +351,13 @@ class SuperHeroServiceMockTest implements BaseServiceTest<SuperHero> {
         expectedSuperHero.setId(15);
 
         // When
-        Mockito.when(superHeroRepository.existsById(expectedSuperHero.getId())).thenReturn(true);
+        Mockito.when(superHeroRepository.bulkDeleteById(expectedSuperHero.getId())).thenReturn(1);
         Boolean flag = superHeroService.deleteRecordById(expectedSuperHero.getId());
 
         // Then
         Assertions.assertThat(flag).isTrue();
-        Mockito.verify(superHeroRepository).existsById(expectedSuperHero.getId());
+        Mockito.verify(superHeroRepository).bulkDeleteById(expectedSuperHero.getId());
+        Mockito.verify(superHeroSearchIndex).remove(expectedSuperHero.getId());
     }
 
     @Test
@@ -325,12 +367,13 @@ class SuperHeroServiceMockTest implements BaseServiceTest<SuperHero> {
         int id = RandomUtils.nextInt();
 
         // When
-        Mockito.when(superHeroRepository.existsById(id)).thenReturn(false);
+        Mockito.when(superHeroRepository.bulkDeleteById(id)).thenReturn(0);
         Boolean flag = superHeroService.deleteRecordById(id);
 
         // Then
         Assertions.assertThat(flag).isFalse();
-        Mockito.verify(superHeroRepository).existsById(id);
+        Mockito.verify(superHeroRepository).bulkDeleteById(id);
+        Mockito.verifyNoInteractions(superHeroSearchIndex);
     }
 
     @Test
@@ -339,11 +382,12 @@ class SuperHeroServiceMockTest implements BaseServiceTest<SuperHero> {
         // Given
 
         // When
-        Mockito.doNothing().when(superHeroRepository).deleteAll();
+        Mockito.when(superHeroRepository.bulkDeleteAll()).thenReturn(10);
         superHeroService.deleteAllRecords();
 
         // Then
-        Mockito.verify(superHeroRepository).deleteAll();
+        Mockito.verify(superHeroRepository).bulkDeleteAll();
+        Mockito.verify(superHeroSearchIndex).clear();
     }
 
     private static Stream<Arguments> generateExample() {
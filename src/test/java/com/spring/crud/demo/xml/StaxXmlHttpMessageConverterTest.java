@@ -0,0 +1,93 @@
+package com.spring.crud.demo.xml;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.spring.crud.demo.dto.ResponseDTO;
+import com.spring.crud.demo.dto.StudentDTO;
+import com.spring.crud.demo.dto.emp.EmployeeDTO;
+import com.spring.crud.demo.utils.FileLoader;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+class StaxXmlHttpMessageConverterTest {
+
+    private static final Type EMPLOYEE_LIST = ResolvableType.forClassWithGenerics(List.class, EmployeeDTO.class).getType();
+    private static StaxXmlHttpMessageConverter converter;
+    private static List<EmployeeDTO> employees;
+
+    @BeforeAll
+    static void init() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
+        employees = objectMapper.readValue(FileLoader.getFileFromResource("employees.json"), typeFactory.constructCollectionType(List.class, EmployeeDTO.class));
+        converter = new StaxXmlHttpMessageConverter(new StudentDTOXmlCodec(), new SuperHeroDTOXmlCodec(), new EmployeeDTOXmlCodec());
+    }
+
+    @Test
+    void testGivenDtoTypes_WhenCanReadAndCanWrite_ThenOnlyAcceptRegisteredDtos() {
+        // Given
+        Type studentList = ResolvableType.forClassWithGenerics(List.class, StudentDTO.class).getType();
+
+        // When & Then
+        Assertions.assertThat(converter.canWrite(EMPLOYEE_LIST, List.class, MediaType.APPLICATION_XML)).isTrue();
+        Assertions.assertThat(converter.canWrite(StudentDTO.class, StudentDTO.class, MediaType.APPLICATION_XML)).isTrue();
+        Assertions.assertThat(converter.canRead(studentList, null, MediaType.TEXT_XML)).isTrue();
+        Assertions.assertThat(converter.canWrite(StudentDTO.class, StudentDTO.class, MediaType.APPLICATION_JSON)).isFalse();
+        Assertions.assertThat(converter.canWrite(ResponseDTO.class, ResponseDTO.class, MediaType.APPLICATION_XML)).isFalse();
+        Assertions.assertThat(converter.canRead(List.class, null, MediaType.APPLICATION_XML)).isFalse();
+    }
+
+    @Test
+    void testGivenEmployeeList_WhenWriteAndRead_ThenRoundTripNestedRecords() throws IOException {
+        // Given
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        // When
+        converter.write(employees, EMPLOYEE_LIST, MediaType.APPLICATION_XML, outputMessage);
+        @SuppressWarnings("unchecked")
+        List<EmployeeDTO> actualEmployees = (List<EmployeeDTO>) converter.read(EMPLOYEE_LIST, null, new MockHttpInputMessage(outputMessage.getBodyAsBytes()));
+
+        // Then
+        Assertions.assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(new MediaType(MediaType.APPLICATION_XML, StandardCharsets.UTF_8));
+        Assertions.assertThat(outputMessage.getBodyAsString()).contains("<employees><employee><firstName>Rahul</firstName>");
+        Assertions.assertThat(actualEmployees)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(employees);
+    }
+
+    @Test
+    void testGivenUnknownElementsAndMissingValues_WhenRead_ThenSkipAndLeaveNull() throws IOException {
+        // Given
+        String xml = "<?xml version=\"1.0\"?><student><legacy><id>9</id></legacy><firstName>Rahul</firstName><marks>95.5</marks></student>";
+
+        // When
+        StudentDTO student = (StudentDTO) converter.read(StudentDTO.class, null, new MockHttpInputMessage(xml.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        Assertions.assertThat(student.getId()).isNull();
+        Assertions.assertThat(student.getFirstName()).isEqualTo("Rahul");
+        Assertions.assertThat(student.getLastName()).isNull();
+        Assertions.assertThat(student.getMarks()).isEqualTo(95.5f);
+    }
+
+    @Test
+    void testGivenMalformedNumber_WhenRead_ThenThrowHttpMessageNotReadableException() {
+        // Given
+        String xml = "<student><rollNo>one</rollNo></student>";
+
+        // When & Then
+        Assertions.assertThatThrownBy(() -> converter.read(StudentDTO.class, null, new MockHttpInputMessage(xml.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+}